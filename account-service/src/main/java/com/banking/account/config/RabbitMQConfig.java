@@ -1,9 +1,9 @@
 package com.banking.account.config;
 
+import com.banking.events.codec.EventMessageConverters;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -27,6 +27,9 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.routing-key.transaction-result:transaction.result}")
     private String transactionResultRoutingKey;
 
+    @Value("${rabbitmq.wire-format:json}")
+    private EventMessageConverters.WireFormat wireFormat;
+
     @Bean
     public TopicExchange exchange() {
         return new TopicExchange(exchangeName);
@@ -50,14 +53,16 @@ public class RabbitMQConfig {
     // Let's leave the result queue definition to TransactionService to avoid conflicts or just define the exchange.
 
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public MessageConverter messageConverter() {
+        return EventMessageConverters.create(wireFormat);
     }
 
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(jsonMessageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter());
+        // Unroutable results come back as returns and are retried by ConfirmedResultPublisher.
+        rabbitTemplate.setMandatory(true);
         return rabbitTemplate;
     }
 }
@@ -22,7 +22,7 @@ public class InternalTransactionController {
 
     @GetMapping("/{transactionId}/status")
     public ResponseEntity<ProcessedTransaction> getTransactionStatus(@PathVariable UUID transactionId) {
-        log.info("Checking status for transaction: {}", transactionId);
+        log.debug("Checking status for transaction: {}", transactionId);
         ProcessedTransaction transaction = accountService.getTransactionStatus(transactionId);
 
         if (transaction == null) {
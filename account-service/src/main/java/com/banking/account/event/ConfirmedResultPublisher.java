@@ -0,0 +1,177 @@
+package com.banking.account.event;
+
+import com.banking.events.TransactionResultEvent;
+import com.banking.messaging.transport.EventTransport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes transaction results with correlated publisher confirms. At most {@code max-in-flight} results
+ * wait for a confirm at a time; nacked, returned or unconfirmed results are republished with a linear backoff.
+ */
+@Component
+@Slf4j
+public class ConfirmedResultPublisher {
+
+    private final EventTransport eventTransport;
+    private final Semaphore window;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ScheduledExecutorService retryScheduler;
+    private final Timer confirmLatency;
+    private final Counter nackCounter;
+    private final Counter returnedCounter;
+    private final Counter timeoutCounter;
+    private final Counter failureCounter;
+
+    @Value("${rabbitmq.routing-key.transaction-result:transaction.result}")
+    private String transactionResultRoutingKey;
+
+    @Value("${rabbitmq.publisher.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${rabbitmq.publisher.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    @Value("${rabbitmq.publisher.confirm-timeout-ms:10000}")
+    private long confirmTimeoutMs;
+
+    @Value("${rabbitmq.publisher.window-timeout-ms:30000}")
+    private long windowTimeoutMs;
+
+    public ConfirmedResultPublisher(EventTransport eventTransport,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${rabbitmq.publisher.max-in-flight:256}") int maxInFlight) {
+        this.eventTransport = eventTransport;
+        this.window = new Semaphore(maxInFlight);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "result-publish-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("banking_account_result_publish_in_flight", inFlight, AtomicInteger::get)
+                .description("Transaction results waiting for a publisher confirm")
+                .register(meterRegistry);
+
+        this.confirmLatency = Timer.builder("banking_account_result_confirm_latency")
+                .description("Time from publishing a transaction result to its broker confirm")
+                .register(meterRegistry);
+
+        this.nackCounter = publishNacks(meterRegistry, "nack");
+        this.returnedCounter = publishNacks(meterRegistry, "returned");
+        this.timeoutCounter = publishNacks(meterRegistry, "timeout");
+
+        this.failureCounter = Counter.builder("banking_account_result_publish_failures_total")
+                .description("Transaction results given up on after all publish attempts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes the result and completes once the broker has confirmed it, or exceptionally when the window
+     * stays full for too long or every attempt failed. Blocks the caller while the window is full.
+     */
+    public CompletableFuture<Void> publish(TransactionResultEvent result) {
+        CompletableFuture<Void> outcome = new CompletableFuture<>();
+        try {
+            if (!window.tryAcquire(windowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                outcome.completeExceptionally(new PublishException("Publisher confirm window is full"));
+                return outcome;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome.completeExceptionally(e);
+            return outcome;
+        }
+
+        inFlight.incrementAndGet();
+        outcome.whenComplete((ignored, error) -> {
+            inFlight.decrementAndGet();
+            window.release();
+        });
+        send(result, 1, outcome);
+        return outcome;
+    }
+
+    private void send(TransactionResultEvent result, int attempt, CompletableFuture<Void> outcome) {
+        CorrelationData correlation = new CorrelationData(result.getTransactionId() + ":" + attempt);
+        long started = System.nanoTime();
+        try {
+            eventTransport.publish(transactionResultRoutingKey, result, correlation);
+        } catch (AmqpException e) {
+            retryOrFail(result, attempt, outcome, e);
+            return;
+        }
+
+        correlation.getFuture()
+                .orTimeout(confirmTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> {
+                    if (error != null) {
+                        timeoutCounter.increment();
+                        retryOrFail(result, attempt, outcome, error);
+                        return;
+                    }
+                    confirmLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    ReturnedMessage returned = correlation.getReturned();
+                    if (returned != null) {
+                        returnedCounter.increment();
+                        retryOrFail(result, attempt, outcome,
+                                new PublishException("Result returned by broker: " + returned.getReplyText()));
+                    } else if (!confirm.isAck()) {
+                        nackCounter.increment();
+                        retryOrFail(result, attempt, outcome,
+                                new PublishException("Result nacked by broker: " + confirm.getReason()));
+                    } else {
+                        outcome.complete(null);
+                    }
+                });
+    }
+
+    private void retryOrFail(TransactionResultEvent result, int attempt, CompletableFuture<Void> outcome,
+                             Throwable cause) {
+        if (attempt >= maxAttempts) {
+            failureCounter.increment();
+            log.error("Giving up publishing result for transaction {} after {} attempts",
+                    result.getTransactionId(), attempt, cause);
+            outcome.completeExceptionally(cause);
+            return;
+        }
+        log.warn("Publishing result for transaction {} failed (attempt {}): {}",
+                result.getTransactionId(), attempt, cause.getMessage());
+        retryScheduler.schedule(() -> send(result, attempt + 1, outcome),
+                retryBackoffMs * attempt, TimeUnit.MILLISECONDS);
+    }
+
+    private static Counter publishNacks(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("banking_account_result_publish_nacks_total")
+                .description("Transaction result publishes that were not confirmed")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+    }
+
+    public static class PublishException extends RuntimeException {
+        public PublishException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,30 +1,33 @@
 package com.banking.account.event;
 
 import com.banking.account.service.AccountService;
+import com.banking.events.TransactionEvent;
+import com.banking.events.TransactionResultEvent;
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionEventListener {
 
     private final AccountService accountService;
-    private final RabbitTemplate rabbitTemplate;
-
-    @Value("${rabbitmq.exchange.name:banking.exchange}")
-    private String exchangeName;
+    private final ConfirmedResultPublisher resultPublisher;
 
-    @Value("${rabbitmq.routing-key.transaction-result:transaction.result}")
-    private String transactionResultRoutingKey;
-
-    @RabbitListener(queues = "${rabbitmq.queue.transaction-initiated:transaction.initiated.queue}")
-    public void onTransactionInitiated(TransactionEvent event) {
-        log.info("Received transaction initiated event: {}", event);
+    // The inbound event is acked only once its result is confirmed by the broker, so a lost result
+    // leads to redelivery (processing is idempotent) rather than waiting for reconciliation.
+    @RabbitListener(id = "accountInitiatedListener", queues = "${rabbitmq.queue.transaction-initiated:transaction.initiated.queue}",
+            ackMode = "MANUAL")
+    public void onTransactionInitiated(TransactionEvent event, Channel channel,
+                                       @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) {
+        log.debug("Received transaction initiated event: {}", event.getTransactionId());
 
         TransactionResultEvent result = TransactionResultEvent.builder()
                 .transactionId(event.getTransactionId())
@@ -33,14 +36,33 @@ public class TransactionEventListener {
         try {
             accountService.processTransaction(event);
             result.setStatus("COMPLETED");
-            log.info("Transaction processed successfully: {}", event.getTransactionId());
+            log.debug("Transaction processed successfully: {}", event.getTransactionId());
         } catch (Exception e) {
-            log.error("Transaction failed: {}", e.getMessage());
+            log.warn("Transaction {} failed: {}", event.getTransactionId(), e.getMessage());
             result.setStatus("FAILED");
             result.setErrorMessage(e.getMessage());
         }
 
-        rabbitTemplate.convertAndSend(exchangeName, transactionResultRoutingKey, result);
-        log.info("Published transaction result event: {}", result);
+        resultPublisher.publish(result).whenComplete((ignored, error) -> {
+            if (error == null) {
+                log.debug("Published transaction result: {} {}", result.getTransactionId(), result.getStatus());
+            } else {
+                log.error("Result for transaction {} not confirmed, requeueing event", event.getTransactionId(), error);
+            }
+            settle(channel, deliveryTag, error == null);
+        });
+    }
+
+    private void settle(Channel channel, long deliveryTag, boolean confirmed) {
+        try {
+            if (confirmed) {
+                channel.basicAck(deliveryTag, false);
+            } else {
+                channel.basicNack(deliveryTag, false, true);
+            }
+        } catch (IOException e) {
+            // The channel is gone; the broker redelivers the unacked event to another consumer.
+            log.warn("Could not settle delivery {}: {}", deliveryTag, e.getMessage());
+        }
     }
 }
@@ -0,0 +1,28 @@
+package com.banking.account.service;
+
+import java.security.SecureRandom;
+
+/**
+ * Random account numbers of the form {@code ACC} and twelve digits. One {@link SecureRandom} is shared, as
+ * seeding a new one per number costs far more than drawing from it, and the twelve digits come from a single
+ * draw. Uniqueness is up to the caller.
+ */
+public class AccountNumberGenerator {
+
+    private static final String PREFIX = "ACC";
+    private static final int DIGITS = 12;
+    private static final long BOUND = 1_000_000_000_000L;
+
+    private final SecureRandom random = new SecureRandom();
+
+    public String next() {
+        long value = random.nextLong(BOUND);
+        char[] number = new char[PREFIX.length() + DIGITS];
+        PREFIX.getChars(0, PREFIX.length(), number, 0);
+        for (int i = number.length - 1; i >= PREFIX.length(); i--) {
+            number[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(number);
+    }
+}
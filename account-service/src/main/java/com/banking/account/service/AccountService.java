@@ -3,12 +3,12 @@ package com.banking.account.service;
 import com.banking.account.dto.AccountResponse;
 import com.banking.account.dto.CreateAccountRequest;
 import com.banking.account.dto.UpdateBalanceRequest;
-import com.banking.account.event.TransactionEvent;
 import com.banking.account.model.Account;
 import com.banking.account.model.AccountStatus;
 import com.banking.account.model.ProcessedTransaction;
 import com.banking.account.repository.AccountRepository;
 import com.banking.account.repository.ProcessedTransactionRepository;
+import com.banking.events.TransactionEvent;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +16,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.security.SecureRandom;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -29,6 +28,7 @@ public class AccountService {
     private final ProcessedTransactionRepository processedTransactionRepository;
     private final Counter accountCreatedCounter;
     private final Counter balanceUpdateCounter;
+    private final AccountNumberGenerator accountNumberGenerator = new AccountNumberGenerator();
 
     public AccountService(AccountRepository accountRepository,
                           ProcessedTransactionRepository processedTransactionRepository,
@@ -116,7 +116,7 @@ public class AccountService {
 
     @Transactional
     public void processTransaction(TransactionEvent event) {
-        log.info("Processing transaction event: {}", event);
+        log.debug("Processing transaction event: {}", event.getTransactionId());
 
         // Idempotency check
         if (processedTransactionRepository.existsById(event.getTransactionId())) {
@@ -193,27 +193,15 @@ public class AccountService {
         return processedTransactionRepository.findById(transactionId).orElse(null);
     }
 
-    private String generateAccountNumber() {
-        SecureRandom random = new SecureRandom();
-        StringBuilder sb = new StringBuilder("ACC");
-        for (int i = 0; i < 12; i++) {
-            sb.append(random.nextInt(10));
-        }
-        String accountNumber = sb.toString();
-
-        // Ensure uniqueness
+    String generateAccountNumber() {
+        String accountNumber = accountNumberGenerator.next();
         while (accountRepository.existsByAccountNumber(accountNumber)) {
-            sb = new StringBuilder("ACC");
-            for (int i = 0; i < 12; i++) {
-                sb.append(random.nextInt(10));
-            }
-            accountNumber = sb.toString();
+            accountNumber = accountNumberGenerator.next();
         }
-
         return accountNumber;
     }
 
-    private AccountResponse mapToResponse(Account account) {
+    AccountResponse mapToResponse(Account account) {
         return AccountResponse.builder()
                 .id(account.getId())
                 .accountNumber(account.getAccountNumber())
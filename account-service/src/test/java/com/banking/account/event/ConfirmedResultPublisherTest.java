@@ -0,0 +1,142 @@
+package com.banking.account.event;
+
+import com.banking.events.TransactionResultEvent;
+import com.banking.messaging.transport.EventTransport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConfirmedResultPublisherTest {
+
+    @Mock
+    private EventTransport eventTransport;
+
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConfirmedResultPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new ConfirmedResultPublisher(eventTransport, meterRegistry, 1);
+        ReflectionTestUtils.setField(publisher, "transactionResultRoutingKey", "transaction.result");
+        ReflectionTestUtils.setField(publisher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(publisher, "retryBackoffMs", 1L);
+        ReflectionTestUtils.setField(publisher, "confirmTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(publisher, "windowTimeoutMs", 10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    void publish_CompletesOnAck() throws Exception {
+        // Given
+        answerWith(true);
+
+        // When
+        CompletableFuture<Void> outcome = publisher.publish(result());
+
+        // Then
+        outcome.get(1, TimeUnit.SECONDS);
+        assertEquals(0.0, meterRegistry.get("banking_account_result_publish_in_flight").gauge().value());
+        assertEquals(1, meterRegistry.get("banking_account_result_confirm_latency").timer().count());
+    }
+
+    @Test
+    void publish_RetriesNackedAndReturnedResults() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(2);
+            correlation.setReturned(new ReturnedMessage(new Message(new byte[0]), 312, "NO_ROUTE",
+                    "banking.exchange", "transaction.result"));
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(2);
+            correlation.getFuture().complete(new CorrelationData.Confirm(false, "overflow"));
+            return null;
+        }).doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(2);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(eventTransport).publish(eq("transaction.result"), any(TransactionResultEvent.class),
+                any(CorrelationData.class));
+
+        // When
+        publisher.publish(result()).get(1, TimeUnit.SECONDS);
+
+        // Then
+        verify(eventTransport, times(3)).publish(eq("transaction.result"), any(TransactionResultEvent.class),
+                any(CorrelationData.class));
+        assertEquals(1.0, meterRegistry.get("banking_account_result_publish_nacks_total").tag("reason", "returned").counter().count());
+        assertEquals(1.0, meterRegistry.get("banking_account_result_publish_nacks_total").tag("reason", "nack").counter().count());
+    }
+
+    @Test
+    void publish_FailsAfterMaxAttemptsAndReleasesWindow() throws Exception {
+        // Given
+        answerWith(false);
+
+        // When
+        CompletableFuture<Void> outcome = publisher.publish(result());
+
+        // Then
+        ExecutionException error = assertThrows(ExecutionException.class, () -> outcome.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(ConfirmedResultPublisher.PublishException.class, error.getCause());
+        assertEquals(1.0, meterRegistry.get("banking_account_result_publish_failures_total").counter().count());
+
+        answerWith(true);
+        publisher.publish(result()).get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void publish_FailsFastWhenWindowIsFull() {
+        // Given: the only permit is held by a result that is never confirmed
+        publisher.publish(result());
+
+        // When
+        CompletableFuture<Void> outcome = publisher.publish(result());
+
+        // Then
+        assertTrue(outcome.isCompletedExceptionally());
+        verify(eventTransport, times(1)).publish(anyString(), any(TransactionResultEvent.class),
+                any(CorrelationData.class));
+    }
+
+    private void answerWith(boolean ack) {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(2);
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(eventTransport).publish(anyString(), any(TransactionResultEvent.class), any(CorrelationData.class));
+    }
+
+    private TransactionResultEvent result() {
+        return TransactionResultEvent.builder()
+                .transactionId(UUID.randomUUID())
+                .status("COMPLETED")
+                .build();
+    }
+}
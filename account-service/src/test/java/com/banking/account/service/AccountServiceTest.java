@@ -1,11 +1,11 @@
 package com.banking.account.service;
 
-import com.banking.account.event.TransactionEvent;
 import com.banking.account.model.Account;
 import com.banking.account.model.AccountStatus;
 import com.banking.account.model.ProcessedTransaction;
 import com.banking.account.repository.AccountRepository;
 import com.banking.account.repository.ProcessedTransactionRepository;
+import com.banking.events.TransactionEvent;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +20,9 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -117,4 +119,17 @@ class AccountServiceTest {
         verify(accountRepository, never()).save(any(Account.class));
         verify(processedTransactionRepository, never()).save(any(ProcessedTransaction.class));
     }
+
+    @Test
+    void generateAccountNumber_DrawsAgainWhileTaken() {
+        // Given
+        when(accountRepository.existsByAccountNumber(anyString())).thenReturn(true, false);
+
+        // When
+        String accountNumber = accountService.generateAccountNumber();
+
+        // Then
+        assertTrue(accountNumber.matches("ACC\\d{12}"), accountNumber);
+        verify(accountRepository, times(2)).existsByAccountNumber(anyString());
+    }
 }
@@ -0,0 +1,28 @@
+package com.banking.gateway.cache;
+
+import com.banking.events.TransactionEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "gateway.cache.invalidation", name = "enabled", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationListener {
+
+    private final ResponseCaches caches;
+
+    @RabbitListener(id = "gatewayCacheInvalidationListener", queues = "#{cacheInvalidationQueue.name}")
+    public void onTransactionSettled(TransactionEvent event) {
+        log.debug("Invalidating cached responses for transaction {}", event.getTransactionId());
+        if (event.getSourceAccountId() != null) {
+            caches.invalidate(event.getSourceAccountId(), "event");
+        }
+        if (event.getTargetAccountId() != null) {
+            caches.invalidate(event.getTargetAccountId(), "event");
+        }
+    }
+}
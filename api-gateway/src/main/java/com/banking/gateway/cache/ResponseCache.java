@@ -0,0 +1,111 @@
+package com.banking.gateway.cache;
+
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * GET responses of one route, least recently used first out once {@code maxEntries} is reached. Entries are
+ * indexed by the account ids in their path so a change to an account drops them before their TTL; the TTL
+ * still bounds staleness when a change event is missed or overtakes the response it invalidates.
+ */
+public class ResponseCache {
+
+    private final Duration ttl;
+    private final LongSupplier clock;
+    private final Map<String, CachedResponse> entries;
+    private final Map<UUID, Set<String>> keysByAccount = new HashMap<>();
+
+    public ResponseCache(Duration ttl, int maxEntries, LongSupplier clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                if (size() > maxEntries) {
+                    unindex(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * The cached response, or {@code null} when there is none or it has expired.
+     */
+    public CachedResponse get(String key) {
+        synchronized (entries) {
+            CachedResponse cached = entries.get(key);
+            if (cached != null && cached.expiresAt() - clock.getAsLong() <= 0) {
+                entries.remove(key);
+                unindex(key, cached);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    public void put(String key, MediaType contentType, byte[] body, String etag, Set<UUID> accountIds) {
+        CachedResponse cached = new CachedResponse(contentType, body, etag,
+                clock.getAsLong() + ttl.toNanos(), accountIds);
+        synchronized (entries) {
+            CachedResponse previous = entries.put(key, cached);
+            if (previous != null) {
+                unindex(key, previous);
+            }
+            for (UUID accountId : accountIds) {
+                keysByAccount.computeIfAbsent(accountId, ignored -> new HashSet<>()).add(key);
+            }
+        }
+    }
+
+    /**
+     * Drops every response whose path names the account.
+     *
+     * @return the number of responses dropped
+     */
+    public int invalidate(UUID accountId) {
+        synchronized (entries) {
+            Set<String> keys = keysByAccount.remove(accountId);
+            if (keys == null) {
+                return 0;
+            }
+            int dropped = 0;
+            for (String key : keys) {
+                CachedResponse cached = entries.remove(key);
+                if (cached != null) {
+                    unindex(key, cached);
+                    dropped++;
+                }
+            }
+            return dropped;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void unindex(String key, CachedResponse cached) {
+        for (UUID accountId : cached.accountIds()) {
+            Set<String> keys = keysByAccount.get(accountId);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                keysByAccount.remove(accountId);
+            }
+        }
+    }
+
+    public record CachedResponse(MediaType contentType, byte[] body, String etag, long expiresAt,
+                                 Set<UUID> accountIds) {
+    }
+}
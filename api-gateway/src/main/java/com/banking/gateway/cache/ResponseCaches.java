@@ -0,0 +1,97 @@
+package com.banking.gateway.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The response caches of all routes, created when a route first uses its {@code ResponseCache} filter, with
+ * their metrics.
+ */
+@Component
+public class ResponseCaches {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteCache> caches = new ConcurrentHashMap<>();
+
+    public ResponseCaches(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public RouteCache forRoute(String routeId, Duration ttl, int maxEntries) {
+        return caches.computeIfAbsent(routeId, id -> new RouteCache(id, new ResponseCache(ttl, maxEntries, System::nanoTime)));
+    }
+
+    /**
+     * Drops the account's responses from every route.
+     */
+    public void invalidate(UUID accountId, String source) {
+        int dropped = 0;
+        for (RouteCache cache : caches.values()) {
+            dropped += cache.cache().invalidate(accountId);
+        }
+        if (dropped > 0) {
+            meterRegistry.counter("banking_gateway_cache_invalidations_total", "source", source).increment(dropped);
+        }
+    }
+
+    public class RouteCache {
+
+        private final ResponseCache cache;
+        private final Counter hits;
+        private final Counter notModified;
+        private final Counter misses;
+
+        RouteCache(String routeId, ResponseCache cache) {
+            this.cache = cache;
+            this.hits = lookups(routeId, "hit");
+            this.notModified = lookups(routeId, "not_modified");
+            this.misses = lookups(routeId, "miss");
+
+            Gauge.builder("banking_gateway_cache_hit_ratio", this, RouteCache::hitRatio)
+                    .description("Share of cacheable GETs answered without calling the route's service")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            Gauge.builder("banking_gateway_cache_entries", cache, ResponseCache::size)
+                    .description("Responses currently cached for the route")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+        }
+
+        public ResponseCache cache() {
+            return cache;
+        }
+
+        public void hit() {
+            hits.increment();
+        }
+
+        public void notModified() {
+            notModified.increment();
+        }
+
+        public void miss() {
+            misses.increment();
+        }
+
+        private double hitRatio() {
+            double answered = hits.count() + notModified.count();
+            double total = answered + misses.count();
+            return total == 0 ? 0 : answered / total;
+        }
+
+        private Counter lookups(String routeId, String result) {
+            return Counter.builder("banking_gateway_cache_requests_total")
+                    .description("Cacheable GETs by cache result")
+                    .tag("route", routeId)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.banking.gateway.coalesce;
+
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Identical requests currently being answered by the service. The first request for a key leads and calls the
+ * service; requests for the same key that arrive before it finishes wait for its response, up to a number of
+ * waiters per key. A flight is removed when the leader completes or abandons it, so the next request leads again.
+ */
+public class InFlightRequests {
+
+    public enum Role {
+        LEADER, FOLLOWER, OVERFLOW
+    }
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    public Participant join(String key, int maxWaiters) {
+        Flight created = new Flight(key);
+        Flight existing = flights.putIfAbsent(key, created);
+        if (existing == null) {
+            return new Participant(created, Role.LEADER);
+        }
+        if (existing.waiters.incrementAndGet() > maxWaiters) {
+            existing.waiters.decrementAndGet();
+            return new Participant(existing, Role.OVERFLOW);
+        }
+        return new Participant(existing, Role.FOLLOWER);
+    }
+
+    public int size() {
+        return flights.size();
+    }
+
+    public record Participant(Flight flight, Role role) {
+    }
+
+    public record SharedResponse(int status, HttpHeaders headers, byte[] body) {
+    }
+
+    public class Flight {
+
+        private final String key;
+        private final AtomicInteger waiters = new AtomicInteger();
+        private final Sinks.One<SharedResponse> response = Sinks.one();
+
+        Flight(String key) {
+            this.key = key;
+        }
+
+        /**
+         * The leader's response, or empty if the leader could not share one.
+         */
+        public Mono<SharedResponse> response() {
+            return response.asMono();
+        }
+
+        public int waiters() {
+            return waiters.get();
+        }
+
+        /**
+         * A follower stopped waiting, freeing its place.
+         */
+        public void leave() {
+            waiters.decrementAndGet();
+        }
+
+        public void complete(SharedResponse shared) {
+            flights.remove(key, this);
+            response.tryEmitValue(shared);
+        }
+
+        public void abandon() {
+            flights.remove(key, this);
+            response.tryEmitEmpty();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.banking.gateway.coalesce;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The in-flight requests of all routes, created when a route first uses its {@code Coalesce} filter, with
+ * their metrics.
+ */
+@Component
+public class RequestCoalescers {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteCoalescer> coalescers = new ConcurrentHashMap<>();
+
+    public RequestCoalescers(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public RouteCoalescer forRoute(String routeId) {
+        return coalescers.computeIfAbsent(routeId, RouteCoalescer::new);
+    }
+
+    public class RouteCoalescer {
+
+        private final InFlightRequests inFlight = new InFlightRequests();
+        private final Counter led;
+        private final Counter coalesced;
+        private final Counter overflowed;
+        private final Counter fellBack;
+
+        RouteCoalescer(String routeId) {
+            this.led = requests(routeId, "leader");
+            this.coalesced = requests(routeId, "coalesced");
+            this.overflowed = requests(routeId, "overflow");
+            this.fellBack = requests(routeId, "fallback");
+
+            Gauge.builder("banking_gateway_coalesce_ratio", this, RouteCoalescer::coalescedRatio)
+                    .description("Share of coalescable GETs answered with another request's response")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            Gauge.builder("banking_gateway_coalesce_in_flight", inFlight, InFlightRequests::size)
+                    .description("Distinct requests of the route currently waited on")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+        }
+
+        public InFlightRequests inFlight() {
+            return inFlight;
+        }
+
+        public void record(InFlightRequests.Role role) {
+            switch (role) {
+                case LEADER -> led.increment();
+                case FOLLOWER -> coalesced.increment();
+                case OVERFLOW -> overflowed.increment();
+            }
+        }
+
+        /**
+         * A follower that got no response from its leader and called the service itself.
+         */
+        public void fellBack() {
+            fellBack.increment();
+        }
+
+        private double coalescedRatio() {
+            double total = led.count() + coalesced.count() + overflowed.count();
+            return total == 0 ? 0 : (coalesced.count() - fellBack.count()) / total;
+        }
+
+        private Counter requests(String routeId, String outcome) {
+            return Counter.builder("banking_gateway_coalesce_requests_total")
+                    .description("Coalescable GETs by how they were answered")
+                    .tag("route", routeId)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.banking.gateway.concurrency;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the requests in flight to a route at the current {@link GradientLimit}. A request over the limit waits
+ * in a short queue for a permit to be handed over; when the queue is full, or no permit comes within the wait,
+ * it is rejected.
+ */
+public class ConcurrencyLimiter {
+
+    public enum Outcome {
+        ACCEPTED, QUEUED, REJECTED
+    }
+
+    private final GradientLimit limit;
+    private final int maxQueue;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    public ConcurrencyLimiter(GradientLimit limit, int maxQueue) {
+        this.limit = limit;
+        this.maxQueue = maxQueue;
+    }
+
+    /**
+     * Emits how the request was admitted. Unless it was rejected, the caller holds a permit and must
+     * {@link #release} it.
+     */
+    public Mono<Outcome> acquire(Duration maxWait) {
+        if (tryAcquire()) {
+            return Mono.just(Outcome.ACCEPTED);
+        }
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            return Mono.just(Outcome.REJECTED);
+        }
+        Waiter waiter = new Waiter();
+        waiters.add(waiter);
+        // A permit released between tryAcquire and joining the queue would otherwise go unnoticed.
+        drain();
+        return waiter.granted.asMono()
+                .timeout(maxWait, Mono.fromSupplier(() -> waiter.cancel() ? Outcome.REJECTED : Outcome.QUEUED))
+                .doOnCancel(() -> {
+                    if (!waiter.cancel()) {
+                        release();
+                    }
+                });
+    }
+
+    /**
+     * Returns a permit and feeds the request's latency into the limit.
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int before = inFlight.getAndDecrement();
+        limit.sample(rttNanos, before, dropped);
+        drain();
+    }
+
+    /**
+     * Returns a permit whose request never reached the service.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    public int limit() {
+        return limit.limit();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.limit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            Waiter waiter = waiters.poll();
+            if (waiter == null || !waiter.grant()) {
+                inFlight.decrementAndGet();
+                if (waiter == null) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private class Waiter {
+
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final Sinks.One<Outcome> granted = Sinks.one();
+
+        boolean grant() {
+            if (!state.compareAndSet(WAITING, GRANTED)) {
+                return false;
+            }
+            queued.decrementAndGet();
+            granted.tryEmitValue(Outcome.QUEUED);
+            return true;
+        }
+
+        /**
+         * False if the permit was already granted.
+         */
+        boolean cancel() {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                queued.decrementAndGet();
+                return true;
+            }
+            return state.get() == CANCELLED;
+        }
+    }
+}
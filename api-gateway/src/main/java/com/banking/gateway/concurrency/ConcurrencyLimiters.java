@@ -0,0 +1,68 @@
+package com.banking.gateway.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The concurrency limiters of all routes, created when a route first uses its {@code ConcurrencyLimit} filter,
+ * with their metrics.
+ */
+@Component
+public class ConcurrencyLimiters {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiters(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public RouteLimiter forRoute(String routeId, Supplier<ConcurrencyLimiter> limiter) {
+        return limiters.computeIfAbsent(routeId, id -> new RouteLimiter(id, limiter.get()));
+    }
+
+    public class RouteLimiter {
+
+        private final ConcurrencyLimiter limiter;
+        private final Map<ConcurrencyLimiter.Outcome, Counter> outcomes = new EnumMap<>(ConcurrencyLimiter.Outcome.class);
+
+        RouteLimiter(String routeId, ConcurrencyLimiter limiter) {
+            this.limiter = limiter;
+            for (ConcurrencyLimiter.Outcome outcome : ConcurrencyLimiter.Outcome.values()) {
+                outcomes.put(outcome, Counter.builder("banking_gateway_concurrency_requests_total")
+                        .description("Requests by how the route's concurrency limiter admitted them")
+                        .tag("route", routeId)
+                        .tag("outcome", outcome.name().toLowerCase())
+                        .register(meterRegistry));
+            }
+
+            Gauge.builder("banking_gateway_concurrency_limit", limiter, ConcurrencyLimiter::limit)
+                    .description("Current adaptive limit on requests in flight to the route's service")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            Gauge.builder("banking_gateway_concurrency_in_flight", limiter, ConcurrencyLimiter::inFlight)
+                    .description("Requests currently in flight to the route's service")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            Gauge.builder("banking_gateway_concurrency_queued", limiter, ConcurrencyLimiter::queued)
+                    .description("Requests waiting for a permit")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+        }
+
+        public ConcurrencyLimiter limiter() {
+            return limiter;
+        }
+
+        public void record(ConcurrencyLimiter.Outcome outcome) {
+            outcomes.get(outcome).increment();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.banking.gateway.concurrency;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A concurrency limit that follows the route's latency. Completed requests are averaged over a sample window;
+ * at the end of each window the average is compared with the long-term average:
+ * <ul>
+ *     <li>latency at its usual level lets the limit grow by about its square root, so there is always some
+ *     headroom to discover more capacity;</li>
+ *     <li>latency above its usual level shrinks the limit in proportion, down to half per window;</li>
+ *     <li>a failed or timed-out request in the window cuts the limit by {@value #BACKOFF_RATIO}.</li>
+ * </ul>
+ * The limit does not grow while fewer than half of it is in use, so a quiet period cannot inflate it.
+ */
+public class GradientLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LONG_RTT_WEIGHT = 0.05;
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final long windowNanos;
+    private final LongSupplier clock;
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    private long windowStart;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double smoothing, long windowNanos,
+                         LongSupplier clock) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.windowNanos = windowNanos;
+        this.clock = clock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.windowStart = clock.getAsLong();
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * Records a completed request: its latency, the requests in flight when it started including itself, and
+     * whether it failed in a way that suggests overload.
+     */
+    public synchronized void sample(long rttNanos, int inFlight, boolean dropped) {
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        windowDropped |= dropped;
+
+        long now = clock.getAsLong();
+        if (now - windowStart < windowNanos || (windowSamples < MIN_WINDOW_SAMPLES && !windowDropped)) {
+            return;
+        }
+        update(windowRttSum / (double) windowSamples);
+        windowStart = now;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+    }
+
+    private void update(double shortRttNanos) {
+        double current = limit;
+        if (windowDropped) {
+            limit = Math.max(minLimit, current * BACKOFF_RATIO);
+            return;
+        }
+
+        if (longRttNanos == 0) {
+            longRttNanos = shortRttNanos;
+        } else {
+            longRttNanos += (shortRttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+        }
+        // After a slow period the long-term average lags behind; let it recover quickly once latency drops.
+        if (longRttNanos > 2 * shortRttNanos) {
+            longRttNanos *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, longRttNanos / shortRttNanos));
+        if (gradient >= 1.0 && windowMaxInFlight < current / 2) {
+            return;
+        }
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
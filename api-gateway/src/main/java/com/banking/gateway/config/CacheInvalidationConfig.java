@@ -0,0 +1,58 @@
+package com.banking.gateway.config;
+
+import com.banking.events.codec.EventMessageConverters;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Completed and failed transaction events, consumed by every gateway replica through a queue of its own, to
+ * drop cached responses of the accounts involved.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "gateway.cache.invalidation", name = "enabled", matchIfMissing = true)
+public class CacheInvalidationConfig {
+
+    @Value("${rabbitmq.exchange.name:banking.exchange}")
+    private String exchangeName;
+
+    @Value("${rabbitmq.routing-key.transaction-completed:transaction.completed}")
+    private String transactionCompletedRoutingKey;
+
+    @Value("${rabbitmq.routing-key.transaction-failed:transaction.failed}")
+    private String transactionFailedRoutingKey;
+
+    @Bean
+    public TopicExchange exchange() {
+        return new TopicExchange(exchangeName);
+    }
+
+    // Exclusive and auto-deleted: invalidations only matter to a running replica.
+    @Bean
+    public Queue cacheInvalidationQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("api-gateway.cache-invalidation."));
+    }
+
+    @Bean
+    public Binding cacheInvalidationCompletedBinding(Queue cacheInvalidationQueue, TopicExchange exchange) {
+        return BindingBuilder.bind(cacheInvalidationQueue).to(exchange).with(transactionCompletedRoutingKey);
+    }
+
+    @Bean
+    public Binding cacheInvalidationFailedBinding(Queue cacheInvalidationQueue, TopicExchange exchange) {
+        return BindingBuilder.bind(cacheInvalidationQueue).to(exchange).with(transactionFailedRoutingKey);
+    }
+
+    @Bean
+    public MessageConverter messageConverter() {
+        return EventMessageConverters.create(EventMessageConverters.WireFormat.JSON);
+    }
+}
@@ -35,7 +35,7 @@ public class FallbackConfig {
                 .build();
     }
 
-    private Map<String, Object> buildFallbackResponse(String serviceName) {
+    public static Map<String, Object> buildFallbackResponse(String serviceName) {
         return Map.of(
                 "timestamp", LocalDateTime.now().toString(),
                 "status", 503,
@@ -0,0 +1,24 @@
+package com.banking.gateway.config;
+
+import com.banking.gateway.overview.OverviewClient;
+import com.banking.gateway.overview.OverviewProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * The service calls behind the {@code AccountOverview} filter.
+ */
+@Configuration
+@EnableConfigurationProperties(OverviewProperties.class)
+public class OverviewConfig {
+
+    @Bean
+    public OverviewClient overviewClient(WebClient.Builder webClientBuilder, OverviewProperties properties,
+                                         ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new OverviewClient(webClientBuilder, properties, objectMapper, meterRegistry);
+    }
+}
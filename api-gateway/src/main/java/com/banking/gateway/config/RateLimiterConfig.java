@@ -0,0 +1,51 @@
+package com.banking.gateway.config;
+
+import com.banking.gateway.ratelimit.ClientKeyResolver;
+import com.banking.gateway.ratelimit.LocalRateLimiter;
+import com.banking.gateway.ratelimit.RateLimitGossip;
+import com.banking.gateway.ratelimit.RateLimiterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * In-process rate limiting for the {@code RequestRateLimiter} filter, replacing the Redis limiter.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimiterProperties.class)
+public class RateLimiterConfig {
+
+    @Bean
+    public LocalRateLimiter localRateLimiter(RateLimiterProperties properties,
+                                             ConfigurationService configurationService,
+                                             MeterRegistry meterRegistry) {
+        return new LocalRateLimiter(properties, configurationService, meterRegistry);
+    }
+
+    @Bean
+    public ClientKeyResolver clientKeyResolver(RateLimiterProperties properties) {
+        return new ClientKeyResolver(properties.getApiKeyHeader());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "gateway.rate-limiter.gossip", name = "enabled")
+    public RateLimitGossip rateLimitGossip(LocalRateLimiter localRateLimiter, WebClient.Builder webClientBuilder,
+                                           RateLimiterProperties properties, MeterRegistry meterRegistry) {
+        return new RateLimitGossip(localRateLimiter, webClientBuilder, properties.getGossip(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "gateway.rate-limiter.gossip", name = "enabled")
+    public RouterFunction<ServerResponse> rateLimitGossipRoute(RateLimitGossip rateLimitGossip) {
+        return RouterFunctions.route()
+                .POST(RateLimitGossip.PATH, rateLimitGossip::receive)
+                .build();
+    }
+}
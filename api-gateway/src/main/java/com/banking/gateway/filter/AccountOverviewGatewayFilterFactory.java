@@ -0,0 +1,109 @@
+package com.banking.gateway.filter;
+
+import com.banking.gateway.overview.OverviewClient;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Answers the route itself with an account, its recent transactions and its ledger balance, fetched from the
+ * three services at once, so the response takes about as long as the slowest of them:
+ * <pre>
+ * {"accountId": "...", "account": {...}, "recentTransactions": [...], "balance": {...}, "failedLegs": []}
+ * </pre>
+ * A service that fails or misses its timeout is replaced by its fallback body and listed in {@code failedLegs};
+ * an unknown account is a 404. The JSON is written as the legs complete, in the order above. The route needs
+ * an {@code accountId} path variable:
+ * <pre>
+ * - id: account-overview
+ *   uri: no://op
+ *   predicates:
+ *     - Path=/api/overview/{accountId}
+ *   filters:
+ *     - AccountOverview
+ * </pre>
+ */
+@Component
+public class AccountOverviewGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+
+    private final OverviewClient client;
+
+    public AccountOverviewGatewayFilterFactory(OverviewClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return (exchange, chain) -> {
+            ServerHttpResponse response = exchange.getResponse();
+            UUID accountId;
+            try {
+                accountId = UUID.fromString(ServerWebExchangeUtils.getUriTemplateVariables(exchange).get("accountId"));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                response.setStatusCode(HttpStatus.BAD_REQUEST);
+                return response.setComplete();
+            }
+            HttpHeaders headers = exchange.getRequest().getHeaders();
+
+            Mono<OverviewClient.LegResult> transactions = client.transactions(accountId, headers).cache();
+            Mono<OverviewClient.LegResult> balance = client.balance(accountId, headers).cache();
+            Disposable started = Mono.when(transactions, balance).subscribe();
+
+            return client.account(accountId, headers).flatMap(account -> {
+                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                DataBufferFactory buffers = response.bufferFactory();
+                if (account.outcome() == OverviewClient.Outcome.NOT_FOUND) {
+                    started.dispose();
+                    response.setStatusCode(HttpStatus.NOT_FOUND);
+                    return response.writeWith(Mono.just(buffers.wrap(account.body())));
+                }
+
+                response.setStatusCode(HttpStatus.OK);
+                Flux<DataBuffer> body = Flux.concat(
+                        text(buffers, "{\"accountId\":\"" + accountId + "\",\"account\":"),
+                        Mono.just(buffers.wrap(account.body())),
+                        text(buffers, ",\"recentTransactions\":"),
+                        transactions.map(leg -> buffers.wrap(leg.body())),
+                        text(buffers, ",\"balance\":"),
+                        balance.map(leg -> buffers.wrap(leg.body())),
+                        Mono.zip(transactions, balance).map(legs ->
+                                buffers.wrap(failedLegs(account, legs.getT1(), legs.getT2()))));
+                return response.writeWith(body.doOnCancel(started::dispose));
+            }).doOnCancel(started::dispose);
+        };
+    }
+
+    private static Mono<DataBuffer> text(DataBufferFactory buffers, String json) {
+        return Mono.fromSupplier(() -> buffers.wrap(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] failedLegs(OverviewClient.LegResult account, OverviewClient.LegResult transactions,
+                                     OverviewClient.LegResult balance) {
+        List<String> failed = new ArrayList<>();
+        if (account.failed()) {
+            failed.add("\"account\"");
+        }
+        if (transactions.failed()) {
+            failed.add("\"recentTransactions\"");
+        }
+        if (balance.failed()) {
+            failed.add("\"balance\"");
+        }
+        return (",\"failedLegs\":[" + String.join(",", failed) + "]}").getBytes(StandardCharsets.UTF_8);
+    }
+}
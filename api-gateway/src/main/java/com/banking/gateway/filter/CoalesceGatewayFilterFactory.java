@@ -0,0 +1,167 @@
+package com.banking.gateway.filter;
+
+import com.banking.gateway.coalesce.InFlightRequests;
+import com.banking.gateway.coalesce.RequestCoalescers;
+import lombok.Data;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collapses identical concurrent GETs of the route (same path, query and credentials) into one call to the
+ * service: the first request is forwarded and the ones arriving while it runs get a copy of its response. At
+ * most {@code max-waiters} requests wait per call; further ones, and waiters whose call fails or takes longer
+ * than {@code timeout}, call the service themselves.
+ * <pre>
+ * filters:
+ *   - name: Coalesce
+ *     args:
+ *       max-waiters: 200
+ *       timeout: 5s
+ *       paths: /api/accounts/{id}
+ * </pre>
+ */
+@Component
+public class CoalesceGatewayFilterFactory extends AbstractGatewayFilterFactory<CoalesceGatewayFilterFactory.Config> {
+
+    /**
+     * Ahead of {@link HedgeGatewayFilterFactory#ORDER}, which answers without going further down the chain.
+     */
+    public static final int ORDER = HedgeGatewayFilterFactory.ORDER - 1;
+
+    private final RequestCoalescers coalescers;
+
+    public CoalesceGatewayFilterFactory(RequestCoalescers coalescers) {
+        super(Config.class);
+        this.coalescers = coalescers;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        List<PathPattern> paths = new ArrayList<>();
+        for (String path : config.getPaths()) {
+            paths.add(PathPatternParser.defaultInstance.parse(path));
+        }
+
+        // After the rate and concurrency limits, so every waiter is counted and limited like a call of its own,
+        // and inside ResponseCache, so only cache misses are coalesced and each waiter gets its own ETag handling.
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET || !matches(paths, request)) {
+                return chain.filter(exchange);
+            }
+
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            RequestCoalescers.RouteCoalescer coalescer = coalescers.forRoute(route.getId());
+            InFlightRequests.Participant participant =
+                    coalescer.inFlight().join(RequestKeys.of(request), config.getMaxWaiters());
+            coalescer.record(participant.role());
+
+            return switch (participant.role()) {
+                case LEADER -> lead(exchange, chain, participant.flight());
+                case FOLLOWER -> participant.flight().response()
+                        .timeout(config.getTimeout(), Mono.empty())
+                        .flatMap(shared -> write(exchange.getResponse(), shared).thenReturn(true))
+                        .switchIfEmpty(Mono.defer(() -> {
+                            coalescer.fellBack();
+                            return chain.filter(exchange).thenReturn(true);
+                        }))
+                        .doFinally(signal -> participant.flight().leave())
+                        .then();
+                case OVERFLOW -> chain.filter(exchange);
+            };
+        }, ORDER);
+    }
+
+    private static Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain,
+                                   InFlightRequests.Flight flight) {
+        ServerWebExchange sharing = ResponseInterceptionFilter.intercept(exchange, response -> new ServerHttpResponseDecorator(response) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                HttpStatusCode status = getStatusCode();
+                if (status == null || status == HttpStatus.NOT_MODIFIED
+                        || getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+                    flight.abandon();
+                    return super.writeWith(body);
+                }
+                return DataBufferUtils.join(body).flatMap(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.putAll(getHeaders());
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                    headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                    flight.complete(new InFlightRequests.SharedResponse(
+                            status.value(), HttpHeaders.readOnlyHttpHeaders(headers), bytes));
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                });
+            }
+        });
+        // Waiters fall back to calling the service if the leader fails, is cancelled or never writes a body.
+        return chain.filter(sharing)
+                .doFinally(signal -> flight.abandon());
+    }
+
+    // Headers the waiter's own filters already set, such as the rate limiter's, are kept.
+    private static Mono<Void> write(ServerHttpResponse response, InFlightRequests.SharedResponse shared) {
+        response.setStatusCode(HttpStatusCode.valueOf(shared.status()));
+        HttpHeaders headers = response.getHeaders();
+        shared.headers().forEach((name, values) -> {
+            if (!headers.containsKey(name)) {
+                headers.put(name, values);
+            }
+        });
+        headers.setContentLength(shared.body().length);
+        headers.set("X-Coalesced", "true");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    private static boolean matches(List<PathPattern> paths, ServerHttpRequest request) {
+        if (paths.isEmpty()) {
+            return true;
+        }
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Data
+    public static class Config {
+        private int maxWaiters = 200;
+        /**
+         * How long a waiter waits for the leader's response before calling the service itself.
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+        /**
+         * Path patterns to coalesce; all GETs of the route when empty.
+         */
+        private List<String> paths = new ArrayList<>();
+    }
+}
@@ -0,0 +1,98 @@
+package com.banking.gateway.filter;
+
+import com.banking.gateway.concurrency.ConcurrencyLimiter;
+import com.banking.gateway.concurrency.ConcurrencyLimiters;
+import com.banking.gateway.concurrency.GradientLimit;
+import lombok.Data;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+
+/**
+ * Limits the requests in flight to the route's service to an adaptive limit that shrinks as the service's
+ * latency rises (see {@link GradientLimit}). Requests over the limit wait up to {@code max-queue-wait} for a
+ * permit, then get a 503 with {@code Retry-After}, so a slow service sees a bounded load instead of a growing
+ * queue. Responses 502-504 and errors count as overload.
+ * <pre>
+ * default-filters:
+ *   - name: ConcurrencyLimit
+ *     args:
+ *       initial-limit: 20
+ *       max-limit: 200
+ *       max-queue: 50
+ *       max-queue-wait: 50ms
+ * </pre>
+ */
+@Component
+public class ConcurrencyLimitGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ConcurrencyLimitGatewayFilterFactory.Config> {
+
+    private final ConcurrencyLimiters limiters;
+
+    public ConcurrencyLimitGatewayFilterFactory(ConcurrencyLimiters limiters) {
+        super(Config.class);
+        this.limiters = limiters;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            ConcurrencyLimiters.RouteLimiter routeLimiter = limiters.forRoute(route.getId(), () -> new ConcurrencyLimiter(
+                    new GradientLimit(config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit(),
+                            config.getSmoothing(), config.getSampleWindow().toNanos(), System::nanoTime),
+                    config.getMaxQueue()));
+            ConcurrencyLimiter limiter = routeLimiter.limiter();
+
+            return limiter.acquire(config.getMaxQueueWait()).flatMap(outcome -> {
+                routeLimiter.record(outcome);
+                if (outcome == ConcurrencyLimiter.Outcome.REJECTED) {
+                    ServerHttpResponse response = exchange.getResponse();
+                    response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                    response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+                    return response.setComplete();
+                }
+                long started = System.nanoTime();
+                return chain.filter(exchange).doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        limiter.release();
+                        return;
+                    }
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    boolean dropped = signal == SignalType.ON_ERROR || (status != null && overloaded(status));
+                    limiter.release(System.nanoTime() - started, dropped);
+                });
+            });
+        };
+    }
+
+    private static boolean overloaded(HttpStatusCode status) {
+        return status.value() == HttpStatus.BAD_GATEWAY.value()
+                || status.value() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status.value() == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    @Data
+    public static class Config {
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        /**
+         * How far the limit moves toward its new target per sample window, between 0 and 1.
+         */
+        private double smoothing = 0.2;
+        private Duration sampleWindow = Duration.ofMillis(500);
+        private int maxQueue = 50;
+        private Duration maxQueueWait = Duration.ofMillis(50);
+    }
+}
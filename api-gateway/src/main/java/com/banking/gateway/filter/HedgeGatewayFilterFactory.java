@@ -0,0 +1,201 @@
+package com.banking.gateway.filter;
+
+import com.banking.gateway.hedge.HedgeBudget;
+import com.banking.gateway.hedge.Hedging;
+import com.banking.gateway.hedge.LatencyWindow;
+import com.banking.gateway.hedge.RouteHedgers;
+import lombok.Data;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hedges slow GETs of the route: when the service has not answered within the route's recent
+ * {@code percentile} latency, a second request is sent, to the next of {@code instances} or, without them, to
+ * the route's URI again so the load balancer in front of the service can pick another replica. The first answer
+ * is used and the other request cancelled. Hedges are limited to {@code max-hedge-ratio} of the requests, so
+ * they add at most that much load. Until the route has enough samples, requests are not hedged.
+ * <pre>
+ * filters:
+ *   - name: Hedge
+ *     args:
+ *       percentile: 0.95
+ *       max-hedge-ratio: 0.05
+ *       paths: /api/accounts/{id}
+ * </pre>
+ * The filter sends the requests itself instead of handing them on to the gateway's HTTP client.
+ */
+@Component
+public class HedgeGatewayFilterFactory extends AbstractGatewayFilterFactory<HedgeGatewayFilterFactory.Config> {
+
+    /**
+     * After the route's other filters and just before the gateway's own routing, which it takes the place of.
+     */
+    public static final int ORDER = RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER - 1;
+
+    private final RouteHedgers hedgers;
+    private final WebClient webClient;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+
+    public HedgeGatewayFilterFactory(RouteHedgers hedgers, WebClient.Builder webClientBuilder,
+                                     ObjectProvider<List<HttpHeadersFilter>> headersFilters) {
+        super(Config.class);
+        this.hedgers = hedgers;
+        this.webClient = webClientBuilder.build();
+        this.headersFilters = headersFilters;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        List<PathPattern> paths = new ArrayList<>();
+        for (String path : config.getPaths()) {
+            paths.add(PathPatternParser.defaultInstance.parse(path));
+        }
+        AtomicInteger nextInstance = new AtomicInteger();
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET || !matches(paths, request)) {
+                return chain.filter(exchange);
+            }
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            RouteHedgers.RouteHedger hedger = hedgers.forRoute(route.getId(),
+                    () -> new LatencyWindow(config.getWindow(), config.getPercentile()),
+                    () -> new HedgeBudget(config.getMaxHedgeRatio(), config.getMaxHedgeBurst()));
+            hedger.requested();
+
+            HttpHeaders headers = HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(List::of), exchange);
+            headers.remove(HttpHeaders.HOST);
+            long started = System.nanoTime();
+            Mono<Upstream> primary = send(target(route.getUri(), request), headers);
+
+            long percentile = hedger.latencies().percentileNanos();
+            if (percentile < 0) {
+                return primary.flatMap(upstream -> {
+                    hedger.latencies().record(System.nanoTime() - started);
+                    return write(exchange, upstream);
+                });
+            }
+            Duration delay = Duration.ofNanos(Math.max(percentile, config.getMinDelay().toNanos()));
+            return Hedging.race(primary, () -> {
+                        if (!hedger.tryHedge()) {
+                            return null;
+                        }
+                        URI base = config.getInstances().isEmpty() ? route.getUri() : URI.create(
+                                config.getInstances().get(Math.floorMod(nextInstance.getAndIncrement(),
+                                        config.getInstances().size())));
+                        return send(target(base, request), headers);
+                    }, delay, Schedulers.parallel())
+                    .flatMap(result -> {
+                        // The latency the client saw, so cancelled slow requests still pull the percentile up.
+                        hedger.latencies().record(System.nanoTime() - started);
+                        if (result.hedgeWon()) {
+                            hedger.hedgeWon();
+                        }
+                        return write(exchange, result.value());
+                    });
+        }, ORDER);
+    }
+
+    private Mono<Upstream> send(URI uri, HttpHeaders headers) {
+        return webClient.get()
+                .uri(uri)
+                .headers(forwarded -> forwarded.addAll(headers))
+                .exchangeToMono(response -> DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers()))
+                        .map(buffer -> {
+                            byte[] bytes = new byte[buffer.readableByteCount()];
+                            buffer.read(bytes);
+                            DataBufferUtils.release(buffer);
+                            return bytes;
+                        })
+                        .defaultIfEmpty(new byte[0])
+                        .map(body -> new Upstream(response.statusCode(), response.headers().asHttpHeaders(), body)));
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, Upstream upstream) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(upstream.status());
+        HttpHeaders headers = HttpHeadersFilter.filter(headersFilters.getIfAvailable(List::of), upstream.headers(),
+                exchange, HttpHeadersFilter.Type.RESPONSE);
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        response.getHeaders().addAll(headers);
+        response.getHeaders().setContentLength(upstream.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(upstream.body())));
+    }
+
+    private static URI target(URI base, ServerHttpRequest request) {
+        return UriComponentsBuilder.fromUri(request.getURI())
+                .scheme(base.getScheme())
+                .host(base.getHost())
+                .port(base.getPort())
+                .build(true)
+                .toUri();
+    }
+
+    private static boolean matches(List<PathPattern> paths, ServerHttpRequest request) {
+        if (paths.isEmpty()) {
+            return true;
+        }
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Upstream(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    @Data
+    public static class Config {
+        /**
+         * Latency percentile of the route's recent requests after which a request is hedged.
+         */
+        private double percentile = 0.95;
+        /**
+         * Recent requests the percentile is taken over.
+         */
+        private int window = 1000;
+        private Duration minDelay = Duration.ofMillis(10);
+        /**
+         * Hedges per request at most, over time.
+         */
+        private double maxHedgeRatio = 0.05;
+        private double maxHedgeBurst = 10;
+        /**
+         * Base URIs to send hedges to in turn; the route's URI when empty.
+         */
+        private List<String> instances = new ArrayList<>();
+        /**
+         * Path patterns to hedge; all GETs of the route when empty.
+         */
+        private List<String> paths = new ArrayList<>();
+    }
+}
@@ -1,40 +1,47 @@
 package com.banking.gateway.filter;
 
-import lombok.extern.slf4j.Slf4j;
+import com.banking.logging.RequestLogSampler;
+import com.banking.logging.RequestLoggingFilter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.time.Instant;
-import java.util.UUID;
-
+/**
+ * Logs completed requests through the shared {@link RequestLogSampler} and passes the exchange's request id
+ * on to the services, so their log lines for the request carry the same id.
+ */
 @Component
-@Slf4j
+@RequiredArgsConstructor
 public class LoggingFilter implements GlobalFilter, Ordered {
 
+    private final RequestLogSampler sampler;
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
-        String requestId = UUID.randomUUID().toString().substring(0, 8);
-        long startTime = Instant.now().toEpochMilli();
-
-        log.info("[{}] Incoming request: {} {}",
-                requestId, request.getMethod(), request.getURI().getPath());
+        String requestId = request.getHeaders().getFirst(RequestLoggingFilter.REQUEST_ID_HEADER);
+        if (requestId == null) {
+            requestId = request.getId();
+            exchange = exchange.mutate()
+                    .request(request.mutate().header(RequestLoggingFilter.REQUEST_ID_HEADER, requestId).build())
+                    .build();
+        }
+        long started = System.nanoTime();
+        String id = requestId;
+        ServerWebExchange forwarded = exchange;
 
-        return chain.filter(exchange)
-                .then(Mono.fromRunnable(() -> {
-                    long duration = Instant.now().toEpochMilli() - startTime;
-                    log.info("[{}] Completed: {} {} - Status: {} - Duration: {}ms",
-                            requestId,
-                            request.getMethod(),
-                            request.getURI().getPath(),
-                            exchange.getResponse().getStatusCode(),
-                            duration);
-                }));
+        return chain.filter(forwarded)
+                .doFinally(signal -> {
+                    HttpStatusCode status = forwarded.getResponse().getStatusCode();
+                    sampler.completed(request.getMethod().name(), request.getPath().value(),
+                            status != null ? status.value() : 500, System.nanoTime() - started, id);
+                });
     }
 
     @Override
@@ -0,0 +1,38 @@
+package com.banking.gateway.filter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Keys that identify a GET by what its response depends on: path, query and the caller's credentials.
+ */
+final class RequestKeys {
+
+    private RequestKeys() {
+    }
+
+    // Responses may depend on who asks, so the caller's credentials are part of the key.
+    static String of(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        return request.getPath().value()
+                + (query != null ? "?" + query : "")
+                + (authorization != null ? "#" + digest(authorization.getBytes(StandardCharsets.UTF_8)) : "");
+    }
+
+    /**
+     * The first 16 bytes of the SHA-256 of {@code bytes}, in hex.
+     */
+    static String digest(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
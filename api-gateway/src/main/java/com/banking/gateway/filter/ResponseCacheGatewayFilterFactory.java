@@ -0,0 +1,178 @@
+package com.banking.gateway.filter;
+
+import com.banking.gateway.cache.ResponseCache;
+import com.banking.gateway.cache.ResponseCaches;
+import lombok.Data;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Caches successful GET responses of the route for a short TTL and tags them with an ETag. A cached response
+ * is served without calling the service, and a matching {@code If-None-Match} gets a 304. Other methods on the
+ * route drop the cached responses of the accounts in their path.
+ * <pre>
+ * filters:
+ *   - name: ResponseCache
+ *     args:
+ *       ttl: 2s
+ *       max-entries: 10000
+ *       paths: /api/accounts/{id}
+ * </pre>
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    private static final Pattern ACCOUNT_ID = Pattern.compile(
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private final ResponseCaches caches;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCaches caches) {
+        super(Config.class);
+        this.caches = caches;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        List<PathPattern> paths = new ArrayList<>();
+        for (String path : config.getPaths()) {
+            paths.add(PathPatternParser.defaultInstance.parse(path));
+        }
+
+        // After the rate and concurrency limits, so hits and 304s count against them too, and ahead of Coalesce,
+        // so cache hits are not coalesced.
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            ResponseCaches.RouteCache routeCache = caches.forRoute(route.getId(), config.getTtl(), config.getMaxEntries());
+            String path = request.getPath().value();
+
+            if (request.getMethod() != HttpMethod.GET && request.getMethod() != HttpMethod.HEAD) {
+                accountIds(path).forEach(accountId -> caches.invalidate(accountId, "write"));
+                return chain.filter(exchange);
+            }
+            if (request.getMethod() != HttpMethod.GET || !matches(paths, request)) {
+                return chain.filter(exchange);
+            }
+
+            String key = RequestKeys.of(request);
+            ResponseCache.CachedResponse cached = routeCache.cache().get(key);
+            if (cached != null) {
+                ServerHttpResponse response = exchange.getResponse();
+                response.getHeaders().setETag(cached.etag());
+                response.getHeaders().set("X-Cache", "HIT");
+                if (notModified(request, cached.etag())) {
+                    routeCache.notModified();
+                    response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                    return response.setComplete();
+                }
+                routeCache.hit();
+                response.setStatusCode(HttpStatus.OK);
+                response.getHeaders().setContentType(cached.contentType());
+                response.getHeaders().setContentLength(cached.body().length);
+                return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+            }
+
+            routeCache.miss();
+            ServerWebExchange caching = ResponseInterceptionFilter.intercept(exchange, response -> new ServerHttpResponseDecorator(response) {
+                @Override
+                public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                    if (getStatusCode() != HttpStatus.OK || !storable(getHeaders())) {
+                        return super.writeWith(body);
+                    }
+                    return DataBufferUtils.join(body).flatMap(buffer -> {
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        DataBufferUtils.release(buffer);
+
+                        String etag = etag(bytes);
+                        routeCache.cache().put(key, getHeaders().getContentType(), bytes, etag, accountIds(path));
+                        getHeaders().setETag(etag);
+                        getHeaders().set("X-Cache", "MISS");
+                        if (notModified(request, etag)) {
+                            setStatusCode(HttpStatus.NOT_MODIFIED);
+                            getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                            getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+                            return getDelegate().setComplete();
+                        }
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+                }
+            });
+            return chain.filter(caching);
+        }, CoalesceGatewayFilterFactory.ORDER - 1);
+    }
+
+    private static boolean matches(List<PathPattern> paths, ServerHttpRequest request) {
+        if (paths.isEmpty()) {
+            return true;
+        }
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean storable(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null
+                || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    private static boolean notModified(ServerHttpRequest request, String etag) {
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        return ifNoneMatch.contains(etag) || ifNoneMatch.contains("*");
+    }
+
+    private static Set<UUID> accountIds(String path) {
+        Set<UUID> accountIds = new HashSet<>();
+        Matcher matcher = ACCOUNT_ID.matcher(path);
+        while (matcher.find()) {
+            accountIds.add(UUID.fromString(matcher.group()));
+        }
+        return accountIds;
+    }
+
+    private static String etag(byte[] body) {
+        return "\"" + RequestKeys.digest(body) + "\"";
+    }
+
+    @Data
+    public static class Config {
+        private Duration ttl = Duration.ofSeconds(2);
+        private int maxEntries = 10_000;
+        /**
+         * Path patterns to cache; all GETs of the route when empty.
+         */
+        private List<String> paths = new ArrayList<>();
+    }
+}
@@ -0,0 +1,92 @@
+package com.banking.gateway.filter;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lets route filters that run after the rate and concurrency limits still see the response body. The gateway's
+ * response writer takes the response from the exchange it was given, ahead of every route filter, so a filter
+ * further down cannot decorate it by mutating the exchange. This filter hands that writer a response which
+ * route filters add decorators to through {@link #intercept}; they apply to everything written once the route
+ * filters have run.
+ */
+@Component
+public class ResponseInterceptionFilter implements GlobalFilter, Ordered {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return chain.filter(exchange.mutate().response(new InterceptedResponse(exchange.getResponse())).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    /**
+     * Wraps the exchange's response in {@code decorator}, inside any decorators added before it. Returns the
+     * exchange to pass on, which is a mutated one only when this filter did not run.
+     */
+    public static ServerWebExchange intercept(ServerWebExchange exchange, UnaryOperator<ServerHttpResponse> decorator) {
+        if (exchange.getResponse() instanceof InterceptedResponse intercepted) {
+            intercepted.add(decorator);
+            return exchange;
+        }
+        return exchange.mutate().response(decorator.apply(exchange.getResponse())).build();
+    }
+
+    private static final class InterceptedResponse extends ServerHttpResponseDecorator {
+
+        private final List<UnaryOperator<ServerHttpResponse>> decorators = new ArrayList<>();
+        private ServerHttpResponse decorated;
+
+        InterceptedResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        synchronized void add(UnaryOperator<ServerHttpResponse> decorator) {
+            decorators.add(decorator);
+            decorated = null;
+        }
+
+        // The first decorator added is the outermost, as if each filter had mutated the exchange itself.
+        private synchronized ServerHttpResponse decorated() {
+            if (decorated == null) {
+                ServerHttpResponse response = getDelegate();
+                for (int i = decorators.size() - 1; i >= 0; i--) {
+                    response = decorators.get(i).apply(response);
+                }
+                decorated = response;
+            }
+            return decorated;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return decorated().writeWith(body);
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return decorated().writeAndFlushWith(body);
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return decorated().setComplete();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.banking.gateway.hedge;
+
+/**
+ * Allows hedges for at most a fraction of a route's requests: every request earns {@code ratio} of a hedge, up
+ * to {@code burst} saved, and a hedge spends one.
+ */
+public class HedgeBudget {
+
+    private final double ratio;
+    private final double burst;
+
+    private double balance;
+
+    public HedgeBudget(double ratio, double burst) {
+        this.ratio = ratio;
+        this.burst = burst;
+    }
+
+    public synchronized void earn() {
+        balance = Math.min(burst, balance + ratio);
+    }
+
+    public synchronized boolean trySpend() {
+        if (balance < 1) {
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+}
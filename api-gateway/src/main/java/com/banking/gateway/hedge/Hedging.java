@@ -0,0 +1,78 @@
+package com.banking.gateway.hedge;
+
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Races a call against a second, delayed copy of it. The copy starts only if the first call has neither answered
+ * nor failed within the delay and the copy is allowed then; whichever answers first wins and the other is
+ * cancelled. A failed call loses the race only while another is still running, so the copy never acts as a retry.
+ */
+public final class Hedging {
+
+    private Hedging() {
+    }
+
+    public record Result<T>(T value, boolean hedged, boolean hedgeWon) {
+    }
+
+    /**
+     * @param hedge the copy of the call, or {@code null} when no copy may be sent at the time it is due
+     */
+    public static <T> Mono<Result<T>> race(Mono<T> primary, Supplier<Mono<T>> hedge, Duration delay,
+                                           Scheduler scheduler) {
+        return Mono.create(sink -> {
+            AtomicBoolean done = new AtomicBoolean();
+            AtomicBoolean hedged = new AtomicBoolean();
+            AtomicInteger running = new AtomicInteger(1);
+            // Set before the primary's decrement, so whichever decrement reaches zero can report it.
+            AtomicReference<Throwable> primaryError = new AtomicReference<>();
+            Runnable release = () -> {
+                if (running.decrementAndGet() == 0 && done.compareAndSet(false, true)) {
+                    sink.error(primaryError.get());
+                }
+            };
+            Disposable.Composite attempts = Disposables.composite();
+            sink.onDispose(attempts);
+
+            attempts.add(primary.subscribe(
+                    value -> {
+                        if (done.compareAndSet(false, true)) {
+                            sink.success(new Result<>(value, hedged.get(), false));
+                        }
+                    },
+                    error -> {
+                        primaryError.set(error);
+                        release.run();
+                    }));
+
+            attempts.add(scheduler.schedule(() -> {
+                if (done.get() || running.incrementAndGet() == 1) {
+                    return;
+                }
+                Mono<T> copy = hedge.get();
+                if (copy == null) {
+                    release.run();
+                    return;
+                }
+                hedged.set(true);
+                attempts.add(copy.subscribe(
+                        value -> {
+                            if (done.compareAndSet(false, true)) {
+                                sink.success(new Result<>(value, true, true));
+                            }
+                        },
+                        error -> release.run()));
+            }, delay.toNanos(), TimeUnit.NANOSECONDS));
+        });
+    }
+}
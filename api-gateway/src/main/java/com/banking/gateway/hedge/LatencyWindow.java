@@ -0,0 +1,44 @@
+package com.banking.gateway.hedge;
+
+import java.util.Arrays;
+
+/**
+ * The most recent latencies of a route and a percentile of them, recomputed every {@value #RECOMPUTE_EVERY}
+ * samples so recording stays cheap.
+ */
+public class LatencyWindow {
+
+    private static final int RECOMPUTE_EVERY = 64;
+
+    private final long[] samples;
+    private final double percentile;
+
+    private int next;
+    private int count;
+    private int sinceRecompute;
+    private volatile long percentileNanos = -1;
+
+    public LatencyWindow(int size, double percentile) {
+        this.samples = new long[size];
+        this.percentile = percentile;
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+        if (++sinceRecompute >= RECOMPUTE_EVERY || percentileNanos < 0 && count >= RECOMPUTE_EVERY) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            percentileNanos = sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+            sinceRecompute = 0;
+        }
+    }
+
+    /**
+     * The percentile of the window, or -1 until {@value #RECOMPUTE_EVERY} samples were recorded.
+     */
+    public long percentileNanos() {
+        return percentileNanos;
+    }
+}
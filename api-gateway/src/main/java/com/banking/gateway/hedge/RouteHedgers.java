@@ -0,0 +1,101 @@
+package com.banking.gateway.hedge;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The latency windows and hedge budgets of all routes, created when a route first uses its {@code Hedge}
+ * filter, with their metrics.
+ */
+@Component
+public class RouteHedgers {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteHedger> hedgers = new ConcurrentHashMap<>();
+
+    public RouteHedgers(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public RouteHedger forRoute(String routeId, Supplier<LatencyWindow> latencies, Supplier<HedgeBudget> budget) {
+        return hedgers.computeIfAbsent(routeId, id -> new RouteHedger(id, latencies.get(), budget.get()));
+    }
+
+    public class RouteHedger {
+
+        private final LatencyWindow latencies;
+        private final HedgeBudget budget;
+        private final Counter requests;
+        private final Counter hedges;
+        private final Counter hedgeWins;
+        private final Counter overBudget;
+
+        RouteHedger(String routeId, LatencyWindow latencies, HedgeBudget budget) {
+            this.latencies = latencies;
+            this.budget = budget;
+            this.requests = counter("banking_gateway_hedge_requests_total", routeId,
+                    "Hedgeable GETs");
+            this.hedges = counter("banking_gateway_hedges_total", routeId,
+                    "Second requests sent because the first was slower than the route's percentile");
+            this.hedgeWins = counter("banking_gateway_hedge_wins_total", routeId,
+                    "Hedged requests answered by the second request");
+            this.overBudget = counter("banking_gateway_hedges_over_budget_total", routeId,
+                    "Hedges not sent because the route's hedge budget was spent");
+
+            Gauge.builder("banking_gateway_hedge_rate", this, hedger -> ratio(hedger.hedges, hedger.requests))
+                    .description("Share of hedgeable GETs that were hedged")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            Gauge.builder("banking_gateway_hedge_win_rate", this, hedger -> ratio(hedger.hedgeWins, hedger.hedges))
+                    .description("Share of hedges whose second request answered first")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            Gauge.builder("banking_gateway_hedge_delay_seconds", latencies, window -> window.percentileNanos() / 1e9)
+                    .description("Observed latency percentile after which a request is hedged, -1 while warming up")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+        }
+
+        public LatencyWindow latencies() {
+            return latencies;
+        }
+
+        public void requested() {
+            requests.increment();
+            budget.earn();
+        }
+
+        /**
+         * Spends the budget for a hedge that is due, or records that none was left.
+         */
+        public boolean tryHedge() {
+            if (!budget.trySpend()) {
+                overBudget.increment();
+                return false;
+            }
+            hedges.increment();
+            return true;
+        }
+
+        public void hedgeWon() {
+            hedgeWins.increment();
+        }
+
+        private Counter counter(String name, String routeId, String description) {
+            return Counter.builder(name)
+                    .description(description)
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+        }
+
+        private static double ratio(Counter part, Counter total) {
+            return total.count() == 0 ? 0 : part.count() / total.count();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.banking.gateway.overview;
+
+import com.banking.gateway.config.FallbackConfig;
+import com.banking.logging.RequestLoggingFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fetches the legs of an account overview from the services. A leg never fails: a service that errors or
+ * misses its timeout yields the same body as the gateway's fallback routes, marked as failed.
+ */
+public class OverviewClient {
+
+    private static final byte[] NO_CONTENT = "null".getBytes(StandardCharsets.UTF_8);
+
+    private final WebClient webClient;
+    private final OverviewProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public OverviewClient(WebClient.Builder webClientBuilder, OverviewProperties properties,
+                          ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.webClient = webClientBuilder.build();
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Mono<LegResult> account(UUID accountId, HttpHeaders headers) {
+        return fetch("account", "Account Service", properties.getAccount(), "/api/accounts/{id}", accountId, headers);
+    }
+
+    public Mono<LegResult> transactions(UUID accountId, HttpHeaders headers) {
+        return fetch("transactions", "Transaction Service", properties.getTransactions(),
+                "/api/transactions/account/{id}?limit=" + properties.getRecentTransactions(), accountId, headers);
+    }
+
+    public Mono<LegResult> balance(UUID accountId, HttpHeaders headers) {
+        return fetch("balance", "Ledger Service", properties.getBalance(), "/api/ledger/balance/{id}", accountId, headers);
+    }
+
+    private Mono<LegResult> fetch(String leg, String serviceName, OverviewProperties.Leg settings, String path,
+                                  UUID accountId, HttpHeaders headers) {
+        return webClient.get()
+                .uri(settings.getUrl() + path, accountId)
+                .headers(forwarded -> {
+                    copy(headers, forwarded, HttpHeaders.AUTHORIZATION);
+                    copy(headers, forwarded, RequestLoggingFilter.REQUEST_ID_HEADER);
+                })
+                .exchangeToMono(response -> response.bodyToMono(byte[].class)
+                        .defaultIfEmpty(NO_CONTENT)
+                        .map(body -> {
+                            int status = response.statusCode().value();
+                            if (response.statusCode().is2xxSuccessful()) {
+                                return new LegResult(status, body, Outcome.OK);
+                            }
+                            if (status == HttpStatus.NOT_FOUND.value()) {
+                                return new LegResult(status, body, Outcome.NOT_FOUND);
+                            }
+                            return new LegResult(status, fallback(serviceName), Outcome.FAILED);
+                        }))
+                .timeout(settings.getTimeout())
+                .onErrorResume(e -> Mono.just(new LegResult(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        fallback(serviceName), e instanceof TimeoutException ? Outcome.TIMEOUT : Outcome.FAILED)))
+                .doOnNext(result -> meterRegistry.counter("banking_gateway_overview_legs_total",
+                        "leg", leg, "outcome", result.outcome().name().toLowerCase()).increment());
+    }
+
+    private byte[] fallback(String serviceName) {
+        try {
+            return objectMapper.writeValueAsBytes(FallbackConfig.buildFallbackResponse(serviceName));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void copy(HttpHeaders from, HttpHeaders to, String name) {
+        String value = from.getFirst(name);
+        if (value != null) {
+            to.set(name, value);
+        }
+    }
+
+    public enum Outcome {
+        OK, NOT_FOUND, FAILED, TIMEOUT
+    }
+
+    /**
+     * A leg's status and JSON body; for a failed leg the fallback body.
+     */
+    public record LegResult(int status, byte[] body, Outcome outcome) {
+
+        public boolean failed() {
+            return outcome == Outcome.FAILED || outcome == Outcome.TIMEOUT;
+        }
+    }
+}
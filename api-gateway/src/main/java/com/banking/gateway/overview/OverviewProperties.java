@@ -0,0 +1,39 @@
+package com.banking.gateway.overview;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * The services behind {@code GET /api/overview/{accountId}} and how long each leg may take.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.overview")
+public class OverviewProperties {
+
+    private Leg account = new Leg("http://localhost:8081", Duration.ofSeconds(1));
+
+    private Leg transactions = new Leg("http://localhost:8082", Duration.ofSeconds(2));
+
+    private Leg balance = new Leg("http://localhost:8083", Duration.ofSeconds(1));
+
+    /**
+     * How many of the account's newest transactions the overview lists.
+     */
+    private int recentTransactions = 10;
+
+    @Data
+    public static class Leg {
+        private String url;
+        private Duration timeout;
+
+        public Leg() {
+        }
+
+        Leg(String url, Duration timeout) {
+            this.url = url;
+            this.timeout = timeout;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.banking.gateway.ratelimit;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Limits by API key when the request carries one, otherwise by remote address. Keys are hashed so raw API
+ * keys are neither kept in the limiter nor sent to other replicas.
+ */
+public class ClientKeyResolver implements KeyResolver {
+
+    private final String apiKeyHeader;
+
+    public ClientKeyResolver(String apiKeyHeader) {
+        this.apiKeyHeader = apiKeyHeader;
+    }
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        String apiKey = exchange.getRequest().getHeaders().getFirst(apiKeyHeader);
+        if (apiKey != null && !apiKey.isBlank()) {
+            return Mono.just("key:" + sha256(apiKey));
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        String address = remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress() : "unknown";
+        return Mono.just("ip:" + address);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.banking.gateway.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per route and client, kept in this process. Each bucket is a single {@link AtomicLong} holding
+ * the time at which it will be full again (GCRA), updated with compare-and-set, so checking a request takes
+ * no lock. A full bucket behaves like a missing one and is dropped by a periodic sweep.
+ * <p>
+ * With gossip enabled, tokens taken here are collected with {@link #drainUsage()} and tokens taken on other
+ * replicas are charged with {@link #applyRemoteUsage}.
+ */
+@Slf4j
+public class LocalRateLimiter extends AbstractRateLimiter<LocalRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "local-rate-limiter";
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+    public static final String REQUESTED_TOKENS_HEADER = "X-RateLimit-Requested-Tokens";
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Config defaultConfig;
+    private final int maxKeys;
+    private final boolean trackUsage;
+    private final LongSupplier clock;
+    private final MeterRegistry meterRegistry;
+    private final Map<BucketKey, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final Map<BucketKey, LongAdder> usage = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final ScheduledExecutorService sweeper;
+
+    public LocalRateLimiter(RateLimiterProperties properties, ConfigurationService configurationService,
+                            MeterRegistry meterRegistry) {
+        this(properties, configurationService, meterRegistry, System::nanoTime);
+    }
+
+    LocalRateLimiter(RateLimiterProperties properties, ConfigurationService configurationService,
+                     MeterRegistry meterRegistry, LongSupplier clock) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.defaultConfig = new Config()
+                .setReplenishRate(properties.getReplenishRate())
+                .setBurstCapacity(properties.getBurstCapacity());
+        this.maxKeys = properties.getMaxKeys();
+        this.trackUsage = properties.getGossip().isEnabled();
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limiter-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepMillis = properties.getSweepInterval().toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("banking_gateway_rate_limit_keys", buckets, Map::size)
+                .description("Clients currently tracked by the local rate limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = configFor(routeId);
+        BucketKey key = new BucketKey(routeId, id);
+        long now = clock.getAsLong();
+
+        AtomicLong bucket = bucket(key, now);
+
+        long interval = config.emissionIntervalNanos();
+        long tolerance = interval * config.getBurstCapacity();
+        long cost = interval * config.getRequestedTokens();
+        long current;
+        long next;
+        do {
+            current = bucket.get();
+            next = Math.max(current, now) + cost;
+            if (next - now > tolerance) {
+                count(routeId, "denied");
+                Map<String, String> headers = headers(config, 0);
+                headers.put(HttpHeaders.RETRY_AFTER,
+                        String.valueOf((next - now - tolerance + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND));
+                return Mono.just(new Response(false, headers));
+            }
+        } while (!bucket.compareAndSet(current, next));
+
+        if (trackUsage) {
+            usage.computeIfAbsent(key, ignored -> new LongAdder()).add(config.getRequestedTokens());
+        }
+        count(routeId, "allowed");
+        return Mono.just(new Response(true, headers(config, (tolerance - (next - now)) / interval)));
+    }
+
+    /**
+     * Charges tokens taken on another replica, without emptying a bucket by more than its capacity.
+     */
+    public void applyRemoteUsage(String routeId, String id, long tokens) {
+        Config config = configFor(routeId);
+        long now = clock.getAsLong();
+        long interval = config.emissionIntervalNanos();
+        long limit = now + interval * config.getBurstCapacity();
+        AtomicLong bucket = bucket(new BucketKey(routeId, id), now);
+        bucket.getAndUpdate(current -> Math.min(Math.max(current, now) + interval * tokens, Math.max(current, limit)));
+    }
+
+    /**
+     * Tokens taken here since the previous call, per route and client.
+     */
+    public List<Usage> drainUsage() {
+        List<Usage> drained = new ArrayList<>(usage.size());
+        for (BucketKey key : usage.keySet()) {
+            LongAdder tokens = usage.remove(key);
+            if (tokens != null) {
+                drained.add(new Usage(key.routeId(), key.id(), tokens.sum()));
+            }
+        }
+        return drained;
+    }
+
+    int trackedKeys() {
+        return buckets.size();
+    }
+
+    // Peers' usage creates buckets too, so both paths stay within max-keys.
+    private AtomicLong bucket(BucketKey key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                evict(now);
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new AtomicLong(now));
+        }
+        return bucket;
+    }
+
+    void sweep() {
+        long now = clock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+    }
+
+    // Drops full buckets, then the ones closest to full, until a tenth of the capacity is free again.
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.get() <= now);
+            int excess = buckets.size() - maxKeys * 9 / 10;
+            if (excess > 0) {
+                buckets.entrySet().stream()
+                        .sorted(Comparator.comparingLong(entry -> entry.getValue().get()))
+                        .limit(excess)
+                        .map(Map.Entry::getKey)
+                        .toList()
+                        .forEach(buckets::remove);
+                log.warn("Rate limiter is tracking {} clients, evicted {} active buckets", maxKeys, excess);
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private Config configFor(String routeId) {
+        return getConfig().getOrDefault(routeId, defaultConfig);
+    }
+
+    private Map<String, String> headers(Config config, long remaining) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(REMAINING_HEADER, String.valueOf(remaining));
+        headers.put(REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()));
+        headers.put(BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()));
+        headers.put(REQUESTED_TOKENS_HEADER, String.valueOf(config.getRequestedTokens()));
+        return headers;
+    }
+
+    private void count(String routeId, String outcome) {
+        meterRegistry.counter("banking_gateway_rate_limit_requests_total", "route", routeId, "outcome", outcome)
+                .increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    @Data
+    @Validated
+    public static class Config {
+
+        @Min(1)
+        private int replenishRate;
+
+        @Min(1)
+        private int burstCapacity = 1;
+
+        @Min(1)
+        private int requestedTokens = 1;
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        long emissionIntervalNanos() {
+            return NANOS_PER_SECOND / replenishRate;
+        }
+    }
+
+    public record Usage(String routeId, String id, long tokens) {
+    }
+
+    private record BucketKey(String routeId, String id) {
+    }
+}
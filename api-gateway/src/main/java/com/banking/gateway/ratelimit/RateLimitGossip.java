@@ -0,0 +1,104 @@
+package com.banking.gateway.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the tokens taken on this replica to every peer once per interval, and charges the tokens peers
+ * report to the local buckets. Exchanges are fire-and-forget: a lost round only makes the limit looser
+ * for one interval.
+ */
+@Slf4j
+public class RateLimitGossip {
+
+    public static final String PATH = "/internal/rate-limit/usage";
+    public static final String TOKEN_HEADER = "X-Gossip-Token";
+
+    private static final ParameterizedTypeReference<List<LocalRateLimiter.Usage>> USAGE_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final LocalRateLimiter rateLimiter;
+    private final WebClient webClient;
+    private final RateLimiterProperties.Gossip properties;
+    private final ScheduledExecutorService scheduler;
+    private final Counter failures;
+
+    public RateLimitGossip(LocalRateLimiter rateLimiter, WebClient.Builder webClientBuilder,
+                           RateLimiterProperties.Gossip properties, MeterRegistry meterRegistry) {
+        if (!StringUtils.hasText(properties.getToken())) {
+            throw new IllegalStateException("gateway.rate-limiter.gossip.token must be set when gossip is enabled; "
+                    + PATH + " is served on the public port");
+        }
+        this.rateLimiter = rateLimiter;
+        this.webClient = webClientBuilder.build();
+        this.properties = properties;
+        this.failures = Counter.builder("banking_gateway_rate_limit_gossip_failures_total")
+                .description("Usage exchanges with peer gateways that failed")
+                .register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-gossip");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::publish, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void publish() {
+        List<LocalRateLimiter.Usage> usage = rateLimiter.drainUsage();
+        if (usage.isEmpty()) {
+            return;
+        }
+        for (String peer : properties.getPeers()) {
+            webClient.post()
+                    .uri(peer + PATH)
+                    .header(TOKEN_HEADER, properties.getToken())
+                    .bodyValue(usage)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(properties.getInterval().plus(Duration.ofSeconds(1)))
+                    .subscribe(ignored -> {
+                    }, error -> {
+                        failures.increment();
+                        log.debug("Could not send rate limit usage to {}: {}", peer, error.getMessage());
+                    });
+        }
+    }
+
+    public Mono<ServerResponse> receive(ServerRequest request) {
+        String token = properties.getToken();
+        String presented = request.headers().firstHeader(TOKEN_HEADER);
+        if (presented == null || !MessageDigest.isEqual(
+                token.getBytes(StandardCharsets.UTF_8), presented.getBytes(StandardCharsets.UTF_8))) {
+            return ServerResponse.status(HttpStatus.FORBIDDEN).build();
+        }
+        return request.bodyToMono(USAGE_LIST)
+                .doOnNext(usage -> usage.forEach(entry ->
+                        rateLimiter.applyRemoteUsage(entry.routeId(), entry.id(), entry.tokens())))
+                .then(ServerResponse.noContent().build());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
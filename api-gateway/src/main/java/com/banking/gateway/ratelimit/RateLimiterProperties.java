@@ -0,0 +1,54 @@
+package com.banking.gateway.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of the in-process rate limiter shared by all routes. Rates themselves are filter args
+ * ({@code local-rate-limiter.replenish-rate}, {@code burst-capacity}); the values here are the default for
+ * routes without them.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.rate-limiter")
+public class RateLimiterProperties {
+
+    private int replenishRate = 10;
+
+    private int burstCapacity = 20;
+
+    /**
+     * Header identifying a client; requests without it are limited per remote address.
+     */
+    private String apiKeyHeader = "X-API-Key";
+
+    /**
+     * Buckets kept at most; beyond this the buckets closest to full are dropped first.
+     */
+    private int maxKeys = 100_000;
+
+    /**
+     * How often full (idle) buckets are dropped.
+     */
+    private Duration sweepInterval = Duration.ofSeconds(10);
+
+    private Gossip gossip = new Gossip();
+
+    /**
+     * Periodic exchange of consumed tokens with the other gateway replicas, which charge them to their own
+     * buckets so each client's limit holds roughly across all replicas.
+     */
+    @Data
+    public static class Gossip {
+        private boolean enabled = false;
+        private Duration interval = Duration.ofSeconds(1);
+        private List<String> peers = new ArrayList<>();
+        /**
+         * Shared secret sent with every exchange and required on receipt; gossip does not start without it.
+         */
+        private String token;
+    }
+}
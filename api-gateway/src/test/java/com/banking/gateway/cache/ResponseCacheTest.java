@@ -0,0 +1,67 @@
+package com.banking.gateway.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final ResponseCache cache = new ResponseCache(Duration.ofSeconds(2), 2, clock::get);
+
+    @Test
+    void get_ExpiresAfterTtl() {
+        // Given
+        cache.put("/api/accounts/a", MediaType.APPLICATION_JSON, "{}".getBytes(), "\"e1\"", Set.of());
+
+        // When / Then
+        assertEquals("\"e1\"", cache.get("/api/accounts/a").etag());
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertNull(cache.get("/api/accounts/a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidate_DropsOnlyTheAccountsResponses() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        cache.put("/api/accounts/" + first, MediaType.APPLICATION_JSON, "{}".getBytes(), "\"e1\"", Set.of(first));
+        cache.put("/api/ledger/balance/" + second, MediaType.APPLICATION_JSON, "{}".getBytes(), "\"e2\"", Set.of(second));
+
+        // When
+        int dropped = cache.invalidate(first);
+
+        // Then
+        assertEquals(1, dropped);
+        assertNull(cache.get("/api/accounts/" + first));
+        assertNotNull(cache.get("/api/ledger/balance/" + second));
+        assertEquals(0, cache.invalidate(first));
+    }
+
+    @Test
+    void put_EvictsLeastRecentlyUsedBeyondMaxEntries() {
+        // Given
+        UUID evicted = UUID.randomUUID();
+        cache.put("a", MediaType.APPLICATION_JSON, new byte[0], "\"a\"", Set.of(evicted));
+        cache.put("b", MediaType.APPLICATION_JSON, new byte[0], "\"b\"", Set.of());
+        cache.get("b");
+
+        // When
+        cache.put("c", MediaType.APPLICATION_JSON, new byte[0], "\"c\"", Set.of());
+
+        // Then
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(0, cache.invalidate(evicted));
+    }
+}
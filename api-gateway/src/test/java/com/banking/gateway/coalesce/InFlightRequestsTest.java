@@ -0,0 +1,57 @@
+package com.banking.gateway.coalesce;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InFlightRequestsTest {
+
+    private final InFlightRequests inFlight = new InFlightRequests();
+
+    @Test
+    void join_FollowersGetTheLeadersResponse() {
+        // Given
+        InFlightRequests.Participant leader = inFlight.join("/api/accounts/a", 2);
+        InFlightRequests.Participant follower = inFlight.join("/api/accounts/a", 2);
+        InFlightRequests.Participant other = inFlight.join("/api/accounts/b", 2);
+
+        // When
+        InFlightRequests.SharedResponse shared = new InFlightRequests.SharedResponse(200, HttpHeaders.EMPTY, "{}".getBytes());
+        leader.flight().complete(shared);
+
+        // Then
+        assertEquals(InFlightRequests.Role.LEADER, leader.role());
+        assertEquals(InFlightRequests.Role.FOLLOWER, follower.role());
+        assertEquals(InFlightRequests.Role.LEADER, other.role());
+        assertSame(shared, follower.flight().response().block());
+        assertEquals(1, inFlight.size());
+        assertEquals(InFlightRequests.Role.LEADER, inFlight.join("/api/accounts/a", 2).role());
+    }
+
+    @Test
+    void join_OverflowsPastMaxWaitersUntilOneLeaves() {
+        // Given
+        inFlight.join("/api/accounts/a", 1);
+        InFlightRequests.Participant follower = inFlight.join("/api/accounts/a", 1);
+
+        // When / Then
+        assertEquals(InFlightRequests.Role.OVERFLOW, inFlight.join("/api/accounts/a", 1).role());
+        follower.flight().leave();
+        assertEquals(InFlightRequests.Role.FOLLOWER, inFlight.join("/api/accounts/a", 1).role());
+    }
+
+    @Test
+    void abandon_CompletesFollowersEmptyAndEndsTheFlight() {
+        // Given
+        InFlightRequests.Participant leader = inFlight.join("/api/accounts/a", 2);
+        InFlightRequests.Participant follower = inFlight.join("/api/accounts/a", 2);
+
+        // When
+        leader.flight().abandon();
+
+        // Then
+        assertNull(follower.flight().response().block());
+        assertEquals(0, inFlight.size());
+    }
+}
@@ -0,0 +1,50 @@
+package com.banking.gateway.concurrency;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimiterTest {
+
+    private final ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+            new GradientLimit(2, 1, 10, 0.2, TimeUnit.SECONDS.toNanos(1), System::nanoTime), 1);
+
+    @Test
+    void acquire_HandsAReleasedPermitToTheQueuedRequest() {
+        // Given
+        limiter.acquire(Duration.ZERO).block();
+        limiter.acquire(Duration.ZERO).block();
+        Mono<ConcurrencyLimiter.Outcome> waiting = limiter.acquire(Duration.ofSeconds(5)).cache();
+        waiting.subscribe();
+
+        // When
+        ConcurrencyLimiter.Outcome overflow = limiter.acquire(Duration.ofSeconds(5)).block();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+
+        // Then
+        assertEquals(ConcurrencyLimiter.Outcome.REJECTED, overflow);
+        assertEquals(ConcurrencyLimiter.Outcome.QUEUED, waiting.block(Duration.ofSeconds(1)));
+        assertEquals(2, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+    }
+
+    @Test
+    void acquire_RejectsWhenNoPermitComesWithinTheWait() {
+        // Given
+        limiter.acquire(Duration.ZERO).block();
+        limiter.acquire(Duration.ZERO).block();
+
+        // When
+        ConcurrencyLimiter.Outcome outcome = limiter.acquire(Duration.ofMillis(20)).block();
+        limiter.release();
+
+        // Then
+        assertEquals(ConcurrencyLimiter.Outcome.REJECTED, outcome);
+        assertEquals(1, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+    }
+}
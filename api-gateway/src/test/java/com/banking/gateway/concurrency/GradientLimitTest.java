@@ -0,0 +1,54 @@
+package com.banking.gateway.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradientLimitTest {
+
+    private static final long WINDOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final GradientLimit limit = new GradientLimit(20, 4, 200, 0.2, WINDOW, clock::get);
+
+    @Test
+    void sample_GrowsWhileBusyAndShrinksWhenLatencyRises() {
+        // Given
+        windows(5, TimeUnit.MILLISECONDS.toNanos(20), 20, false);
+        int grown = limit.limit();
+
+        // When
+        windows(5, TimeUnit.MILLISECONDS.toNanos(200), grown, false);
+
+        // Then
+        assertTrue(grown > 20, "limit grew to " + grown);
+        assertTrue(limit.limit() < 20, "limit shrank to " + limit.limit());
+    }
+
+    @Test
+    void sample_HoldsWhileMostlyIdleAndBacksOffOnDrops() {
+        // Given
+        windows(5, TimeUnit.MILLISECONDS.toNanos(20), 3, false);
+        assertEquals(20, limit.limit());
+
+        // When
+        windows(1, TimeUnit.MILLISECONDS.toNanos(20), 3, true);
+
+        // Then
+        assertEquals(18, limit.limit());
+    }
+
+    private void windows(int count, long rttNanos, int inFlight, boolean dropped) {
+        for (int window = 0; window < count; window++) {
+            for (int sample = 0; sample < 20; sample++) {
+                limit.sample(rttNanos, inFlight, dropped);
+            }
+            clock.addAndGet(WINDOW);
+            limit.sample(rttNanos, inFlight, dropped);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.banking.gateway.filter;
+
+import com.banking.gateway.overview.OverviewClient;
+import com.banking.gateway.overview.OverviewProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class AccountOverviewGatewayFilterFactoryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<URI> requested = new CopyOnWriteArrayList<>();
+
+    @Test
+    void filter_MergesTheThreeLegsAndAsksForRecentTransactionsOnly() throws Exception {
+        // Given
+        UUID accountId = UUID.randomUUID();
+        AccountOverviewGatewayFilterFactory factory = factory(Map.of(
+                "/api/accounts/", ok("{\"holderName\":\"Ann\"}"),
+                "/api/transactions/account/", ok("[{\"amount\":10}]"),
+                "/api/ledger/balance/", ok("{\"balance\":10}")), Duration.ofSeconds(1));
+
+        // When
+        MockServerWebExchange exchange = overview(factory, accountId);
+
+        // Then
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        JsonNode body = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+        assertEquals(accountId.toString(), body.get("accountId").asText());
+        assertEquals("Ann", body.get("account").get("holderName").asText());
+        assertEquals(10, body.get("recentTransactions").get(0).get("amount").asInt());
+        assertEquals(10, body.get("balance").get("balance").asInt());
+        assertEquals(0, body.get("failedLegs").size());
+        assertTrue(requested.stream().anyMatch(uri ->
+                uri.getPath().startsWith("/api/transactions/account/") && "limit=5".equals(uri.getQuery())));
+    }
+
+    @Test
+    void filter_ListsAFailedLegAndKeepsTheOthers() throws Exception {
+        // Given
+        AccountOverviewGatewayFilterFactory factory = factory(Map.of(
+                "/api/accounts/", ok("{\"holderName\":\"Ann\"}"),
+                "/api/transactions/account/", ok("[]"),
+                "/api/ledger/balance/", Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build())),
+                Duration.ofSeconds(1));
+
+        // When
+        MockServerWebExchange exchange = overview(factory, UUID.randomUUID());
+
+        // Then
+        JsonNode body = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+        assertEquals("Ann", body.get("account").get("holderName").asText());
+        assertEquals(503, body.get("balance").get("status").asInt());
+        assertEquals(List.of("balance"), objectMapper.convertValue(body.get("failedLegs"), List.class));
+        assertEquals(1.0, meterRegistry.get("banking_gateway_overview_legs_total")
+                .tags("leg", "balance", "outcome", "failed").counter().count());
+    }
+
+    @Test
+    void filter_AnswersASlowLegWithItsFallbackAfterTheTimeout() throws Exception {
+        // Given
+        AccountOverviewGatewayFilterFactory factory = factory(Map.of(
+                "/api/accounts/", ok("{\"holderName\":\"Ann\"}"),
+                "/api/transactions/account/", ok("[]").delayElement(Duration.ofSeconds(5)),
+                "/api/ledger/balance/", ok("{\"balance\":10}")), Duration.ofMillis(100));
+
+        // When
+        MockServerWebExchange exchange = overview(factory, UUID.randomUUID());
+
+        // Then
+        JsonNode body = objectMapper.readTree(exchange.getResponse().getBodyAsString().block(Duration.ofSeconds(2)));
+        assertEquals(503, body.get("recentTransactions").get("status").asInt());
+        assertEquals(List.of("recentTransactions"), objectMapper.convertValue(body.get("failedLegs"), List.class));
+        assertEquals(1.0, meterRegistry.get("banking_gateway_overview_legs_total")
+                .tags("leg", "transactions", "outcome", "timeout").counter().count());
+    }
+
+    private AccountOverviewGatewayFilterFactory factory(Map<String, Mono<ClientResponse>> responses, Duration timeout) {
+        WebClient.Builder webClient = WebClient.builder().exchangeFunction(request -> {
+            requested.add(request.url());
+            return responses.entrySet().stream()
+                    .filter(entry -> request.url().getPath().startsWith(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElseGet(() -> Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build()));
+        });
+        OverviewProperties properties = new OverviewProperties();
+        properties.setRecentTransactions(5);
+        properties.getAccount().setTimeout(timeout);
+        properties.getTransactions().setTimeout(timeout);
+        properties.getBalance().setTimeout(timeout);
+        return new AccountOverviewGatewayFilterFactory(
+                new OverviewClient(webClient, properties, objectMapper, meterRegistry));
+    }
+
+    private MockServerWebExchange overview(AccountOverviewGatewayFilterFactory factory, UUID accountId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/overview/" + accountId).build());
+        ServerWebExchangeUtils.putUriTemplateVariables(exchange, Map.of("accountId", accountId.toString()));
+        factory.apply(new Object()).filter(exchange, mock(GatewayFilterChain.class)).block(Duration.ofSeconds(2));
+        return exchange;
+    }
+
+    private static Mono<ClientResponse> ok(String json) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(json)
+                .build());
+    }
+}
@@ -0,0 +1,98 @@
+package com.banking.gateway.hedge;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgingTest {
+
+    @Test
+    void race_UsesTheHedgeWhenThePrimaryIsSlowAndCancelsThePrimary() throws InterruptedException {
+        // Given
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        Mono<String> primary = Mono.delay(Duration.ofSeconds(5)).map(tick -> "primary")
+                .doOnCancel(primaryCancelled::countDown);
+
+        // When
+        Hedging.Result<String> result = Hedging.race(primary, () -> Mono.just("hedge"), Duration.ofMillis(20),
+                Schedulers.parallel()).block(Duration.ofSeconds(1));
+
+        // Then
+        assertEquals("hedge", result.value());
+        assertTrue(result.hedged());
+        assertTrue(result.hedgeWon());
+        assertTrue(primaryCancelled.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void race_DoesNotHedgeAFastOrFailedPrimary() {
+        // Given
+        AtomicInteger hedges = new AtomicInteger();
+
+        // When
+        Hedging.Result<String> fast = Hedging.race(Mono.just("primary"), () -> {
+            hedges.incrementAndGet();
+            return Mono.just("hedge");
+        }, Duration.ofMillis(20), Schedulers.parallel()).block(Duration.ofSeconds(1));
+        Mono<Hedging.Result<String>> failed = Hedging.race(Mono.error(new IllegalStateException("down")), () -> {
+            hedges.incrementAndGet();
+            return Mono.just("hedge");
+        }, Duration.ofMillis(20), Schedulers.parallel());
+
+        // Then
+        assertEquals("primary", fast.value());
+        assertFalse(fast.hedged());
+        assertThrows(IllegalStateException.class, () -> failed.block(Duration.ofSeconds(1)));
+        assertEquals(0, hedges.get());
+    }
+
+    @Test
+    void race_WaitsForThePrimaryWhenNoHedgeIsAllowed() {
+        // When
+        Hedging.Result<String> result = Hedging.race(Mono.delay(Duration.ofMillis(100)).map(tick -> "primary"),
+                () -> null, Duration.ofMillis(20), Schedulers.parallel()).block(Duration.ofSeconds(1));
+
+        // Then
+        assertEquals("primary", result.value());
+        assertFalse(result.hedged());
+    }
+
+    @Test
+    void race_FailsWhenThePrimaryFailsWhileADisallowedHedgeIsBeingDecided() {
+        // Given a primary that fails after the hedge timer fired but before the copy was refused
+        Sinks.One<String> primary = Sinks.one();
+
+        // When
+        Mono<Hedging.Result<String>> result = Hedging.race(primary.asMono(), () -> {
+            primary.tryEmitError(new IllegalStateException("down"));
+            return null;
+        }, Duration.ofMillis(20), Schedulers.parallel());
+
+        // Then
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> result.block(Duration.ofSeconds(1)));
+        assertEquals("down", error.getMessage());
+    }
+
+    @Test
+    void race_ReportsThePrimaryErrorWhenBothCallsFail() {
+        // When
+        Mono<Hedging.Result<String>> result = Hedging.race(
+                Mono.delay(Duration.ofMillis(100)).then(Mono.error(new IllegalStateException("primary down"))),
+                () -> Mono.error(new IllegalArgumentException("hedge down")),
+                Duration.ofMillis(20), Schedulers.parallel());
+
+        // Then
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> result.block(Duration.ofSeconds(1)));
+        assertEquals("primary down", error.getMessage());
+    }
+}
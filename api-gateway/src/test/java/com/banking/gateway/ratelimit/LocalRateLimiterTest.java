@@ -0,0 +1,114 @@
+package com.banking.gateway.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocalRateLimiterTest {
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    private LocalRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimiterProperties properties = new RateLimiterProperties();
+        properties.setReplenishRate(10);
+        properties.setBurstCapacity(3);
+        properties.setMaxKeys(10);
+        properties.getGossip().setEnabled(true);
+        rateLimiter = new LocalRateLimiter(properties, configurationService, meterRegistry, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.shutdown();
+    }
+
+    @Test
+    void isAllowed_AllowsBurstThenRefillsAtRate() {
+        // When
+        for (int i = 2; i >= 0; i--) {
+            RateLimiter.Response response = rateLimiter.isAllowed("account-service", "ip:10.0.0.1").block();
+            assertTrue(response.isAllowed());
+            assertEquals(String.valueOf(i), response.getHeaders().get(LocalRateLimiter.REMAINING_HEADER));
+        }
+        RateLimiter.Response denied = rateLimiter.isAllowed("account-service", "ip:10.0.0.1").block();
+
+        // Then
+        assertFalse(denied.isAllowed());
+        assertEquals("1", denied.getHeaders().get(HttpHeaders.RETRY_AFTER));
+        assertTrue(rateLimiter.isAllowed("account-service", "ip:10.0.0.2").block().isAllowed());
+        assertTrue(rateLimiter.isAllowed("ledger-service", "ip:10.0.0.1").block().isAllowed());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(rateLimiter.isAllowed("account-service", "ip:10.0.0.1").block().isAllowed());
+        assertEquals(1.0, meterRegistry.get("banking_gateway_rate_limit_requests_total")
+                .tag("route", "account-service").tag("outcome", "denied").counter().count());
+    }
+
+    @Test
+    void applyRemoteUsage_ChargesLocalBucket() {
+        // Given
+        rateLimiter.applyRemoteUsage("account-service", "key:abc", 2);
+
+        // When
+        RateLimiter.Response allowed = rateLimiter.isAllowed("account-service", "key:abc").block();
+        RateLimiter.Response denied = rateLimiter.isAllowed("account-service", "key:abc").block();
+
+        // Then
+        assertTrue(allowed.isAllowed());
+        assertFalse(denied.isAllowed());
+        assertEquals(List.of(new LocalRateLimiter.Usage("account-service", "key:abc", 1)), rateLimiter.drainUsage());
+        assertTrue(rateLimiter.drainUsage().isEmpty());
+    }
+
+    @Test
+    void applyRemoteUsage_StaysWithinMaxKeys() {
+        // When a peer reports more clients than this replica may track
+        for (int i = 0; i < 50; i++) {
+            rateLimiter.applyRemoteUsage("account-service", "key:" + i, 1);
+        }
+
+        // Then
+        assertTrue(rateLimiter.trackedKeys() <= 10);
+    }
+
+    @Test
+    void sweep_DropsRefilledBucketsAndEvictsBeyondMaxKeys() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.isAllowed("account-service", "ip:10.0.0." + i).block();
+        }
+
+        // When: one more client than the limiter keeps
+        rateLimiter.isAllowed("account-service", "ip:10.0.1.1").block();
+
+        // Then
+        assertTrue(rateLimiter.trackedKeys() <= 10);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        rateLimiter.sweep();
+        assertEquals(0, rateLimiter.trackedKeys());
+    }
+}
@@ -1,4 +1,4 @@
-package com.banking.account.event;
+package com.banking.events;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -0,0 +1,326 @@
+package com.banking.events.codec;
+
+import com.banking.events.TransactionEvent;
+import com.banking.events.TransactionResultEvent;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of the inter-service events.
+ * <p>
+ * Layout: {@code [version:1][type:1][presence:varint]} followed by the present fields in declaration order.
+ * UUIDs are 16 raw bytes, strings are a varint length plus UTF-8, amounts are a varint scale plus the
+ * unscaled two's-complement bytes, and timestamps are zig-zag epoch seconds (read as UTC) plus nanos.
+ * Well-known transaction types and statuses are written as a single code, anything else as a string.
+ * <p>
+ * A decoder accepts every version up to {@link #VERSION}. New fields are only ever appended with a new
+ * presence bit and a version bump, and consumers must be upgraded before producers emit the new version.
+ */
+public final class BinaryEventCodec {
+
+    public static final int VERSION = 1;
+
+    static final int TYPE_TRANSACTION_EVENT = 1;
+    static final int TYPE_TRANSACTION_RESULT_EVENT = 2;
+
+    private static final List<String> TRANSACTION_TYPES = List.of("DEPOSIT", "WITHDRAWAL", "TRANSFER");
+    private static final List<String> STATUSES = List.of("PENDING", "PROCESSING", "COMPLETED", "FAILED", "REVERSED");
+
+    private BinaryEventCodec() {
+    }
+
+    public static byte[] encode(Object event) {
+        if (event instanceof TransactionEvent transactionEvent) {
+            return encode(transactionEvent);
+        }
+        if (event instanceof TransactionResultEvent resultEvent) {
+            return encode(resultEvent);
+        }
+        throw new IllegalArgumentException("No binary encoding for " + event.getClass().getName());
+    }
+
+    public static Object decode(byte[] data) {
+        Reader reader = new Reader(data);
+        int version = reader.readByte();
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Unsupported event encoding version: " + version);
+        }
+        int type = reader.readByte();
+        return switch (type) {
+            case TYPE_TRANSACTION_EVENT -> readTransactionEvent(reader);
+            case TYPE_TRANSACTION_RESULT_EVENT -> readTransactionResultEvent(reader);
+            default -> throw new IllegalArgumentException("Unknown event type: " + type);
+        };
+    }
+
+    public static byte[] encode(TransactionEvent event) {
+        Writer writer = new Writer(96);
+        writer.writeByte(VERSION);
+        writer.writeByte(TYPE_TRANSACTION_EVENT);
+        writer.writeVarLong(presence(event.getTransactionId(), event.getTransactionType(), event.getSourceAccountId(),
+                event.getTargetAccountId(), event.getAmount(), event.getStatus(), event.getDescription(),
+                event.getErrorMessage(), event.getTimestamp()));
+        writer.writeUuid(event.getTransactionId());
+        writer.writeCoded(event.getTransactionType(), TRANSACTION_TYPES);
+        writer.writeUuid(event.getSourceAccountId());
+        writer.writeUuid(event.getTargetAccountId());
+        writer.writeDecimal(event.getAmount());
+        writer.writeCoded(event.getStatus(), STATUSES);
+        writer.writeString(event.getDescription());
+        writer.writeString(event.getErrorMessage());
+        writer.writeTimestamp(event.getTimestamp());
+        return writer.toByteArray();
+    }
+
+    public static byte[] encode(TransactionResultEvent event) {
+        Writer writer = new Writer(48);
+        writer.writeByte(VERSION);
+        writer.writeByte(TYPE_TRANSACTION_RESULT_EVENT);
+        writer.writeVarLong(presence(event.getTransactionId(), event.getStatus(), event.getErrorMessage()));
+        writer.writeUuid(event.getTransactionId());
+        writer.writeCoded(event.getStatus(), STATUSES);
+        writer.writeString(event.getErrorMessage());
+        return writer.toByteArray();
+    }
+
+    private static TransactionEvent readTransactionEvent(Reader reader) {
+        long presence = reader.readVarLong();
+        TransactionEvent event = new TransactionEvent();
+        if (has(presence, 0)) {
+            event.setTransactionId(reader.readUuid());
+        }
+        if (has(presence, 1)) {
+            event.setTransactionType(reader.readCoded(TRANSACTION_TYPES));
+        }
+        if (has(presence, 2)) {
+            event.setSourceAccountId(reader.readUuid());
+        }
+        if (has(presence, 3)) {
+            event.setTargetAccountId(reader.readUuid());
+        }
+        if (has(presence, 4)) {
+            event.setAmount(reader.readDecimal());
+        }
+        if (has(presence, 5)) {
+            event.setStatus(reader.readCoded(STATUSES));
+        }
+        if (has(presence, 6)) {
+            event.setDescription(reader.readString());
+        }
+        if (has(presence, 7)) {
+            event.setErrorMessage(reader.readString());
+        }
+        if (has(presence, 8)) {
+            event.setTimestamp(reader.readTimestamp());
+        }
+        return event;
+    }
+
+    private static TransactionResultEvent readTransactionResultEvent(Reader reader) {
+        long presence = reader.readVarLong();
+        TransactionResultEvent event = new TransactionResultEvent();
+        if (has(presence, 0)) {
+            event.setTransactionId(reader.readUuid());
+        }
+        if (has(presence, 1)) {
+            event.setStatus(reader.readCoded(STATUSES));
+        }
+        if (has(presence, 2)) {
+            event.setErrorMessage(reader.readString());
+        }
+        return event;
+    }
+
+    private static long presence(Object... fields) {
+        long bits = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                bits |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    private static boolean has(long presence, int field) {
+        return (presence & (1L << field)) != 0;
+    }
+
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                writeByte((int) (value >>> shift));
+            }
+        }
+
+        // Null fields are skipped here; their absence is recorded in the presence bits.
+        void writeUuid(UUID value) {
+            if (value != null) {
+                writeLong(value.getMostSignificantBits());
+                writeLong(value.getLeastSignificantBits());
+            }
+        }
+
+        void writeString(String value) {
+            if (value != null) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(bytes.length);
+                writeBytes(bytes);
+            }
+        }
+
+        void writeCoded(String value, List<String> dictionary) {
+            if (value != null) {
+                int code = dictionary.indexOf(value);
+                writeVarLong(code + 1L);
+                if (code < 0) {
+                    writeString(value);
+                }
+            }
+        }
+
+        void writeDecimal(BigDecimal value) {
+            if (value != null) {
+                writeVarLong(zigZag(value.scale()));
+                byte[] unscaled = value.unscaledValue().toByteArray();
+                writeVarLong(unscaled.length);
+                writeBytes(unscaled);
+            }
+        }
+
+        void writeTimestamp(LocalDateTime value) {
+            if (value != null) {
+                writeVarLong(zigZag(value.toEpochSecond(ZoneOffset.UTC)));
+                writeVarLong(value.getNano());
+            }
+        }
+
+        byte[] toByteArray() {
+            byte[] result = new byte[position];
+            System.arraycopy(buffer, 0, result, 0, position);
+            return result;
+        }
+
+        private void ensure(int extra) {
+            if (position + extra > buffer.length) {
+                byte[] grown = new byte[Math.max(buffer.length * 2, position + extra)];
+                System.arraycopy(buffer, 0, grown, 0, position);
+                buffer = grown;
+            }
+        }
+
+        private static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        int readByte() {
+            if (position >= data.length) {
+                throw new IllegalArgumentException("Truncated event payload");
+            }
+            return data[position++] & 0xFF;
+        }
+
+        byte[] readBytes(int length) {
+            if (length < 0 || position + length > data.length) {
+                throw new IllegalArgumentException("Truncated event payload");
+            }
+            byte[] bytes = new byte[length];
+            System.arraycopy(data, position, bytes, 0, length);
+            position += length;
+            return bytes;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in event payload");
+        }
+
+        long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | readByte();
+            }
+            return value;
+        }
+
+        UUID readUuid() {
+            return new UUID(readLong(), readLong());
+        }
+
+        String readString() {
+            return new String(readBytes((int) readVarLong()), StandardCharsets.UTF_8);
+        }
+
+        String readCoded(List<String> dictionary) {
+            int code = (int) readVarLong();
+            if (code == 0) {
+                return readString();
+            }
+            if (code > dictionary.size()) {
+                throw new IllegalArgumentException("Unknown dictionary code: " + code);
+            }
+            return dictionary.get(code - 1);
+        }
+
+        BigDecimal readDecimal() {
+            int scale = (int) unZigZag(readVarLong());
+            return new BigDecimal(new BigInteger(readBytes((int) readVarLong())), scale);
+        }
+
+        LocalDateTime readTimestamp() {
+            long seconds = unZigZag(readVarLong());
+            return LocalDateTime.ofEpochSecond(seconds, (int) readVarLong(), ZoneOffset.UTC);
+        }
+
+        private static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
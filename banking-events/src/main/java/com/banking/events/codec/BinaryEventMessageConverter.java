@@ -0,0 +1,35 @@
+package com.banking.events.codec;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * {@link MessageConverter} for the {@link BinaryEventCodec} wire format.
+ */
+public class BinaryEventMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/vnd.banking.event+binary";
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        try {
+            byte[] body = BinaryEventCodec.encode(object);
+            messageProperties.setContentType(CONTENT_TYPE);
+            messageProperties.setContentLength(body.length);
+            return new Message(body, messageProperties);
+        } catch (IllegalArgumentException e) {
+            throw new MessageConversionException("Failed to encode event", e);
+        }
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        try {
+            return BinaryEventCodec.decode(message.getBody());
+        } catch (IllegalArgumentException e) {
+            throw new MessageConversionException("Failed to decode event", e);
+        }
+    }
+}
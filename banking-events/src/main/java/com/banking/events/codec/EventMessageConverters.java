@@ -0,0 +1,32 @@
+package com.banking.events.codec;
+
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Builds the converter the services use for events. Incoming messages are decoded according to their
+ * content type, so JSON and binary producers can coexist during a rollout; outgoing messages use the
+ * configured wire format.
+ */
+public final class EventMessageConverters {
+
+    /**
+     * Format of published events, set per service with {@code rabbitmq.wire-format}. Consumers read both.
+     */
+    public enum WireFormat { JSON, BINARY }
+
+    private EventMessageConverters() {
+    }
+
+    public static MessageConverter create(WireFormat outbound) {
+        Jackson2JsonMessageConverter json = new Jackson2JsonMessageConverter();
+        BinaryEventMessageConverter binary = new BinaryEventMessageConverter();
+        ContentTypeDelegatingMessageConverter converter =
+                new ContentTypeDelegatingMessageConverter(outbound == WireFormat.BINARY ? binary : json);
+        converter.addDelegate(MimeTypeUtils.APPLICATION_JSON_VALUE, json);
+        converter.addDelegate(BinaryEventMessageConverter.CONTENT_TYPE, binary);
+        return converter;
+    }
+}
@@ -0,0 +1,115 @@
+package com.banking.events.codec;
+
+import com.banking.events.TransactionEvent;
+import com.banking.events.TransactionResultEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryEventCodecTest {
+
+    @Test
+    void transactionEvent_RoundTrips() {
+        // Given
+        TransactionEvent event = TransactionEvent.builder()
+                .transactionId(UUID.randomUUID())
+                .transactionType("TRANSFER")
+                .sourceAccountId(UUID.randomUUID())
+                .targetAccountId(UUID.randomUUID())
+                .amount(new BigDecimal("1234.50"))
+                .status("COMPLETED")
+                .description("Rent – März")
+                .timestamp(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000))
+                .build();
+
+        // When
+        byte[] encoded = BinaryEventCodec.encode(event);
+
+        // Then
+        assertEquals(event, BinaryEventCodec.decode(encoded));
+    }
+
+    @Test
+    void transactionEvent_KeepsNullsAndUnknownCodes() {
+        // Given
+        TransactionEvent event = TransactionEvent.builder()
+                .transactionId(UUID.randomUUID())
+                .transactionType("CHARGEBACK")
+                .amount(new BigDecimal("-0.01"))
+                .status("ON_HOLD")
+                .build();
+
+        // When
+        Object decoded = BinaryEventCodec.decode(BinaryEventCodec.encode(event));
+
+        // Then
+        assertEquals(event, decoded);
+        assertNull(((TransactionEvent) decoded).getSourceAccountId());
+    }
+
+    @Test
+    void transactionResultEvent_RoundTripsCompactly() {
+        // Given
+        TransactionResultEvent event = TransactionResultEvent.builder()
+                .transactionId(UUID.randomUUID())
+                .status("FAILED")
+                .errorMessage("Insufficient balance")
+                .build();
+
+        // When
+        byte[] encoded = BinaryEventCodec.encode(event);
+
+        // Then
+        assertEquals(event, BinaryEventCodec.decode(encoded));
+        // version + type + presence + uuid + status code + length-prefixed message
+        assertEquals(3 + 16 + 1 + 1 + "Insufficient balance".length(), encoded.length);
+    }
+
+    @Test
+    void decode_RejectsNewerVersion() {
+        byte[] encoded = BinaryEventCodec.encode(TransactionResultEvent.builder().status("COMPLETED").build());
+        encoded[0] = (byte) (BinaryEventCodec.VERSION + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryEventCodec.decode(encoded));
+    }
+
+    @Test
+    void decode_RejectsTruncatedPayload() {
+        byte[] encoded = BinaryEventCodec.encode(TransactionResultEvent.builder()
+                .transactionId(UUID.randomUUID()).build());
+        byte[] truncated = new byte[encoded.length - 4];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryEventCodec.decode(truncated));
+    }
+
+    @Test
+    void converter_ReadsBothFormatsAndWritesConfiguredOne() {
+        // Given
+        MessageConverter binaryProducer = EventMessageConverters.create(EventMessageConverters.WireFormat.BINARY);
+        MessageConverter jsonProducer = EventMessageConverters.create(EventMessageConverters.WireFormat.JSON);
+        TransactionResultEvent event = TransactionResultEvent.builder()
+                .transactionId(UUID.randomUUID())
+                .status("COMPLETED")
+                .build();
+
+        // When
+        Message binary = binaryProducer.toMessage(event, new MessageProperties());
+        Message json = jsonProducer.toMessage(event, new MessageProperties());
+
+        // Then
+        assertEquals(BinaryEventMessageConverter.CONTENT_TYPE, binary.getMessageProperties().getContentType());
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, json.getMessageProperties().getContentType());
+        assertEquals(event, jsonProducer.fromMessage(binary));
+        assertEquals(event, binaryProducer.fromMessage(json));
+        assertTrue(binary.getBody().length < json.getBody().length);
+    }
+}
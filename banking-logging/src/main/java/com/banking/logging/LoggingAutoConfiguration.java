@@ -0,0 +1,45 @@
+package com.banking.logging;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@AutoConfiguration
+@EnableConfigurationProperties(RequestLoggingProperties.class)
+public class LoggingAutoConfiguration {
+
+    @Bean
+    public RequestLogSampler requestLogSampler(RequestLoggingProperties properties) {
+        return new RequestLogSampler(properties);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(FilterRegistrationBean.class)
+    static class ServletRequestLoggingConfiguration {
+
+        @Bean
+        public FilterRegistrationBean<RequestLoggingFilter> requestLoggingFilter(RequestLogSampler sampler) {
+            FilterRegistrationBean<RequestLoggingFilter> registration =
+                    new FilterRegistrationBean<>(new RequestLoggingFilter(sampler));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class RequestLoggingEndpointConfiguration {
+
+        @Bean
+        public RequestLoggingEndpoint requestLoggingEndpoint(RequestLogSampler sampler) {
+            return new RequestLoggingEndpoint(sampler);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.banking.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides which completed requests get a log line and writes it to the {@code banking.requests} logger:
+ * failed and slow requests at WARN, a sample of the rest at INFO. The settings are swapped as a whole, so
+ * a request never sees half an update.
+ */
+public class RequestLogSampler {
+
+    private static final Logger log = LoggerFactory.getLogger("banking.requests");
+
+    private volatile Settings settings;
+
+    public RequestLogSampler(RequestLoggingProperties properties) {
+        this.settings = Settings.of(properties.isEnabled(), properties.getSampleRate(),
+                properties.getSlowThreshold(), properties.getErrorStatus(), properties.getPaths());
+    }
+
+    public void completed(String method, String path, int status, long durationNanos, String requestId) {
+        Settings current = settings;
+        if (!current.enabled()) {
+            return;
+        }
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        if (status >= current.errorStatus()) {
+            log.warn("[{}] {} {} failed with {} in {}ms", requestId, method, path, status, durationMs);
+        } else if (durationNanos >= current.slowThresholdNanos()) {
+            log.warn("[{}] {} {} was slow: {} in {}ms", requestId, method, path, status, durationMs);
+        } else if (log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < current.rateFor(path)) {
+            log.info("[{}] {} {} - {} in {}ms", requestId, method, path, status, durationMs);
+        }
+    }
+
+    public Map<String, Object> settings() {
+        Settings current = settings;
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("enabled", current.enabled());
+        view.put("sampleRate", current.sampleRate());
+        view.put("slowThresholdMs", TimeUnit.NANOSECONDS.toMillis(current.slowThresholdNanos()));
+        view.put("errorStatus", current.errorStatus());
+        view.put("paths", current.pathRates());
+        return view;
+    }
+
+    public synchronized void update(Boolean enabled, Double sampleRate, Duration slowThreshold,
+                                    String path, Double pathSampleRate) {
+        Settings current = settings;
+        Map<String, Double> pathRates = new LinkedHashMap<>(current.pathRates());
+        if (path != null) {
+            if (pathSampleRate != null) {
+                pathRates.put(path, pathSampleRate);
+            } else {
+                pathRates.remove(path);
+            }
+        }
+        settings = Settings.of(
+                enabled != null ? enabled : current.enabled(),
+                sampleRate != null ? sampleRate : current.sampleRate(),
+                slowThreshold != null ? slowThreshold : Duration.ofNanos(current.slowThresholdNanos()),
+                current.errorStatus(),
+                pathRates);
+    }
+
+    private record Settings(boolean enabled, double sampleRate, long slowThresholdNanos, int errorStatus,
+                            Map<String, Double> pathRates, List<PathRate> patterns) {
+
+        static Settings of(boolean enabled, double sampleRate, Duration slowThreshold, int errorStatus,
+                           Map<String, Double> pathRates) {
+            List<PathRate> patterns = pathRates.entrySet().stream()
+                    .map(entry -> new PathRate(PathPatternParser.defaultInstance.parse(entry.getKey()), entry.getValue()))
+                    .toList();
+            return new Settings(enabled, sampleRate, slowThreshold.toNanos(), errorStatus,
+                    Collections.unmodifiableMap(new LinkedHashMap<>(pathRates)), patterns);
+        }
+
+        double rateFor(String path) {
+            if (patterns.isEmpty()) {
+                return sampleRate;
+            }
+            PathContainer container = PathContainer.parsePath(path);
+            for (PathRate pathRate : patterns) {
+                if (pathRate.pattern().matches(container)) {
+                    return pathRate.rate();
+                }
+            }
+            return sampleRate;
+        }
+    }
+
+    private record PathRate(PathPattern pattern, double rate) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.banking.logging;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * {@code /actuator/requestlogging}: the request log sampling settings. A POST changes them, e.g.
+ * {@code {"sampleRate": 0.1}} or {@code {"path": "/api/accounts/**", "pathSampleRate": 0}}; a path without
+ * a rate removes its override.
+ */
+@Endpoint(id = "requestlogging")
+public class RequestLoggingEndpoint {
+
+    private final RequestLogSampler sampler;
+
+    public RequestLoggingEndpoint(RequestLogSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        return sampler.settings();
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Boolean enabled, @Nullable Double sampleRate,
+                                      @Nullable Long slowThresholdMs, @Nullable String path,
+                                      @Nullable Double pathSampleRate) {
+        sampler.update(enabled, sampleRate, slowThresholdMs != null ? Duration.ofMillis(slowThresholdMs) : null,
+                path, pathSampleRate);
+        return sampler.settings();
+    }
+}
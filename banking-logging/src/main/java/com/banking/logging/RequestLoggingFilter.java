@@ -0,0 +1,45 @@
+package com.banking.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Hands every completed request to the {@link RequestLogSampler} and keeps the gateway's
+ * {@value #REQUEST_ID_HEADER} in the MDC while the request is handled, so log lines can be correlated.
+ */
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+
+    private final RequestLogSampler sampler;
+
+    public RequestLoggingFilter(RequestLogSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId != null) {
+            MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        }
+        long started = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            chain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            sampler.completed(request.getMethod(), request.getRequestURI(), status, System.nanoTime() - started,
+                    requestId != null ? requestId : "-");
+            MDC.remove(REQUEST_ID_MDC_KEY);
+        }
+    }
+}
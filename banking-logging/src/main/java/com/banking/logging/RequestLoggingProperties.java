@@ -0,0 +1,40 @@
+package com.banking.logging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Which completed requests are logged:
+ * <pre>
+ * banking:
+ *   logging:
+ *     requests:
+ *       sample-rate: 0.01
+ *       slow-threshold: 500ms
+ *       paths:
+ *         "[/api/accounts/**]": 0.001
+ * </pre>
+ * Failed and slow requests are always logged; the others with the rate of the first matching path pattern,
+ * or {@code sample-rate}. Initial values only; {@code /actuator/requestlogging} changes them at runtime.
+ */
+@Data
+@ConfigurationProperties(prefix = "banking.logging.requests")
+public class RequestLoggingProperties {
+
+    private boolean enabled = true;
+
+    private double sampleRate = 0.01;
+
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    /**
+     * Responses with this status or above count as failed.
+     */
+    private int errorStatus = 500;
+
+    private Map<String, Double> paths = new LinkedHashMap<>();
+}
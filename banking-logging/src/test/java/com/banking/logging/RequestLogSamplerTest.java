@@ -0,0 +1,71 @@
+package com.banking.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLogSamplerTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger("banking.requests");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private RequestLoggingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RequestLoggingProperties();
+        properties.setSampleRate(0.0);
+        properties.setSlowThreshold(Duration.ofMillis(500));
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void completed_ShouldAlwaysLogFailedAndSlowRequests() {
+        // Given
+        RequestLogSampler sampler = new RequestLogSampler(properties);
+
+        // When
+        sampler.completed("GET", "/api/accounts", 200, TimeUnit.MILLISECONDS.toNanos(5), "r1");
+        sampler.completed("GET", "/api/accounts", 503, TimeUnit.MILLISECONDS.toNanos(5), "r2");
+        sampler.completed("GET", "/api/accounts", 200, TimeUnit.MILLISECONDS.toNanos(800), "r3");
+
+        // Then
+        assertEquals(2, appender.list.size());
+        assertTrue(appender.list.stream().allMatch(event -> event.getLevel() == Level.WARN));
+    }
+
+    @Test
+    void update_ShouldApplyPathOverrideAndRemoveIt() {
+        // Given
+        RequestLogSampler sampler = new RequestLogSampler(properties);
+
+        // When
+        sampler.update(null, null, null, "/api/transactions/**", 1.0);
+        sampler.completed("POST", "/api/transactions/deposit", 201, TimeUnit.MILLISECONDS.toNanos(5), "r1");
+        sampler.completed("GET", "/api/accounts", 200, TimeUnit.MILLISECONDS.toNanos(5), "r2");
+        sampler.update(null, null, null, "/api/transactions/**", null);
+        sampler.completed("POST", "/api/transactions/deposit", 201, TimeUnit.MILLISECONDS.toNanos(5), "r3");
+
+        // Then
+        assertEquals(1, appender.list.size());
+        assertEquals(Level.INFO, appender.list.get(0).getLevel());
+        assertEquals(Map.of(), sampler.settings().get("paths"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.banking.messaging;
+
+import com.banking.messaging.ListenerProperties.AutoTune;
+import com.banking.messaging.TuningPolicy.Action;
+import com.banking.messaging.TuningPolicy.Decision;
+import com.banking.messaging.TuningPolicy.Sample;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically samples queue depth and processing latency of listeners with {@code autotune.enabled} and
+ * adjusts their consumer count and prefetch within the configured bounds.
+ */
+@Slf4j
+public class ListenerAutoTuner implements SmartLifecycle {
+
+    private final ListenerProfileCustomizer profiles;
+    private final QueueDepthProbe queueDepthProbe;
+    private final ListenerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private ScheduledExecutorService executor;
+    private volatile boolean running;
+
+    public ListenerAutoTuner(ListenerProfileCustomizer profiles, QueueDepthProbe queueDepthProbe,
+                             ListenerProperties properties, MeterRegistry meterRegistry) {
+        this.profiles = profiles;
+        this.queueDepthProbe = queueDepthProbe;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        boolean anyEnabled = properties.getListeners().values().stream()
+                .anyMatch(profile -> profile.getAutotune().isEnabled());
+        if (anyEnabled) {
+            long interval = properties.getAutotuneInterval().toMillis();
+            executor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "rabbit-listener-autotuner"));
+            executor.scheduleWithFixedDelay(this::tuneAll, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void tuneAll() {
+        for (ListenerState state : profiles.getStates()) {
+            if (state.getProfile().getAutotune().isEnabled()) {
+                try {
+                    tune(state);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to tune listener {}: {}", state.getListenerId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    void tune(ListenerState state) {
+        SimpleMessageListenerContainer container = state.getContainer();
+        long depth = 0;
+        for (String queue : container.getQueueNames()) {
+            long queueDepth = queueDepthProbe.depth(queue);
+            if (queueDepth < 0) {
+                return;
+            }
+            depth += queueDepth;
+        }
+        AutoTune bounds = state.getProfile().getAutotune();
+        long previousDepth = state.getQueueDepth();
+        state.setQueueDepth(depth);
+        Decision decision = TuningPolicy.decide(bounds, state.getConsumers(), state.getPrefetch(),
+                new Sample(depth, previousDepth, state.drainMeanLatencyMillis()));
+
+        if (decision.action() != Action.HOLD) {
+            container.setConcurrentConsumers(decision.consumers());
+            record(state, decision.action().name().toLowerCase(Locale.ROOT));
+            log.info("Listener {} {}: consumers {} -> {}, queueDepth={}", state.getListenerId(),
+                    decision.action(), state.getConsumers(), decision.consumers(), depth);
+            state.setConsumers(decision.consumers());
+        }
+
+        Instant now = Instant.now();
+        if (decision.prefetchChanged()
+                && now.isAfter(state.getLastPrefetchChange().plus(bounds.getPrefetchCooldown()))) {
+            // Prefetch is applied per channel when a consumer starts, so the consumers are restarted.
+            container.setPrefetchCount(decision.prefetch());
+            if (container.isRunning()) {
+                container.stop();
+                container.start();
+            }
+            record(state, "prefetch");
+            log.info("Listener {} prefetch {} -> {}", state.getListenerId(), state.getPrefetch(), decision.prefetch());
+            state.setPrefetch(decision.prefetch());
+            state.setLastPrefetchChange(now);
+        }
+    }
+
+    private void record(ListenerState state, String action) {
+        Counter.builder("banking_rabbit_listener_tuning_decisions_total")
+                .description("Adjustments made by the listener auto-tuner")
+                .tag("listener", state.getListenerId())
+                .tag("action", action)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,91 @@
+package com.banking.messaging;
+
+import com.banking.messaging.ListenerProperties.ListenerProfile;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.aop.Advice;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies the {@code rabbitmq.listeners.<id>} profile to each listener container as it is created. Settings a
+ * profile leaves unset fall back to the container defaults (one consumer, prefetch 250). Profiled containers
+ * get a timing advice and auto-acked containers the tiered retry advice; either replaces any advice chain set
+ * on the container factory.
+ */
+@Slf4j
+public class ListenerProfileCustomizer implements ContainerCustomizer<SimpleMessageListenerContainer> {
+
+    private final ListenerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TieredRetryInterceptor retryInterceptor;
+    private final RetryTopology retryTopology;
+    private final Map<String, ListenerState> states = new ConcurrentHashMap<>();
+
+    /**
+     * @param retryInterceptor null when tiered retries are disabled
+     */
+    public ListenerProfileCustomizer(ListenerProperties properties, MeterRegistry meterRegistry,
+                                     TieredRetryInterceptor retryInterceptor, RetryTopology retryTopology) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.retryInterceptor = retryInterceptor;
+        this.retryTopology = retryTopology;
+    }
+
+    @Override
+    public void configure(SimpleMessageListenerContainer container) {
+        List<Advice> advice = new ArrayList<>();
+        String listenerId = container.getListenerId();
+        ListenerProfile profile = listenerId != null ? properties.getListeners().get(listenerId) : null;
+        if (profile != null) {
+            advice.add(applyProfile(listenerId, profile, container));
+        }
+        // Manually acked listeners settle their own deliveries, so a swallowed failure would leave them unacked.
+        if (retryInterceptor != null && container.getAcknowledgeMode() == AcknowledgeMode.AUTO) {
+            advice.add(retryInterceptor);
+            Arrays.stream(container.getQueueNames()).forEach(retryTopology::register);
+        }
+        if (!advice.isEmpty()) {
+            container.setAdviceChain(advice.toArray(Advice[]::new));
+        }
+    }
+
+    private Advice applyProfile(String listenerId, ListenerProfile profile, SimpleMessageListenerContainer container) {
+        int consumers = profile.getConcurrency() != null ? profile.getConcurrency() : 1;
+        int prefetch = profile.getPrefetch() != null
+                ? profile.getPrefetch() : AbstractMessageListenerContainer.DEFAULT_PREFETCH_COUNT;
+        if (profile.getAutotune().isEnabled()) {
+            // The tuner owns the consumer count, so the container's own scaling is left off.
+            consumers = Math.max(profile.getAutotune().getMinConsumers(),
+                    Math.min(profile.getAutotune().getMaxConsumers(), consumers));
+        } else if (profile.getMaxConcurrency() != null) {
+            container.setMaxConcurrentConsumers(profile.getMaxConcurrency());
+        }
+        container.setConcurrentConsumers(consumers);
+        container.setPrefetchCount(prefetch);
+        if (profile.getBatchSize() != null) {
+            container.setBatchSize(profile.getBatchSize());
+        }
+
+        ListenerState state = new ListenerState(listenerId, profile, container, consumers, prefetch, meterRegistry);
+        states.put(listenerId, state);
+        log.info("Applied listener profile {}: consumers={}, maxConsumers={}, prefetch={}, batchSize={}, autotune={}",
+                listenerId, consumers, profile.getMaxConcurrency(), prefetch, profile.getBatchSize(),
+                profile.getAutotune().isEnabled());
+        return state.latencyAdvice();
+    }
+
+    public Collection<ListenerState> getStates() {
+        return states.values();
+    }
+}
@@ -0,0 +1,84 @@
+package com.banking.messaging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-listener container profiles, keyed by the {@code id} of the {@code @RabbitListener}:
+ * <pre>
+ * rabbitmq:
+ *   listeners:
+ *     ledgerCompletedListener:
+ *       concurrency: 2
+ *       prefetch: 50
+ *       autotune:
+ *         enabled: true
+ *         max-consumers: 8
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "rabbitmq")
+public class ListenerProperties {
+
+    private Map<String, ListenerProfile> listeners = new HashMap<>();
+
+    /**
+     * How often auto-tuned listeners are re-evaluated.
+     */
+    private Duration autotuneInterval = Duration.ofSeconds(15);
+
+    private Retry retry = new Retry();
+
+    @Data
+    public static class ListenerProfile {
+        private Integer concurrency;
+        private Integer maxConcurrency;
+        private Integer prefetch;
+        private Integer batchSize;
+        private AutoTune autotune = new AutoTune();
+    }
+
+    /**
+     * Delayed redelivery of failed messages: the n-th failure waits {@code delays[n-1]} in a TTL queue before
+     * going back to the listener's queue, and a message that fails after the last tier is parked.
+     */
+    @Data
+    public static class Retry {
+        private boolean enabled = true;
+        private List<Duration> delays = List.of(Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofSeconds(60));
+        /**
+         * How long a republished delivery may wait for its broker confirm before the original is requeued.
+         */
+        private Duration confirmTimeout = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class AutoTune {
+        private boolean enabled = false;
+        private int minConsumers = 1;
+        private int maxConsumers = 10;
+        private int minPrefetch = 1;
+        private int maxPrefetch = 250;
+        /**
+         * Backlog above which consumers are added while it is not shrinking.
+         */
+        private long scaleUpDepth = 100;
+        /**
+         * Backlog at or below which a consumer may be removed.
+         */
+        private long scaleDownDepth = 0;
+        /**
+         * How long a message may wait in a consumer's prefetch buffer; sizes prefetch from processing latency.
+         */
+        private Duration targetLatency = Duration.ofSeconds(1);
+        /**
+         * Minimum time between prefetch changes, which restart the container.
+         */
+        private Duration prefetchCooldown = Duration.ofMinutes(2);
+    }
+}
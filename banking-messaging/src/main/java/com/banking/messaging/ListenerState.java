@@ -0,0 +1,122 @@
+package com.banking.messaging;
+
+import com.banking.messaging.ListenerProperties.ListenerProfile;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Current settings and recent processing latency of one profiled listener container.
+ */
+public class ListenerState {
+
+    private final String listenerId;
+    private final ListenerProfile profile;
+    private final SimpleMessageListenerContainer container;
+    private final Timer processingTimer;
+    private final LongAdder intervalNanos = new LongAdder();
+    private final LongAdder intervalCount = new LongAdder();
+
+    private volatile int consumers;
+    private volatile int prefetch;
+    private volatile long queueDepth;
+    private Instant lastPrefetchChange = Instant.EPOCH;
+
+    public ListenerState(String listenerId, ListenerProfile profile, SimpleMessageListenerContainer container,
+                         int consumers, int prefetch, MeterRegistry meterRegistry) {
+        this.listenerId = listenerId;
+        this.profile = profile;
+        this.container = container;
+        this.consumers = consumers;
+        this.prefetch = prefetch;
+        this.processingTimer = Timer.builder("banking_rabbit_listener_processing_seconds")
+                .description("Time spent in the listener per delivery")
+                .tag("listener", listenerId)
+                .register(meterRegistry);
+        Gauge.builder("banking_rabbit_listener_consumers", this, ListenerState::getConsumers)
+                .description("Configured concurrent consumers of the listener container")
+                .tag("listener", listenerId)
+                .register(meterRegistry);
+        Gauge.builder("banking_rabbit_listener_prefetch", this, ListenerState::getPrefetch)
+                .description("Configured prefetch count of the listener container")
+                .tag("listener", listenerId)
+                .register(meterRegistry);
+        Gauge.builder("banking_rabbit_listener_queue_depth", this, ListenerState::getQueueDepth)
+                .description("Ready messages in the listener's queues at the last tuning sample")
+                .tag("listener", listenerId)
+                .register(meterRegistry);
+    }
+
+    MethodInterceptor latencyAdvice() {
+        return invocation -> {
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                processingTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                intervalNanos.add(elapsed);
+                intervalCount.increment();
+            }
+        };
+    }
+
+    /**
+     * Mean processing time since the previous call, or 0 when nothing was processed.
+     */
+    double drainMeanLatencyMillis() {
+        long count = intervalCount.sumThenReset();
+        long nanos = intervalNanos.sumThenReset();
+        return count == 0 ? 0 : nanos / (count * 1_000_000.0);
+    }
+
+    public String getListenerId() {
+        return listenerId;
+    }
+
+    public ListenerProfile getProfile() {
+        return profile;
+    }
+
+    public SimpleMessageListenerContainer getContainer() {
+        return container;
+    }
+
+    public int getConsumers() {
+        return consumers;
+    }
+
+    void setConsumers(int consumers) {
+        this.consumers = consumers;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    void setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public long getQueueDepth() {
+        return queueDepth;
+    }
+
+    void setQueueDepth(long queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    Instant getLastPrefetchChange() {
+        return lastPrefetchChange;
+    }
+
+    void setLastPrefetchChange(Instant lastPrefetchChange) {
+        this.lastPrefetchChange = lastPrefetchChange;
+    }
+}
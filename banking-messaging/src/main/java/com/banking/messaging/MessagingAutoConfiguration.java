@@ -0,0 +1,85 @@
+package com.banking.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.amqp.CachingConnectionFactoryConfigurer;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@AutoConfiguration(after = RabbitAutoConfiguration.class)
+@ConditionalOnClass(SimpleMessageListenerContainer.class)
+@EnableConfigurationProperties(ListenerProperties.class)
+public class MessagingAutoConfiguration {
+
+    @Bean
+    public ListenerProfileCustomizer listenerProfileCustomizer(ListenerProperties properties,
+                                                               MeterRegistry meterRegistry,
+                                                               ObjectProvider<TieredRetryInterceptor> retryInterceptor,
+                                                               ObjectProvider<RetryTopology> retryTopology) {
+        return new ListenerProfileCustomizer(properties, meterRegistry,
+                retryInterceptor.getIfAvailable(), retryTopology.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnBean(AmqpAdmin.class)
+    public QueueDepthProbe queueDepthProbe(AmqpAdmin amqpAdmin) {
+        return new QueueDepthProbe(amqpAdmin);
+    }
+
+    @Bean
+    @ConditionalOnBean(AmqpAdmin.class)
+    public ListenerAutoTuner listenerAutoTuner(ListenerProfileCustomizer profiles, QueueDepthProbe queueDepthProbe,
+                                               ListenerProperties properties, MeterRegistry meterRegistry) {
+        return new ListenerAutoTuner(profiles, queueDepthProbe, properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnBean(AmqpAdmin.class)
+    @ConditionalOnProperty(prefix = "rabbitmq.retry", name = "enabled", matchIfMissing = true)
+    public RetryTopology retryTopology(AmqpAdmin amqpAdmin, ListenerProperties properties) {
+        return new RetryTopology(amqpAdmin, properties.getRetry().getDelays());
+    }
+
+    @Bean
+    @ConditionalOnBean({AmqpAdmin.class, ConnectionFactory.class})
+    @ConditionalOnProperty(prefix = "rabbitmq.retry", name = "enabled", matchIfMissing = true)
+    public RetryConnectionFactory retryConnectionFactory(ConnectionFactory connectionFactory,
+                                                         ObjectProvider<CachingConnectionFactoryConfigurer> configurer) {
+        return RetryConnectionFactory.of(connectionFactory, configurer.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnBean({AmqpAdmin.class, ConnectionFactory.class})
+    @ConditionalOnProperty(prefix = "rabbitmq.retry", name = "enabled", matchIfMissing = true)
+    public TieredRetryInterceptor tieredRetryInterceptor(RetryTopology retryTopology,
+                                                         RetryConnectionFactory retryConnectionFactory,
+                                                         ListenerProperties properties, MeterRegistry meterRegistry) {
+        // A template of its own: retries resend the raw message, without the service's converter.
+        RabbitTemplate template = new RabbitTemplate(retryConnectionFactory.connectionFactory());
+        template.setMandatory(true);
+        return new TieredRetryInterceptor(retryTopology, template, meterRegistry,
+                properties.getRetry().getConfirmTimeout());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class ParkingLotEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnBean(RetryTopology.class)
+        public ParkingLotEndpoint parkingLotEndpoint(RetryTopology retryTopology) {
+            return new ParkingLotEndpoint(retryTopology);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.banking.messaging;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/parkinglot}: messages currently parked per listener queue.
+ */
+@Endpoint(id = "parkinglot")
+public class ParkingLotEndpoint {
+
+    private final RetryTopology topology;
+
+    public ParkingLotEndpoint(RetryTopology topology) {
+        this.topology = topology;
+    }
+
+    @ReadOperation
+    public Map<String, Long> parkedMessages() {
+        return topology.parkedCounts();
+    }
+}
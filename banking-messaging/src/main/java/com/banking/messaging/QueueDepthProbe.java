@@ -0,0 +1,29 @@
+package com.banking.messaging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+
+/**
+ * Reads the number of ready messages in a queue with a passive declare.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class QueueDepthProbe {
+
+    private final AmqpAdmin amqpAdmin;
+
+    /**
+     * Ready message count, or -1 when the queue cannot be inspected.
+     */
+    public long depth(String queueName) {
+        try {
+            QueueInformation info = amqpAdmin.getQueueInfo(queueName);
+            return info != null ? info.getMessageCount() : -1;
+        } catch (RuntimeException e) {
+            log.debug("Could not read depth of queue {}: {}", queueName, e.getMessage());
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.banking.messaging;
+
+import org.springframework.amqp.rabbit.connection.AbstractConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.amqp.CachingConnectionFactoryConfigurer;
+
+/**
+ * Connections that delayed retries are republished over, which must confirm and return publishes. The service's
+ * own connection factory is used when it already does both; otherwise a separate confirming factory is opened to
+ * the same broker and closed with the context. Not a {@link ConnectionFactory} itself, so the service's factory
+ * stays the only one injected by type.
+ */
+public class RetryConnectionFactory implements DisposableBean {
+
+    private final ConnectionFactory connectionFactory;
+    private final boolean owned;
+
+    private RetryConnectionFactory(ConnectionFactory connectionFactory, boolean owned) {
+        this.connectionFactory = connectionFactory;
+        this.owned = owned;
+    }
+
+    /**
+     * @param configurer Boot's settings for the service's factory (addresses, shuffle mode, channel cache), or
+     *                   {@code null} when the service declared its own factory
+     */
+    static RetryConnectionFactory of(ConnectionFactory shared, CachingConnectionFactoryConfigurer configurer) {
+        if (shared.isPublisherConfirms() && shared.isPublisherReturns()) {
+            return new RetryConnectionFactory(shared, false);
+        }
+        if (!(shared instanceof AbstractConnectionFactory abstractFactory)) {
+            throw new IllegalStateException("Delayed retries need publisher confirms and returns; enable them on "
+                    + shared.getClass().getSimpleName() + " or set rabbitmq.retry.enabled=false");
+        }
+        CachingConnectionFactory factory = new CachingConnectionFactory(abstractFactory.getRabbitConnectionFactory());
+        if (configurer != null) {
+            configurer.configure(factory);
+        }
+        factory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.CORRELATED);
+        factory.setPublisherReturns(true);
+        factory.setConnectionNameStrategy(connectionFactory -> "retry-republisher");
+        return new RetryConnectionFactory(factory, true);
+    }
+
+    ConnectionFactory connectionFactory() {
+        return connectionFactory;
+    }
+
+    @Override
+    public void destroy() {
+        if (owned) {
+            ((CachingConnectionFactory) connectionFactory).destroy();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.banking.messaging;
+
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.QueueInformation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Names and declares the retry and parking-lot queues of each listener queue. A retry queue holds messages
+ * for its tier's delay and then dead-letters them through the default exchange back to the source queue.
+ * Queues are declared on first use, so only queues that actually see failures get a retry topology.
+ */
+public class RetryTopology {
+
+    static final String PARKING_LOT_SUFFIX = ".parking-lot";
+
+    private final AmqpAdmin amqpAdmin;
+    private final List<Duration> delays;
+    private final Set<String> sourceQueues = ConcurrentHashMap.newKeySet();
+    private final Set<String> declared = ConcurrentHashMap.newKeySet();
+
+    public RetryTopology(AmqpAdmin amqpAdmin, List<Duration> delays) {
+        this.amqpAdmin = amqpAdmin;
+        this.delays = List.copyOf(delays);
+    }
+
+    public int tiers() {
+        return delays.size();
+    }
+
+    public Duration delay(int tier) {
+        return delays.get(tier - 1);
+    }
+
+    void register(String sourceQueue) {
+        sourceQueues.add(sourceQueue);
+    }
+
+    /**
+     * Name of the queue that delays the {@code tier}-th retry (1-based), declaring it if needed.
+     */
+    String retryQueue(String sourceQueue, int tier) {
+        String name = sourceQueue + ".retry." + delay(tier).toMillis() + "ms";
+        declareOnce(QueueBuilder.durable(name)
+                .ttl((int) delay(tier).toMillis())
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(sourceQueue)
+                .build());
+        return name;
+    }
+
+    String parkingLot(String sourceQueue) {
+        String name = sourceQueue + PARKING_LOT_SUFFIX;
+        declareOnce(new Queue(name, true));
+        return name;
+    }
+
+    // Marked only once the broker accepted it, so a failed declare is tried again on the next failure rather than
+    // leaving every retry unroutable. Threads racing on a new queue may both declare it, which is harmless.
+    private void declareOnce(Queue queue) {
+        if (!declared.contains(queue.getName())) {
+            amqpAdmin.declareQueue(queue);
+            declared.add(queue.getName());
+        }
+    }
+
+    /**
+     * Parked message count per listener queue; queues whose parking lot was never declared count as zero.
+     */
+    public Map<String, Long> parkedCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (String sourceQueue : sourceQueues) {
+            QueueInformation info = amqpAdmin.getQueueInfo(sourceQueue + PARKING_LOT_SUFFIX);
+            counts.put(sourceQueue, info != null ? info.getMessageCount() : 0L);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,139 @@
+package com.banking.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
+import org.springframework.amqp.rabbit.listener.FatalExceptionStrategy;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Listener advice that turns a failed delivery into a delayed retry instead of an immediate requeue. The
+ * message is republished to the retry queue of its next tier with an incremented {@value #RETRY_COUNT_HEADER}
+ * header, or to the parking lot once the tiers are used up or the failure is fatal (e.g. an unconvertible
+ * payload), and the original delivery is acked only after the broker has confirmed and routed the copy. If
+ * republishing is nacked, returned, times out or fails, the original delivery is requeued instead.
+ */
+@Slf4j
+public class TieredRetryInterceptor implements MethodInterceptor {
+
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+    public static final String LAST_ERROR_HEADER = "x-last-error";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final RetryTopology topology;
+    private final RabbitOperations rabbitOperations;
+    private final MeterRegistry meterRegistry;
+    private final Duration confirmTimeout;
+    private final FatalExceptionStrategy fatalExceptions = new ConditionalRejectingErrorHandler.DefaultExceptionStrategy();
+
+    /**
+     * @param rabbitOperations a template with correlated publisher confirms and mandatory returns enabled
+     */
+    public TieredRetryInterceptor(RetryTopology topology, RabbitOperations rabbitOperations,
+                                  MeterRegistry meterRegistry, Duration confirmTimeout) {
+        this.topology = topology;
+        this.rabbitOperations = rabbitOperations;
+        this.meterRegistry = meterRegistry;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        try {
+            return invocation.proceed();
+        } catch (Throwable failure) {
+            Object data = invocation.getArguments()[1];
+            List<?> messages = data instanceof List<?> batch ? batch : List.of(data);
+            boolean fatal = fatalExceptions.isFatal(failure);
+            try {
+                for (Object message : messages) {
+                    reroute((Message) message, failure, fatal);
+                }
+            } catch (AmqpException e) {
+                // Requeued even when the failure is fatal, so a message that could not be parked is not dropped.
+                ListenerExecutionFailedException requeue = new ListenerExecutionFailedException(
+                        "Could not republish failed delivery", new ImmediateRequeueAmqpException(e),
+                        messages.toArray(Message[]::new));
+                requeue.addSuppressed(failure);
+                throw requeue;
+            }
+            return null;
+        }
+    }
+
+    private void reroute(Message message, Throwable failure, boolean fatal) {
+        MessageProperties properties = message.getMessageProperties();
+        String sourceQueue = properties.getConsumerQueue();
+        Integer previous = properties.getHeader(RETRY_COUNT_HEADER);
+        int attempt = (previous != null ? previous : 0) + 1;
+
+        properties.setHeader(RETRY_COUNT_HEADER, attempt);
+        properties.setHeader(LAST_ERROR_HEADER, describe(failure));
+        if (!fatal && attempt <= topology.tiers()) {
+            sendConfirmed(topology.retryQueue(sourceQueue, attempt), message);
+            Counter.builder("banking_rabbit_retry_scheduled_total")
+                    .description("Failed deliveries sent to a delayed retry tier")
+                    .tag("queue", sourceQueue)
+                    .tag("tier", String.valueOf(attempt))
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Delivery from {} failed (attempt {}), retrying in {}: {}",
+                    sourceQueue, attempt, topology.delay(attempt), failure.getMessage());
+        } else {
+            sendConfirmed(topology.parkingLot(sourceQueue), message);
+            Counter.builder("banking_rabbit_retry_parked_total")
+                    .description("Failed deliveries moved to a parking lot")
+                    .tag("queue", sourceQueue)
+                    .tag("reason", fatal ? "fatal" : "exhausted")
+                    .register(meterRegistry)
+                    .increment();
+            log.error("Delivery from {} parked after {} attempts", sourceQueue, attempt, failure);
+        }
+    }
+
+    private void sendConfirmed(String queue, Message message) {
+        CorrelationData correlation = new CorrelationData(UUID.randomUUID().toString());
+        rabbitOperations.send("", queue, message, correlation);
+        CorrelationData.Confirm confirm;
+        try {
+            confirm = correlation.getFuture().get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted waiting for the confirm of a republish to " + queue, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new AmqpException("No confirm for a republish to " + queue, e);
+        }
+        if (!confirm.isAck()) {
+            throw new AmqpException("Republish to " + queue + " nacked: " + confirm.getReason());
+        }
+        if (correlation.getReturned() != null) {
+            throw new AmqpException("Republish to " + queue + " returned: " + correlation.getReturned().getReplyText());
+        }
+    }
+
+    private static String describe(Throwable failure) {
+        Throwable root = failure;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String text = root.getClass().getSimpleName() + ": " + root.getMessage();
+        return text.length() > MAX_ERROR_LENGTH ? text.substring(0, MAX_ERROR_LENGTH) : text;
+    }
+}
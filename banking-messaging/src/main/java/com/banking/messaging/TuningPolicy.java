@@ -0,0 +1,51 @@
+package com.banking.messaging;
+
+import com.banking.messaging.ListenerProperties.AutoTune;
+
+/**
+ * Decides consumer count and prefetch for one listener from a sample of its queue.
+ */
+public final class TuningPolicy {
+
+    public enum Action { HOLD, SCALE_UP, SCALE_DOWN }
+
+    public record Sample(long queueDepth, long previousQueueDepth, double meanLatencyMillis) {
+    }
+
+    public record Decision(int consumers, int prefetch, Action action, boolean prefetchChanged) {
+    }
+
+    private TuningPolicy() {
+    }
+
+    public static Decision decide(AutoTune bounds, int consumers, int prefetch, Sample sample) {
+        int nextConsumers = consumers;
+        Action action = Action.HOLD;
+        if (sample.queueDepth() > bounds.getScaleUpDepth() && sample.queueDepth() >= sample.previousQueueDepth()) {
+            // Backlog is large and not draining: grow by half again, at least one.
+            nextConsumers = Math.min(bounds.getMaxConsumers(), consumers + Math.max(1, consumers / 2));
+        } else if (sample.queueDepth() <= bounds.getScaleDownDepth()
+                && sample.previousQueueDepth() <= bounds.getScaleDownDepth()) {
+            nextConsumers = Math.max(bounds.getMinConsumers(), consumers - 1);
+        }
+        nextConsumers = Math.max(bounds.getMinConsumers(), Math.min(bounds.getMaxConsumers(), nextConsumers));
+        if (nextConsumers > consumers) {
+            action = Action.SCALE_UP;
+        } else if (nextConsumers < consumers) {
+            action = Action.SCALE_DOWN;
+        }
+
+        int nextPrefetch = prefetch;
+        if (sample.meanLatencyMillis() > 0) {
+            // Enough messages to keep a consumer busy for the latency budget, but no more, so a deep
+            // prefetch buffer does not hide backlog from other consumers.
+            long target = Math.round(bounds.getTargetLatency().toMillis() / sample.meanLatencyMillis());
+            int bounded = (int) Math.max(bounds.getMinPrefetch(), Math.min(bounds.getMaxPrefetch(), target));
+            // Prefetch changes restart the consumers, so only follow a change of at least 2x.
+            if (bounded >= prefetch * 2 || bounded * 2 <= prefetch) {
+                nextPrefetch = bounded;
+            }
+        }
+        return new Decision(nextConsumers, nextPrefetch, action, nextPrefetch != prefetch);
+    }
+}
@@ -0,0 +1,17 @@
+package com.banking.messaging.transport;
+
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+
+/**
+ * Publishes events to the banking exchange by routing key, independent of the broker behind it: RabbitMQ by
+ * default, or an in-process broker with {@code banking.transport.type=in-memory}.
+ */
+public interface EventTransport {
+
+    void publish(String routingKey, Object event);
+
+    /**
+     * Publishes and reports the broker's confirm, or a return, through {@code correlation}.
+     */
+    void publish(String routingKey, Object event, CorrelationData correlation);
+}
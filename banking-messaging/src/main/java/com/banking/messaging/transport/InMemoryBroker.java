@@ -0,0 +1,163 @@
+package com.banking.messaging.transport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * A single topic exchange with queues, for running several services in one JVM without RabbitMQ. Queues are
+ * lock-free {@link ConcurrentLinkedQueue}s drained by their own consumer threads; an idle consumer parks
+ * until a publisher wakes it. A publisher to a full queue waits until a consumer makes room.
+ * <p>
+ * Deliveries are not persisted and a message whose handler throws is dropped after logging.
+ */
+@Slf4j
+public class InMemoryBroker implements DisposableBean {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int queueCapacity;
+    private final Map<String, InMemoryQueue> queues = new ConcurrentHashMap<>();
+    private final List<Route> routes = new CopyOnWriteArrayList<>();
+    private final AtomicLong deliveryTags = new AtomicLong();
+    private volatile boolean running = true;
+
+    public InMemoryBroker(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Routes messages whose key matches the topic {@code pattern} ({@code *} one word, {@code #} any) to the queue.
+     */
+    public void bind(String queue, String pattern) {
+        queue(queue);
+        routes.add(new Route(queue, topicRegex(pattern)));
+    }
+
+    /**
+     * Starts {@code consumers} threads that hand messages from the queue to the handler.
+     */
+    public void subscribe(String queue, int consumers, Consumer<Message> handler) {
+        InMemoryQueue target = queue(queue);
+        for (int i = 0; i < consumers; i++) {
+            Thread consumer = new Thread(() -> consume(target, handler), "in-memory-" + queue + "-" + i);
+            consumer.setDaemon(true);
+            consumer.start();
+        }
+    }
+
+    /**
+     * Delivers a copy of the message to every queue bound to the routing key.
+     *
+     * @return the number of queues the message was routed to
+     */
+    public int publish(String routingKey, Message message) {
+        int routed = 0;
+        for (Route route : routes) {
+            if (route.pattern().matcher(routingKey).matches()) {
+                Message copy = MessageBuilder.fromClonedMessage(message).build();
+                copy.getMessageProperties().setReceivedRoutingKey(routingKey);
+                copy.getMessageProperties().setConsumerQueue(route.queue());
+                copy.getMessageProperties().setDeliveryTag(deliveryTags.incrementAndGet());
+                queue(route.queue()).offer(copy);
+                routed++;
+            }
+        }
+        if (routed == 0) {
+            log.debug("Dropped unroutable message with routing key {}", routingKey);
+        }
+        return routed;
+    }
+
+    public int depth(String queue) {
+        InMemoryQueue target = queues.get(queue);
+        return target != null ? target.size.get() : 0;
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        queues.values().forEach(InMemoryQueue::wakeAll);
+    }
+
+    private InMemoryQueue queue(String name) {
+        return queues.computeIfAbsent(name, ignored -> new InMemoryQueue());
+    }
+
+    private void consume(InMemoryQueue queue, Consumer<Message> handler) {
+        while (running) {
+            Message message = queue.poll();
+            if (message == null) {
+                queue.park();
+                continue;
+            }
+            try {
+                handler.accept(message);
+            } catch (RuntimeException e) {
+                log.error("In-memory delivery from {} failed, dropping it",
+                        message.getMessageProperties().getConsumerQueue(), e);
+            }
+        }
+    }
+
+    private static Pattern topicRegex(String pattern) {
+        String regex = Pattern.quote(pattern)
+                .replace("*", "\\E[^.]+\\Q")
+                .replace("#", "\\E.*\\Q");
+        return Pattern.compile(regex);
+    }
+
+    private record Route(String queue, Pattern pattern) {
+    }
+
+    private class InMemoryQueue {
+
+        private final ConcurrentLinkedQueue<Message> messages = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<Thread> idleConsumers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        void offer(Message message) {
+            while (size.get() >= queueCapacity && running) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            messages.offer(message);
+            size.incrementAndGet();
+            Thread idle = idleConsumers.poll();
+            if (idle != null) {
+                LockSupport.unpark(idle);
+            }
+        }
+
+        Message poll() {
+            Message message = messages.poll();
+            if (message != null) {
+                size.decrementAndGet();
+            }
+            return message;
+        }
+
+        // The timeout covers a publish that lands between the empty poll and the park.
+        void park() {
+            idleConsumers.offer(Thread.currentThread());
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+            idleConsumers.remove(Thread.currentThread());
+        }
+
+        void wakeAll() {
+            idleConsumers.forEach(LockSupport::unpark);
+        }
+    }
+}
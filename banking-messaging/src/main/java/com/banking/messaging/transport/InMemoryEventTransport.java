@@ -0,0 +1,37 @@
+package com.banking.messaging.transport;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Publishes to an {@link InMemoryBroker}. Events are still encoded with the service's message converter, so
+ * consumers decode them exactly as they would a RabbitMQ delivery. Enqueueing counts as the confirm, and a
+ * message no queue is bound for is reported as returned, like a mandatory publish.
+ */
+public class InMemoryEventTransport implements EventTransport {
+
+    private final InMemoryBroker broker;
+    private final MessageConverter messageConverter;
+
+    public InMemoryEventTransport(InMemoryBroker broker, MessageConverter messageConverter) {
+        this.broker = broker;
+        this.messageConverter = messageConverter;
+    }
+
+    @Override
+    public void publish(String routingKey, Object event) {
+        broker.publish(routingKey, messageConverter.toMessage(event, new MessageProperties()));
+    }
+
+    @Override
+    public void publish(String routingKey, Object event, CorrelationData correlation) {
+        Message message = messageConverter.toMessage(event, new MessageProperties());
+        if (broker.publish(routingKey, message) == 0) {
+            correlation.setReturned(new ReturnedMessage(message, 312, "NO_ROUTE", "", routingKey));
+        }
+        correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+    }
+}
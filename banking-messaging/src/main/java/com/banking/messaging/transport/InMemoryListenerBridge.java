@@ -0,0 +1,104 @@
+package com.banking.messaging.transport;
+
+import com.rabbitmq.client.Channel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.lang.reflect.Proxy;
+import java.util.function.Consumer;
+
+/**
+ * Connects a service's {@code @RabbitListener}s to the {@link InMemoryBroker}: the service's queue bindings on
+ * the banking exchange are recreated in the broker, and each listener is fed from its queues instead of a
+ * RabbitMQ consumer. Runs before the listener registry and keeps the RabbitMQ containers from starting.
+ */
+@Slf4j
+public class InMemoryListenerBridge implements SmartLifecycle {
+
+    // Manual acks are meaningless in-process: a delivery is settled when the listener returns.
+    private static final Channel NO_OP_CHANNEL = (Channel) Proxy.newProxyInstance(
+            InMemoryListenerBridge.class.getClassLoader(), new Class<?>[]{Channel.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "toString" -> "in-memory channel";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "isOpen" -> true;
+                default -> method.getReturnType() == boolean.class ? false
+                        : method.getReturnType() == int.class ? 0
+                        : method.getReturnType() == long.class ? 0L : null;
+            });
+
+    private final InMemoryBroker broker;
+    private final ListableBeanFactory beanFactory;
+    private final String exchangeName;
+    private final int consumersPerQueue;
+    private volatile boolean running;
+
+    public InMemoryListenerBridge(InMemoryBroker broker, ListableBeanFactory beanFactory,
+                                  String exchangeName, int consumersPerQueue) {
+        this.broker = broker;
+        this.beanFactory = beanFactory;
+        this.exchangeName = exchangeName;
+        this.consumersPerQueue = consumersPerQueue;
+    }
+
+    @Override
+    public void start() {
+        for (Binding binding : beanFactory.getBeansOfType(Binding.class).values()) {
+            if (binding.isDestinationQueue() && exchangeName.equals(binding.getExchange())) {
+                broker.bind(binding.getDestination(), binding.getRoutingKey());
+            }
+        }
+        // Looked up here rather than injected: a lifecycle dependency would be started before this bean.
+        RabbitListenerEndpointRegistry registry = beanFactory.getBean(RabbitListenerEndpointRegistry.class);
+        for (MessageListenerContainer listenerContainer : registry.getListenerContainers()) {
+            AbstractMessageListenerContainer container = (AbstractMessageListenerContainer) listenerContainer;
+            container.setAutoStartup(false);
+            Consumer<Message> handler = handler(container.getMessageListener());
+            for (String queue : container.getQueueNames()) {
+                broker.subscribe(queue, consumersPerQueue, handler);
+                log.info("Listener {} consumes {} from the in-memory broker", container.getListenerId(), queue);
+            }
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Before RabbitListenerEndpointRegistry, so the RabbitMQ containers are not auto-started.
+        return Integer.MAX_VALUE - 1000;
+    }
+
+    private static Consumer<Message> handler(Object listener) {
+        if (listener instanceof ChannelAwareMessageListener channelAware) {
+            return message -> {
+                try {
+                    channelAware.onMessage(message, NO_OP_CHANNEL);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        }
+        return ((MessageListener) listener)::onMessage;
+    }
+}
@@ -0,0 +1,25 @@
+package com.banking.messaging.transport;
+
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+public class RabbitEventTransport implements EventTransport {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchangeName;
+
+    public RabbitEventTransport(RabbitTemplate rabbitTemplate, String exchangeName) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchangeName = exchangeName;
+    }
+
+    @Override
+    public void publish(String routingKey, Object event) {
+        rabbitTemplate.convertAndSend(exchangeName, routingKey, event);
+    }
+
+    @Override
+    public void publish(String routingKey, Object event, CorrelationData correlation) {
+        rabbitTemplate.convertAndSend(exchangeName, routingKey, event, correlation);
+    }
+}
@@ -0,0 +1,62 @@
+package com.banking.messaging.transport;
+
+import com.banking.messaging.MessagingAutoConfiguration;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Chooses the {@link EventTransport} from {@code banking.transport.type}: {@code rabbit} (default) or {@code in-memory}.
+ * In-memory mode uses an {@link InMemoryBroker} from a parent context when there is one, so services started
+ * as sibling contexts share it.
+ */
+@AutoConfiguration(after = MessagingAutoConfiguration.class)
+public class TransportAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "banking.transport.type", havingValue = "rabbit", matchIfMissing = true)
+    static class RabbitTransportConfiguration {
+
+        @Bean
+        @ConditionalOnBean(RabbitTemplate.class)
+        @ConditionalOnMissingBean(EventTransport.class)
+        public EventTransport rabbitEventTransport(RabbitTemplate rabbitTemplate,
+                                                   @Value("${rabbitmq.exchange.name:banking.exchange}") String exchangeName) {
+            return new RabbitEventTransport(rabbitTemplate, exchangeName);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "banking.transport.type", havingValue = "in-memory")
+    static class InMemoryTransportConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(InMemoryBroker.class)
+        public InMemoryBroker inMemoryBroker(@Value("${banking.transport.in-memory.queue-capacity:100000}") int capacity) {
+            return new InMemoryBroker(capacity);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(EventTransport.class)
+        public EventTransport inMemoryEventTransport(InMemoryBroker broker, MessageConverter messageConverter) {
+            return new InMemoryEventTransport(broker, messageConverter);
+        }
+
+        @Bean
+        @ConditionalOnBean(RabbitListenerEndpointRegistry.class)
+        public InMemoryListenerBridge inMemoryListenerBridge(InMemoryBroker broker,
+                                                             ListableBeanFactory beanFactory,
+                                                             @Value("${rabbitmq.exchange.name:banking.exchange}") String exchangeName,
+                                                             @Value("${banking.transport.in-memory.consumers:2}") int consumers) {
+            return new InMemoryListenerBridge(broker, beanFactory, exchangeName, consumers);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.banking.messaging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Queue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetryTopologyTest {
+
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    @Test
+    void retryQueue_DeclaresAgainAfterAFailedDeclare() {
+        // Given
+        RetryTopology topology = new RetryTopology(amqpAdmin, List.of(Duration.ofSeconds(1)));
+        when(amqpAdmin.declareQueue(any(Queue.class)))
+                .thenThrow(new AmqpIOException(new IOException("PRECONDITION_FAILED")))
+                .thenReturn("ledger.queue.retry.1000ms");
+
+        // When
+        assertThrows(AmqpIOException.class, () -> topology.retryQueue("ledger.queue", 1));
+        String name = topology.retryQueue("ledger.queue", 1);
+        topology.retryQueue("ledger.queue", 1);
+
+        // Then
+        assertEquals("ledger.queue.retry.1000ms", name);
+        verify(amqpAdmin, times(2)).declareQueue(any(Queue.class));
+    }
+}
@@ -0,0 +1,171 @@
+package com.banking.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TieredRetryInterceptorTest {
+
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    @Mock
+    private RabbitOperations rabbitOperations;
+
+    @Mock
+    private MethodInvocation invocation;
+
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TieredRetryInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        RetryTopology topology = new RetryTopology(amqpAdmin,
+                List.of(Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofSeconds(60)));
+        interceptor = new TieredRetryInterceptor(topology, rabbitOperations, meterRegistry, Duration.ofMillis(200));
+    }
+
+    @Test
+    void invoke_FirstFailureGoesToFirstTier() throws Throwable {
+        // Given
+        Message message = delivery(null);
+        failWith(new ListenerExecutionFailedException("db down", new IllegalStateException("db down"), message));
+        confirmWith(true);
+
+        // When
+        interceptor.invoke(invocation);
+
+        // Then
+        ArgumentCaptor<Queue> declared = ArgumentCaptor.forClass(Queue.class);
+        verify(amqpAdmin).declareQueue(declared.capture());
+        assertEquals("ledger.queue.retry.1000ms", declared.getValue().getName());
+        assertEquals(1000, declared.getValue().getArguments().get("x-message-ttl"));
+        assertEquals("ledger.queue", declared.getValue().getArguments().get("x-dead-letter-routing-key"));
+        verify(rabbitOperations).send(eq(""), eq("ledger.queue.retry.1000ms"), eq(message), any(CorrelationData.class));
+        assertEquals(1, (Integer) message.getMessageProperties().getHeader(TieredRetryInterceptor.RETRY_COUNT_HEADER));
+        assertEquals(1.0, meterRegistry.get("banking_rabbit_retry_scheduled_total").tag("tier", "1").counter().count());
+    }
+
+    @Test
+    void invoke_ParksAfterLastTier() throws Throwable {
+        // Given
+        Message message = delivery(3);
+        failWith(new ListenerExecutionFailedException("db down", new IllegalStateException("db down"), message));
+        confirmWith(true);
+
+        // When
+        interceptor.invoke(invocation);
+
+        // Then
+        verify(rabbitOperations).send(eq(""), eq("ledger.queue.parking-lot"), eq(message), any(CorrelationData.class));
+        assertEquals(1.0, meterRegistry.get("banking_rabbit_retry_parked_total").tag("reason", "exhausted").counter().count());
+    }
+
+    @Test
+    void invoke_ParksFatalFailuresImmediately() throws Throwable {
+        // Given
+        Message message = delivery(null);
+        failWith(new ListenerExecutionFailedException("bad payload", new MessageConversionException("bad payload"), message));
+        confirmWith(true);
+
+        // When
+        interceptor.invoke(invocation);
+
+        // Then
+        verify(rabbitOperations).send(eq(""), eq("ledger.queue.parking-lot"), eq(message), any(CorrelationData.class));
+        verify(rabbitOperations, never()).send(eq(""), eq("ledger.queue.retry.1000ms"), any(Message.class),
+                any(CorrelationData.class));
+    }
+
+    @Test
+    void invoke_RequeuesWhenRepublishFails() throws Throwable {
+        // Given
+        Message message = delivery(null);
+        ListenerExecutionFailedException failure =
+                new ListenerExecutionFailedException("db down", new IllegalStateException("db down"), message);
+        failWith(failure);
+        doThrow(new AmqpConnectException(new RuntimeException("broker down")))
+                .when(rabbitOperations).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // When / Then
+        ListenerExecutionFailedException thrown =
+                assertThrows(ListenerExecutionFailedException.class, () -> interceptor.invoke(invocation));
+        assertInstanceOf(ImmediateRequeueAmqpException.class, thrown.getCause());
+        assertSame(failure, thrown.getSuppressed()[0]);
+    }
+
+    @Test
+    void invoke_RequeuesFatalFailureWhenParkingIsNacked() throws Throwable {
+        // Given
+        Message message = delivery(null);
+        failWith(new ListenerExecutionFailedException("bad payload", new MessageConversionException("bad payload"), message));
+        confirmWith(false);
+
+        // When / Then
+        ListenerExecutionFailedException thrown =
+                assertThrows(ListenerExecutionFailedException.class, () -> interceptor.invoke(invocation));
+        assertInstanceOf(ImmediateRequeueAmqpException.class, thrown.getCause());
+        assertEquals(0, meterRegistry.find("banking_rabbit_retry_parked_total").counters().size());
+    }
+
+    @Test
+    void invoke_RequeuesWhenConfirmTimesOut() throws Throwable {
+        // Given a broker that never confirms
+        Message message = delivery(null);
+        failWith(new ListenerExecutionFailedException("db down", new IllegalStateException("db down"), message));
+
+        // When / Then
+        ListenerExecutionFailedException thrown =
+                assertThrows(ListenerExecutionFailedException.class, () -> interceptor.invoke(invocation));
+        assertInstanceOf(ImmediateRequeueAmqpException.class, thrown.getCause());
+    }
+
+    private Message delivery(Integer retryCount) {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue("ledger.queue");
+        if (retryCount != null) {
+            properties.setHeader(TieredRetryInterceptor.RETRY_COUNT_HEADER, retryCount);
+        }
+        return new Message("{}".getBytes(), properties);
+    }
+
+    private void confirmWith(boolean ack) {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "queue full"));
+            return null;
+        }).when(rabbitOperations).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private void failWith(Throwable failure) throws Throwable {
+        when(invocation.getArguments()).thenReturn(new Object[]{null, failure instanceof ListenerExecutionFailedException
+                ? ((ListenerExecutionFailedException) failure).getFailedMessage() : null});
+        when(invocation.proceed()).thenThrow(failure);
+    }
+}
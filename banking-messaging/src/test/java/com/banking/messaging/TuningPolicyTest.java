@@ -0,0 +1,95 @@
+package com.banking.messaging;
+
+import com.banking.messaging.ListenerProperties.AutoTune;
+import com.banking.messaging.TuningPolicy.Action;
+import com.banking.messaging.TuningPolicy.Decision;
+import com.banking.messaging.TuningPolicy.Sample;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TuningPolicyTest {
+
+    private AutoTune bounds;
+
+    @BeforeEach
+    void setUp() {
+        bounds = new AutoTune();
+        bounds.setEnabled(true);
+        bounds.setMinConsumers(1);
+        bounds.setMaxConsumers(8);
+        bounds.setMinPrefetch(5);
+        bounds.setMaxPrefetch(200);
+        bounds.setScaleUpDepth(100);
+        bounds.setScaleDownDepth(0);
+        bounds.setTargetLatency(Duration.ofMillis(500));
+    }
+
+    @Test
+    void decide_GrowingBacklog_ScalesUpByHalf() {
+        Decision decision = TuningPolicy.decide(bounds, 4, 50, new Sample(500, 300, 0));
+
+        assertEquals(Action.SCALE_UP, decision.action());
+        assertEquals(6, decision.consumers());
+        assertFalse(decision.prefetchChanged());
+    }
+
+    @Test
+    void decide_DrainingBacklog_Holds() {
+        Decision decision = TuningPolicy.decide(bounds, 4, 50, new Sample(500, 900, 0));
+
+        assertEquals(Action.HOLD, decision.action());
+        assertEquals(4, decision.consumers());
+    }
+
+    @Test
+    void decide_ScaleUp_RespectsMaximum() {
+        Decision decision = TuningPolicy.decide(bounds, 7, 50, new Sample(10_000, 10_000, 0));
+
+        assertEquals(8, decision.consumers());
+    }
+
+    @Test
+    void decide_EmptyQueueTwice_RemovesOneConsumer() {
+        Decision decision = TuningPolicy.decide(bounds, 3, 50, new Sample(0, 0, 0));
+
+        assertEquals(Action.SCALE_DOWN, decision.action());
+        assertEquals(2, decision.consumers());
+    }
+
+    @Test
+    void decide_AtMinimum_Holds() {
+        Decision decision = TuningPolicy.decide(bounds, 1, 50, new Sample(0, 0, 0));
+
+        assertEquals(Action.HOLD, decision.action());
+        assertEquals(1, decision.consumers());
+    }
+
+    @Test
+    void decide_SlowListener_ShrinksPrefetchToLatencyBudget() {
+        // 500ms budget at 50ms per message allows 10 buffered messages
+        Decision decision = TuningPolicy.decide(bounds, 2, 50, new Sample(10, 10, 50));
+
+        assertTrue(decision.prefetchChanged());
+        assertEquals(10, decision.prefetch());
+    }
+
+    @Test
+    void decide_SmallPrefetchDifference_KeepsPrefetch() {
+        // Target of 40 is within 2x of the current 50, not worth a restart
+        Decision decision = TuningPolicy.decide(bounds, 2, 50, new Sample(10, 10, 12.5));
+
+        assertFalse(decision.prefetchChanged());
+        assertEquals(50, decision.prefetch());
+    }
+
+    @Test
+    void decide_FastListener_PrefetchCappedAtMaximum() {
+        Decision decision = TuningPolicy.decide(bounds, 2, 50, new Sample(10, 10, 0.1));
+
+        assertEquals(200, decision.prefetch());
+    }
+}
@@ -0,0 +1,63 @@
+package com.banking.messaging.transport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryBrokerTest {
+
+    private final InMemoryBroker broker = new InMemoryBroker(16);
+
+    @AfterEach
+    void tearDown() {
+        broker.destroy();
+    }
+
+    @Test
+    void publish_RoutesByTopicPattern() {
+        // Given
+        broker.bind("ledger.queue", "transaction.completed");
+        broker.bind("audit.queue", "transaction.*");
+        broker.bind("all.queue", "#");
+
+        // When
+        int completed = broker.publish("transaction.completed", message("a"));
+        int result = broker.publish("transaction.result.late", message("b"));
+
+        // Then
+        assertEquals(3, completed);
+        assertEquals(1, result);
+        assertEquals(1, broker.depth("ledger.queue"));
+        assertEquals(1, broker.depth("audit.queue"));
+        assertEquals(2, broker.depth("all.queue"));
+    }
+
+    @Test
+    void subscribe_DeliversCopiesWithQueueAndRoutingKey() throws Exception {
+        // Given
+        BlockingQueue<Message> received = new LinkedBlockingQueue<>();
+        broker.bind("ledger.queue", "transaction.completed");
+        broker.subscribe("ledger.queue", 1, received::add);
+
+        // When
+        broker.publish("transaction.completed", message("payload"));
+
+        // Then
+        Message delivered = received.poll(1, TimeUnit.SECONDS);
+        assertNotNull(delivered);
+        assertEquals("payload", new String(delivered.getBody()));
+        assertEquals("ledger.queue", delivered.getMessageProperties().getConsumerQueue());
+        assertEquals("transaction.completed", delivered.getMessageProperties().getReceivedRoutingKey());
+    }
+
+    private Message message(String body) {
+        return new Message(body.getBytes(), new MessageProperties());
+    }
+}
@@ -0,0 +1,147 @@
+package com.banking.account.service;
+
+import com.banking.account.dto.AccountResponse;
+import com.banking.account.model.Account;
+import com.banking.account.model.AccountStatus;
+import com.banking.account.model.AccountType;
+import com.banking.account.model.ProcessedTransaction;
+import com.banking.account.repository.AccountRepository;
+import com.banking.account.repository.ProcessedTransactionRepository;
+import com.banking.benchmarks.InMemoryRepository;
+import com.banking.events.TransactionEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Account service hot paths without the database: applying a transfer or deposit event to in-memory accounts,
+ * mapping an account to its response, and generating an account number. Sits in the service's package to
+ * reach {@code mapToResponse}.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar AccountServiceBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AccountServiceBenchmark {
+
+    // Processed ids kept for the idempotency check; enough to look like a busy table, bounded for long runs.
+    private static final int PROCESSED_RETAINED = 100_000;
+
+    private final Map<UUID, Account> accounts = new HashMap<>();
+    private final Map<UUID, ProcessedTransaction> processed = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, ProcessedTransaction> eldest) {
+            return size() > PROCESSED_RETAINED;
+        }
+    };
+
+    private AccountService accountService;
+    private Account source;
+    private Account target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AccountRepository accountRepository = InMemoryRepository.of(AccountRepository.class)
+                .on("findByIdWithLock", args -> Optional.ofNullable(accounts.get((UUID) args[0])))
+                .on("save", args -> args[0])
+                .on("existsByAccountNumber", args -> false)
+                .build();
+        ProcessedTransactionRepository processedRepository = InMemoryRepository.of(ProcessedTransactionRepository.class)
+                .on("existsById", args -> processed.containsKey((UUID) args[0]))
+                .on("save", args -> {
+                    ProcessedTransaction transaction = (ProcessedTransaction) args[0];
+                    processed.put(transaction.getTransactionId(), transaction);
+                    return transaction;
+                })
+                .build();
+        accountService = new AccountService(accountRepository, processedRepository, new SimpleMeterRegistry());
+        source = account("ACC000000000001");
+        target = account("ACC000000000002");
+    }
+
+    @Benchmark
+    public void processTransfer() {
+        accountService.processTransaction(event("TRANSFER", source.getId(), target.getId()));
+        // Back again, so balances stay put however long the run.
+        accountService.processTransaction(event("TRANSFER", target.getId(), source.getId()));
+    }
+
+    @Benchmark
+    public void processDeposit() {
+        accountService.processTransaction(event("DEPOSIT", null, target.getId()));
+    }
+
+    @Benchmark
+    public AccountResponse mapToResponse() {
+        return accountService.mapToResponse(source);
+    }
+
+    @Benchmark
+    public String generateAccountNumber() {
+        return accountService.generateAccountNumber();
+    }
+
+    /**
+     * How numbers were generated before {@link AccountNumberGenerator}: a new {@link SecureRandom} and twelve
+     * draws per number. Kept as the baseline to compare against.
+     */
+    @Benchmark
+    public String generateAccountNumberPerCallRandom() {
+        SecureRandom random = new SecureRandom();
+        StringBuilder sb = new StringBuilder("ACC");
+        for (int i = 0; i < 12; i++) {
+            sb.append(random.nextInt(10));
+        }
+        return sb.toString();
+    }
+
+    private Account account(String number) {
+        Account account = Account.builder()
+                .id(UUID.randomUUID())
+                .accountNumber(number)
+                .holderName("Benchmark Holder")
+                .accountType(AccountType.CHECKING)
+                .balance(new BigDecimal("1000000.00"))
+                .status(AccountStatus.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        accounts.put(account.getId(), account);
+        return account;
+    }
+
+    private static TransactionEvent event(String type, UUID sourceId, UUID targetId) {
+        return TransactionEvent.builder()
+                .transactionId(UUID.randomUUID())
+                .transactionType(type)
+                .sourceAccountId(sourceId)
+                .targetAccountId(targetId)
+                .amount(new BigDecimal("12.50"))
+                .status("PENDING")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
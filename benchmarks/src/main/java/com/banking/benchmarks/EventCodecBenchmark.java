@@ -0,0 +1,85 @@
+package com.banking.benchmarks;
+
+import com.banking.events.TransactionEvent;
+import com.banking.events.codec.BinaryEventMessageConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of a transfer event through the JSON converter the services used so far and the
+ * binary event converter. Payload sizes are printed once per trial.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar EventCodecBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EventCodecBenchmark {
+
+    private final MessageConverter json = new Jackson2JsonMessageConverter();
+    private final MessageConverter binary = new BinaryEventMessageConverter();
+
+    private TransactionEvent event;
+    private Message jsonMessage;
+    private Message binaryMessage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        event = TransactionEvent.builder()
+                .transactionId(UUID.randomUUID())
+                .transactionType("TRANSFER")
+                .sourceAccountId(UUID.randomUUID())
+                .targetAccountId(UUID.randomUUID())
+                .amount(new BigDecimal("1250.75"))
+                .status("COMPLETED")
+                .description("Monthly rent")
+                .timestamp(LocalDateTime.now())
+                .build();
+        jsonMessage = json.toMessage(event, new MessageProperties());
+        binaryMessage = binary.toMessage(event, new MessageProperties());
+        String typeId = jsonMessage.getMessageProperties().getHeader("__TypeId__");
+        System.out.printf("%nPayload bytes: json=%d (+ __TypeId__ header %d) binary=%d%n",
+                jsonMessage.getBody().length, typeId.length(), binaryMessage.getBody().length);
+    }
+
+    @Benchmark
+    public Message jsonEncode() {
+        return json.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return json.fromMessage(jsonMessage);
+    }
+
+    @Benchmark
+    public Message binaryEncode() {
+        return binary.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object binaryDecode() {
+        return binary.fromMessage(binaryMessage);
+    }
+}
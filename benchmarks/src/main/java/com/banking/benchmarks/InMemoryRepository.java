@@ -0,0 +1,46 @@
+package com.banking.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Stands in for a Spring Data repository interface with the few methods a benchmark calls, given by name; any
+ * other method throws. Keeps the database out of service benchmarks without mocking frameworks.
+ */
+public final class InMemoryRepository<R> {
+
+    private final Class<R> type;
+    private final Map<String, Function<Object[], Object>> methods = new HashMap<>();
+
+    private InMemoryRepository(Class<R> type) {
+        this.type = type;
+    }
+
+    public static <R> InMemoryRepository<R> of(Class<R> type) {
+        return new InMemoryRepository<>(type);
+    }
+
+    public InMemoryRepository<R> on(String method, Function<Object[], Object> body) {
+        methods.put(method, body);
+        return this;
+    }
+
+    public R build() {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> body = methods.get(method.getName());
+            if (body != null) {
+                return body.apply(args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + " (in memory)";
+                };
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+        }));
+    }
+}
@@ -0,0 +1,75 @@
+package com.banking.benchmarks;
+
+import com.banking.events.TransactionEvent;
+import com.banking.notification.channel.Notification;
+import com.banking.notification.template.NotificationTemplates;
+import com.banking.notification.template.TemplateProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a failed-transfer notification message with {@code String.format}, as notification-service
+ * did, and with the compiled templates, both as a new string and appended to a reused buffer. Run with
+ * {@code -prof gc} to compare allocation.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar NotificationTemplateBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NotificationTemplateBenchmark {
+
+    private final StringBuilder buffer = new StringBuilder(256);
+
+    private NotificationTemplates templates;
+    private TransactionEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        templates = new NotificationTemplates(new TemplateProperties(), new SimpleMeterRegistry());
+        event = TransactionEvent.builder()
+                .transactionId(UUID.randomUUID())
+                .transactionType("WITHDRAWAL")
+                .sourceAccountId(UUID.randomUUID())
+                .amount(new BigDecimal("1250.75"))
+                .status("FAILED")
+                .errorMessage("Insufficient funds")
+                .build();
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format("Your %s of $%s has failed. Reason: %s",
+                event.getTransactionType().toLowerCase(), event.getAmount(), event.getErrorMessage());
+    }
+
+    @Benchmark
+    public String template() {
+        return templates.render(event, Notification.Kind.FAILED, Locale.ENGLISH);
+    }
+
+    @Benchmark
+    public StringBuilder templateIntoBuffer() {
+        buffer.setLength(0);
+        templates.render(event, Notification.Kind.FAILED, Locale.ENGLISH, buffer);
+        return buffer;
+    }
+}
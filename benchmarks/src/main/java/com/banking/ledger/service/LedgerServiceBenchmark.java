@@ -0,0 +1,132 @@
+package com.banking.ledger.service;
+
+import com.banking.benchmarks.InMemoryRepository;
+import com.banking.events.TransactionEvent;
+import com.banking.ledger.dto.LedgerEntryResponse;
+import com.banking.ledger.journal.LedgerJournal;
+import com.banking.ledger.model.EntryType;
+import com.banking.ledger.model.LedgerEntry;
+import com.banking.ledger.model.TransactionType;
+import com.banking.ledger.repository.LedgerEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ledger entry creation for a batch of transfers, as the listener and the journal flusher post them, with the
+ * repository in memory: posted-id and balance lookups, building the double entries, saving. Also the entry to
+ * response mapping.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar LedgerServiceBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LedgerServiceBenchmark {
+
+    private static final int ACCOUNTS = 100;
+
+    private final Map<UUID, BigDecimal> latestBalances = new HashMap<>();
+    private final List<UUID> accountIds = new ArrayList<>();
+
+    private LedgerService ledgerService;
+    private LedgerEntry entry;
+    private int next;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        for (int i = 0; i < ACCOUNTS; i++) {
+            UUID accountId = UUID.randomUUID();
+            accountIds.add(accountId);
+            latestBalances.put(accountId, new BigDecimal("1000000.00"));
+        }
+        LedgerEntryRepository repository = InMemoryRepository.of(LedgerEntryRepository.class)
+                // Every event carries a fresh id, so none is posted yet.
+                .on("findPostedTransactionIds", args -> List.of())
+                .on("findLatestBalancesByAccountIds", args -> {
+                    List<Object[]> rows = new ArrayList<>();
+                    for (UUID accountId : (Collection<UUID>) args[0]) {
+                        rows.add(new Object[]{accountId, latestBalances.get(accountId)});
+                    }
+                    return rows;
+                })
+                .on("saveAll", args -> {
+                    List<LedgerEntry> saved = new ArrayList<>();
+                    for (LedgerEntry saving : (Iterable<LedgerEntry>) args[0]) {
+                        latestBalances.put(saving.getAccountId(), saving.getBalanceAfter());
+                        saved.add(saving);
+                    }
+                    return saved;
+                })
+                .build();
+        ledgerService = new LedgerService(repository, null, null,
+                new StaticListableBeanFactory().getBeanProvider(LedgerJournal.class), new SimpleMeterRegistry());
+        entry = LedgerEntry.builder()
+                .id(UUID.randomUUID())
+                .accountId(accountIds.get(0))
+                .transactionId(UUID.randomUUID())
+                .transactionType(TransactionType.TRANSFER)
+                .entryType(EntryType.DEBIT)
+                .amount(new BigDecimal("12.50"))
+                .balanceAfter(new BigDecimal("987.50"))
+                .description("Transfer out: rent")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public void postTransfers(Batch batch) {
+        List<TransactionEvent> events = new ArrayList<>(batch.size);
+        for (int i = 0; i < batch.size; i++) {
+            UUID source = accountIds.get(next++ % ACCOUNTS);
+            UUID target = accountIds.get(next % ACCOUNTS);
+            events.add(TransactionEvent.builder()
+                    .transactionId(UUID.randomUUID())
+                    .transactionType("TRANSFER")
+                    .sourceAccountId(source)
+                    .targetAccountId(target)
+                    .amount(new BigDecimal("12.50"))
+                    .status("COMPLETED")
+                    .description("rent")
+                    .timestamp(LocalDateTime.now())
+                    .build());
+        }
+        ledgerService.postEvents(events);
+    }
+
+    @Benchmark
+    public LedgerEntryResponse mapToResponse() {
+        return ledgerService.mapToResponse(entry);
+    }
+
+    @State(Scope.Thread)
+    public static class Batch {
+        @Param({"1", "50"})
+        public int size;
+    }
+}
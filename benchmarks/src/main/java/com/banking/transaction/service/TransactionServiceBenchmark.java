@@ -0,0 +1,62 @@
+package com.banking.transaction.service;
+
+import com.banking.transaction.dto.TransactionResponse;
+import com.banking.transaction.model.Transaction;
+import com.banking.transaction.model.TransactionStatus;
+import com.banking.transaction.model.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping a transaction to its response, done for every transaction the API returns.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar TransactionServiceBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionServiceBenchmark {
+
+    private TransactionService transactionService;
+    private Transaction transaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        transactionService = new TransactionService(null, null, new SimpleMeterRegistry());
+        transaction = Transaction.builder()
+                .id(UUID.randomUUID())
+                .type(TransactionType.TRANSFER)
+                .sourceAccountId(UUID.randomUUID())
+                .targetAccountId(UUID.randomUUID())
+                .amount(new BigDecimal("12.50"))
+                .status(TransactionStatus.COMPLETED)
+                .reference("TXN-BENCH-0001")
+                .description("rent")
+                .createdAt(LocalDateTime.now())
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public TransactionResponse mapToResponse() {
+        return transactionService.mapToResponse(transaction);
+    }
+}
@@ -1,24 +1,77 @@
 package com.banking.ledger.config;
 
+import com.banking.events.codec.EventMessageConverters;
+import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitMQConfig {
 
+    @Value("${rabbitmq.exchange.name}")
+    private String exchangeName;
+
+    @Value("${rabbitmq.queue.transaction-completed}")
+    private String transactionCompletedQueue;
+
+    @Value("${rabbitmq.routing-key.transaction-completed}")
+    private String transactionCompletedRoutingKey;
+
+    @Value("${rabbitmq.wire-format:json}")
+    private EventMessageConverters.WireFormat wireFormat;
+
+    @Bean
+    public TopicExchange exchange() {
+        return new TopicExchange(exchangeName);
+    }
+
+    @Bean
+    public TopicExchange deadLetterExchange() {
+        return new TopicExchange(exchangeName + ".dlx");
+    }
+
+    // The ledger's own copy of every completed event, independent of other consumers.
+    @Bean
+    public Queue transactionCompletedQueue() {
+        return QueueBuilder.durable(transactionCompletedQueue)
+                .withArgument("x-dead-letter-exchange", exchangeName + ".dlx")
+                .withArgument("x-dead-letter-routing-key", transactionCompletedQueue)
+                .build();
+    }
+
+    @Bean
+    public Binding transactionCompletedBinding(Queue transactionCompletedQueue, TopicExchange exchange) {
+        return BindingBuilder.bind(transactionCompletedQueue)
+                .to(exchange)
+                .with(transactionCompletedRoutingKey);
+    }
+
+    @Bean
+    public Queue transactionCompletedDeadLetterQueue() {
+        return QueueBuilder.durable(transactionCompletedQueue + ".dlq").build();
+    }
+
+    @Bean
+    public Binding transactionCompletedDeadLetterBinding(Queue transactionCompletedDeadLetterQueue,
+                                                         TopicExchange deadLetterExchange) {
+        return BindingBuilder.bind(transactionCompletedDeadLetterQueue)
+                .to(deadLetterExchange)
+                .with(transactionCompletedQueue);
+    }
+
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public MessageConverter messageConverter() {
+        return EventMessageConverters.create(wireFormat);
     }
 
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(jsonMessageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter());
         return rabbitTemplate;
     }
 }
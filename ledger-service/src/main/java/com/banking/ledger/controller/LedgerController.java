@@ -1,17 +1,29 @@
 package com.banking.ledger.controller;
 
+import com.banking.ledger.dto.BalanceAsOfRequest;
+import com.banking.ledger.dto.BalanceAsOfResponse;
+import com.banking.ledger.dto.CursorPage;
 import com.banking.ledger.dto.LedgerEntryResponse;
+import com.banking.ledger.dto.StatementFormat;
+import com.banking.ledger.service.BalanceSnapshotService;
 import com.banking.ledger.service.LedgerService;
+import com.banking.ledger.service.LedgerStatementService;
 import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -23,6 +35,8 @@ import java.util.UUID;
 public class LedgerController {
 
     private final LedgerService ledgerService;
+    private final LedgerStatementService ledgerStatementService;
+    private final BalanceSnapshotService balanceSnapshotService;
 
     @GetMapping("/account/{accountId}")
     @Timed(value = "banking.ledger.get.account", description = "Time taken to get account ledger")
@@ -32,6 +46,30 @@ public class LedgerController {
         return ResponseEntity.ok(entries);
     }
 
+    @GetMapping("/account/{accountId}/statement")
+    @Timed(value = "banking.ledger.get.statement", description = "Time taken to start a statement export")
+    public ResponseEntity<StreamingResponseBody> exportStatement(
+            @PathVariable UUID accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format) {
+        log.debug("REST request to export statement for account: {}, from={}, to={}, format={}",
+                accountId, from, to, format);
+        StatementFormat statementFormat = StatementFormat.fromValue(format);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+
+        StreamingResponseBody body = out ->
+                ledgerStatementService.writeStatement(accountId, from, to, statementFormat, out);
+        String filename = "statement-" + accountId + "." + statementFormat.getFileExtension();
+        return ResponseEntity.ok()
+                .contentType(statementFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     @GetMapping("/account/{accountId}/paginated")
     @Timed(value = "banking.ledger.get.account.paginated", description = "Time taken to get paginated account ledger")
     public ResponseEntity<Page<LedgerEntryResponse>> getAccountLedgerPaginated(
@@ -42,6 +80,29 @@ public class LedgerController {
         return ResponseEntity.ok(entries);
     }
 
+    @GetMapping("/account/{accountId}/cursor")
+    @Timed(value = "banking.ledger.get.account.cursor", description = "Time taken to get a keyset page of an account ledger")
+    public ResponseEntity<CursorPage<LedgerEntryResponse>> getAccountLedgerPage(
+            @PathVariable UUID accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.debug("REST request to get keyset page of ledger for account: {}", accountId);
+        CursorPage<LedgerEntryResponse> page = ledgerService.getAccountLedgerPage(accountId, cursor, size, includeTotal);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/entries/cursor")
+    @Timed(value = "banking.ledger.get.all.cursor", description = "Time taken to get a keyset page of all ledger entries")
+    public ResponseEntity<CursorPage<LedgerEntryResponse>> getEntriesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.debug("REST request to get keyset page of all ledger entries");
+        CursorPage<LedgerEntryResponse> page = ledgerService.getEntriesPage(cursor, size, includeTotal);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/entries")
     @Timed(value = "banking.ledger.get.all", description = "Time taken to get all ledger entries")
     public ResponseEntity<Page<LedgerEntryResponse>> getAllEntries(
@@ -53,11 +114,28 @@ public class LedgerController {
 
     @GetMapping("/balance/{accountId}")
     @Timed(value = "banking.ledger.get.balance", description = "Time taken to calculate balance from ledger")
-    public ResponseEntity<Map<String, Object>> getAccountBalance(@PathVariable UUID accountId) {
-        log.debug("REST request to calculate balance for account: {}", accountId);
+    public ResponseEntity<Map<String, Object>> getAccountBalance(
+            @PathVariable UUID accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        log.debug("REST request to calculate balance for account: {}, asOf={}", accountId, asOf);
+        if (asOf != null) {
+            BalanceAsOfResponse response = balanceSnapshotService.getBalanceAsOf(accountId, asOf);
+            return ResponseEntity.ok(Map.of(
+                    "accountId", accountId,
+                    "asOf", asOf,
+                    "balance", response.getBalance()));
+        }
         BigDecimal balance = ledgerService.getAccountBalance(accountId);
         return ResponseEntity.ok(Map.of(
                 "accountId", accountId,
                 "balance", balance));
     }
+
+    @PostMapping("/balance/as-of")
+    @Timed(value = "banking.ledger.get.balance.bulk", description = "Time taken to calculate as-of balances in bulk")
+    public ResponseEntity<List<BalanceAsOfResponse>> getBalancesAsOf(@Valid @RequestBody BalanceAsOfRequest request) {
+        log.debug("REST request to calculate balances as of {} for {} accounts",
+                request.getAsOf(), request.getAccountIds().size());
+        return ResponseEntity.ok(balanceSnapshotService.getBalancesAsOf(request.getAccountIds(), request.getAsOf()));
+    }
 }
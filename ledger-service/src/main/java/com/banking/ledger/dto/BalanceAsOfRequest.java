@@ -0,0 +1,25 @@
+package com.banking.ledger.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceAsOfRequest {
+
+    @NotEmpty(message = "At least one account ID is required")
+    private List<UUID> accountIds;
+
+    @NotNull(message = "As-of date is required")
+    private LocalDate asOf;
+}
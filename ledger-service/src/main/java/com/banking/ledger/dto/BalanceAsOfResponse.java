@@ -0,0 +1,21 @@
+package com.banking.ledger.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceAsOfResponse {
+    private UUID accountId;
+    private LocalDate asOf;
+    private BigDecimal balance;
+    private LocalDate snapshotDate;
+}
@@ -0,0 +1,31 @@
+package com.banking.ledger.job;
+
+import com.banking.ledger.service.BalanceSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceSnapshotJob {
+
+    private final BalanceSnapshotService balanceSnapshotService;
+
+    @Scheduled(cron = "${ledger.snapshot.cron:0 15 0 * * *}")
+    public void createSnapshots() {
+        LocalDate lastCompleteDay = LocalDate.now().minusDays(1);
+        log.info("Starting balance snapshot job up to {}", lastCompleteDay);
+
+        // Catches up one day per transaction if earlier runs were missed.
+        Optional<LocalDate> next = balanceSnapshotService.nextDayToSnapshot();
+        while (next.isPresent() && !next.get().isAfter(lastCompleteDay)) {
+            balanceSnapshotService.snapshotDay(next.get());
+            next = balanceSnapshotService.nextDayToSnapshot();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.banking.ledger.job;
+
+import com.banking.ledger.service.TransferInvariantService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransferInvariantJob {
+
+    private final TransferInvariantService transferInvariantService;
+
+    // Entries younger than this may still belong to uncommitted transactions, so they are left for a later run.
+    @Value("${ledger.invariant.settle-delay:PT5M}")
+    private Duration settleDelay;
+
+    @Value("${ledger.invariant.window:PT1H}")
+    private Duration window;
+
+    @Scheduled(fixedDelayString = "${ledger.invariant.interval-ms:60000}")
+    public void checkTransfers() {
+        LocalDateTime upTo = LocalDateTime.now().minus(settleDelay);
+        Optional<LocalDateTime> next = transferInvariantService.nextWindowStart();
+        while (next.isPresent() && next.get().isBefore(upTo)) {
+            LocalDateTime from = next.get();
+            LocalDateTime to = from.plus(window).isBefore(upTo) ? from.plus(window) : upTo;
+            transferInvariantService.checkWindow(from, to);
+            next = Optional.of(to);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.banking.ledger.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Persists the position up to which journal records have been committed to the database.
+ */
+public class JournalCheckpoint {
+
+    static final String FILE_NAME = "checkpoint";
+
+    private final Path file;
+    private final Path tempFile;
+
+    public JournalCheckpoint(Path directory) {
+        this.file = directory.resolve(FILE_NAME);
+        this.tempFile = directory.resolve(FILE_NAME + ".tmp");
+    }
+
+    public Optional<JournalPosition> read() throws IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        String[] parts = Files.readString(file, StandardCharsets.US_ASCII).trim().split(" ");
+        return Optional.of(new JournalPosition(Long.parseLong(parts[0]), Integer.parseInt(parts[1])));
+    }
+
+    public void write(JournalPosition position) throws IOException {
+        byte[] content = (position.segment() + " " + position.offset() + "\n").getBytes(StandardCharsets.US_ASCII);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(content));
+            channel.force(true);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
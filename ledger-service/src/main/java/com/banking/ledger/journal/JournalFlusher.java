@@ -0,0 +1,211 @@
+package com.banking.ledger.journal;
+
+import com.banking.events.TransactionEvent;
+import com.banking.ledger.service.LedgerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies durable journal records into Postgres in large batches and advances the checkpoint after
+ * each committed batch. On startup it resumes from the checkpoint, which replays whatever earlier
+ * runs left unflushed; records that were posted but not checkpointed are skipped by
+ * {@link LedgerService#postEvents} because it ignores transactions that already have entries.
+ * <p>
+ * A record failing its checksum is only skipped as the last record of a segment from an earlier run, where a
+ * crash can leave a record torn. Anywhere else the flusher halts with the checkpoint at that record and leaves
+ * the journal as it is for an operator to inspect.
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.journal.enabled", havingValue = "true")
+@Slf4j
+public class JournalFlusher {
+
+    private final LedgerJournal journal;
+    private final LedgerService ledgerService;
+    private final ObjectMapper objectMapper;
+    private final JournalCheckpoint checkpoint;
+    private final int batchSize;
+    private final long intervalMs;
+    private final Counter flushedCounter;
+    private final Counter corruptCounter;
+    private final ScheduledExecutorService executor =
+            Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "ledger-journal-flusher"));
+
+    private volatile JournalPosition flushed;
+    private volatile boolean halted;
+    private JournalSegment reader;
+
+    public JournalFlusher(LedgerJournal journal,
+                          LedgerService ledgerService,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${ledger.journal.flush-batch-size:500}") int batchSize,
+                          @Value("${ledger.journal.flush-interval-ms:50}") long intervalMs) {
+        this.journal = journal;
+        this.ledgerService = ledgerService;
+        this.objectMapper = objectMapper;
+        this.checkpoint = new JournalCheckpoint(journal.getDirectory());
+        this.batchSize = batchSize;
+        this.intervalMs = intervalMs;
+        this.flushedCounter = Counter.builder("banking_ledger_journal_flushed_records_total")
+                .description("Total number of journal records flushed to the database")
+                .register(meterRegistry);
+        this.corruptCounter = Counter.builder("banking_ledger_journal_corrupt_records_total")
+                .description("Total number of journal records failing their checksum")
+                .register(meterRegistry);
+        Gauge.builder("banking_ledger_journal_flusher_halted", this, flusher -> flusher.halted ? 1 : 0)
+                .description("1 while flushing is halted on a corrupt journal record")
+                .register(meterRegistry);
+        Gauge.builder("banking_ledger_journal_flush_lag_bytes", this, JournalFlusher::lagBytes)
+                .description("Approximate number of durable journal bytes not yet flushed to the database")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        resume();
+        executor.scheduleWithFixedDelay(this::flushSafely, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    void resume() throws IOException {
+        List<Path> segments = journal.listSegments();
+        JournalPosition first = new JournalPosition(JournalSegment.sequenceOf(segments.get(0)), 0);
+        flushed = checkpoint.read()
+                .filter(position -> position.compareTo(first) >= 0)
+                .orElse(first);
+        log.info("Ledger journal flusher resuming from {}", flushed);
+    }
+
+    private void flushSafely() {
+        if (halted) {
+            return;
+        }
+        try {
+            while (flushBatch() == batchSize) {
+                // Keep draining while full batches are available.
+            }
+        } catch (JournalCorruptedException e) {
+            halted = true;
+            executor.shutdown();
+            log.error("Ledger journal flushing HALTED: {}. Records from {} on are not posted; the journal and its "
+                    + "checkpoint are left in place for inspection with JournalInspector.", e.getMessage(), flushed);
+        } catch (Exception e) {
+            // The checkpoint was not advanced, so the same records are retried on the next run.
+            log.error("Failed to flush ledger journal from {}: {}", flushed, e.getMessage(), e);
+        }
+    }
+
+    int flushBatch() throws IOException {
+        JournalPosition durable = journal.getDurablePosition();
+        JournalPosition position = flushed;
+        List<TransactionEvent> events = new ArrayList<>();
+        JournalRecord corrupt = null;
+
+        while (events.size() < batchSize && position.compareTo(durable) < 0) {
+            JournalSegment segment = readerFor(position.segment());
+            JournalRecord record = segment.read(position.offset());
+            if (record == null) {
+                if (position.segment() == durable.segment()) {
+                    break;
+                }
+                position = new JournalPosition(position.segment() + 1, 0);
+                continue;
+            }
+            if (!record.checksumValid()) {
+                corruptCounter.increment();
+                if (position.segment() != durable.segment() && segment.read(record.nextOffset()) == null) {
+                    log.warn("Skipping torn record at the end of journal segment {}, offset {}",
+                            record.segment(), record.offset());
+                    position = new JournalPosition(position.segment() + 1, 0);
+                    continue;
+                }
+                corrupt = record;
+                break;
+            }
+            events.add(objectMapper.readValue(record.payload(), TransactionEvent.class));
+            position = new JournalPosition(record.segment(), record.nextOffset());
+        }
+
+        if (!events.isEmpty()) {
+            ledgerService.postEvents(events);
+            flushedCounter.increment(events.size());
+        }
+        if (!position.equals(flushed)) {
+            checkpoint.write(position);
+            deleteSegmentsBefore(position.segment());
+            flushed = position;
+        }
+        if (corrupt != null) {
+            throw new JournalCorruptedException("checksum mismatch in journal segment " + corrupt.segment()
+                    + " at offset " + corrupt.offset() + ", followed by further records");
+        }
+        return events.size();
+    }
+
+    boolean isHalted() {
+        return halted;
+    }
+
+    private JournalSegment readerFor(long sequence) throws IOException {
+        if (reader == null || reader.getSequence() != sequence) {
+            if (reader != null) {
+                reader.close();
+            }
+            reader = JournalSegment.openReadOnly(journal.getDirectory().resolve(JournalSegment.fileName(sequence)));
+        }
+        return reader;
+    }
+
+    private void deleteSegmentsBefore(long sequence) throws IOException {
+        for (Path segment : journal.listSegments()) {
+            if (JournalSegment.sequenceOf(segment) < sequence) {
+                Files.deleteIfExists(segment);
+                log.info("Deleted flushed journal segment {}", segment.getFileName());
+            }
+        }
+    }
+
+    private double lagBytes() {
+        JournalPosition durable = journal.getDurablePosition();
+        JournalPosition position = flushed;
+        if (position == null) {
+            return 0;
+        }
+        return (double) (durable.segment() - position.segment()) * journal.getSegmentSize()
+                + durable.offset() - position.offset();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        // One last pass so a clean shutdown leaves nothing to replay.
+        flushSafely();
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    public static class JournalCorruptedException extends RuntimeException {
+        public JournalCorruptedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.banking.ledger.journal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Prints the records of journal segments and verifies their checksums.
+ * <p>
+ * Usage: {@code java -cp ledger-service.jar com.banking.ledger.journal.JournalInspector <directory|segment>... [--summary]}
+ */
+public final class JournalInspector {
+
+    private JournalInspector() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: JournalInspector <directory|segment>... [--summary]");
+            System.exit(2);
+        }
+        boolean summaryOnly = false;
+        List<Path> segments = new ArrayList<>();
+        for (String arg : args) {
+            if ("--summary".equals(arg)) {
+                summaryOnly = true;
+                continue;
+            }
+            Path path = Paths.get(arg);
+            if (Files.isDirectory(path)) {
+                new JournalCheckpoint(path).read()
+                        .ifPresent(position -> System.out.printf("checkpoint segment=%d offset=%d%n",
+                                position.segment(), position.offset()));
+                try (Stream<Path> files = Files.list(path)) {
+                    files.filter(JournalSegment::isSegmentFile).sorted().forEach(segments::add);
+                }
+            } else {
+                segments.add(path);
+            }
+        }
+
+        boolean corrupt = false;
+        for (Path path : segments) {
+            corrupt |= inspect(path, summaryOnly);
+        }
+        System.exit(corrupt ? 1 : 0);
+    }
+
+    private static boolean inspect(Path path, boolean summaryOnly) throws IOException {
+        int records = 0;
+        long payloadBytes = 0;
+        boolean corrupt = false;
+        try (JournalSegment segment = JournalSegment.openReadOnly(path)) {
+            int offset = 0;
+            JournalRecord record;
+            while ((record = segment.read(offset)) != null) {
+                if (!record.checksumValid()) {
+                    System.out.printf("segment=%d offset=%d length=%d crc=MISMATCH%n",
+                            record.segment(), record.offset(), record.payload().length);
+                    corrupt = true;
+                    break;
+                }
+                records++;
+                payloadBytes += record.payload().length;
+                if (!summaryOnly) {
+                    System.out.printf("segment=%d offset=%d length=%d crc=OK %s%n",
+                            record.segment(), record.offset(), record.payload().length,
+                            new String(record.payload(), StandardCharsets.UTF_8));
+                }
+                offset = record.nextOffset();
+            }
+            System.out.printf("%s: records=%d payloadBytes=%d end=%d%s%n", path.getFileName(), records,
+                    payloadBytes, offset, corrupt ? " CORRUPT" : "");
+        }
+        return corrupt;
+    }
+}
@@ -0,0 +1,4 @@
+package com.banking.ledger.journal;
+
+public record JournalRecord(long segment, int offset, int nextOffset, byte[] payload, boolean checksumValid) {
+}
@@ -0,0 +1,125 @@
+package com.banking.ledger.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * A fixed-size, memory-mapped journal file. Records are laid out back to back as
+ * {@code [int length][int crc32c][payload]}; the zero-filled remainder of the file marks the end of data.
+ */
+public class JournalSegment implements AutoCloseable {
+
+    static final int HEADER_SIZE = 8;
+    private static final String SUFFIX = ".journal";
+
+    private final long sequence;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+
+    private JournalSegment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.sequence = sequence;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    public static JournalSegment create(Path directory, long sequence, int size) throws IOException {
+        Path path = directory.resolve(fileName(sequence));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        return new JournalSegment(sequence, path, channel, buffer);
+    }
+
+    public static JournalSegment openReadOnly(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Files.size(path));
+        return new JournalSegment(sequenceOf(path), path, channel, buffer);
+    }
+
+    public static String fileName(long sequence) {
+        return String.format("%020d%s", sequence, SUFFIX);
+    }
+
+    public static boolean isSegmentFile(Path path) {
+        return path.getFileName().toString().endsWith(SUFFIX);
+    }
+
+    public static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getWritePosition() {
+        return writePosition;
+    }
+
+    public boolean hasRoomFor(int payloadLength) {
+        return (long) writePosition + HEADER_SIZE + payloadLength <= buffer.capacity();
+    }
+
+    /**
+     * Copies the record into the mapping and returns the offset just past it. Not durable until {@link #force}.
+     */
+    public int append(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        int offset = writePosition;
+        // Payload and checksum go in before the length so a reader never sees a length without its data.
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        buffer.put(offset + HEADER_SIZE, payload);
+        buffer.putInt(offset, payload.length);
+        writePosition = offset + HEADER_SIZE + payload.length;
+        return writePosition;
+    }
+
+    public void force(int from, int to) {
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+    }
+
+    public void forceAll() {
+        buffer.force();
+    }
+
+    /**
+     * Reads the record at {@code offset}, or returns {@code null} when no further record was written there.
+     */
+    public JournalRecord read(int offset) {
+        if ((long) offset + HEADER_SIZE > buffer.capacity()) {
+            return null;
+        }
+        int length = buffer.getInt(offset);
+        if (length <= 0 || (long) offset + HEADER_SIZE + length > buffer.capacity()) {
+            return null;
+        }
+        int storedCrc = buffer.getInt(offset + 4);
+        byte[] payload = new byte[length];
+        buffer.get(offset + HEADER_SIZE, payload);
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        boolean valid = (int) crc.getValue() == storedCrc;
+        return new JournalRecord(sequence, offset, offset + HEADER_SIZE + length, payload, valid);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,241 @@
+package com.banking.ledger.journal;
+
+import com.banking.events.TransactionEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Local write-ahead journal for completed transaction events. Appends are copied into the active
+ * memory-mapped segment and acknowledged once a background syncer has forced them to disk; every
+ * append that arrives while a force is running is covered by the next one (group commit).
+ * {@link JournalFlusher} moves durable records into Postgres.
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.journal.enabled", havingValue = "true")
+@Slf4j
+public class LedgerJournal {
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int segmentSize;
+    private final long appendTimeoutMs;
+    private final Timer appendTimer;
+    private final DistributionSummary syncBatchSize;
+
+    private final Object lock = new Object();
+    private List<CompletableFuture<Void>> pending = new ArrayList<>();
+    private JournalSegment active;
+    private int forcedUpTo;
+    private JournalPosition written;
+    private volatile JournalPosition durable;
+    private volatile boolean running;
+    private Thread syncer;
+
+    public LedgerJournal(ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${ledger.journal.directory:./data/ledger-journal}") String directory,
+                         @Value("${ledger.journal.segment-size:67108864}") int segmentSize,
+                         @Value("${ledger.journal.append-timeout-ms:5000}") long appendTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSize;
+        this.appendTimeoutMs = appendTimeoutMs;
+        this.appendTimer = Timer.builder("banking_ledger_journal_append_seconds")
+                .description("Time from journal append until the record is durable")
+                .register(meterRegistry);
+        this.syncBatchSize = DistributionSummary.builder("banking_ledger_journal_sync_batch_size")
+                .description("Number of appends made durable by a single force")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        // Never append to a segment left by a previous run: its tail may hold a torn record.
+        long nextSequence = listSegments().stream()
+                .mapToLong(JournalSegment::sequenceOf)
+                .max()
+                .orElse(0L) + 1;
+        active = JournalSegment.create(directory, nextSequence, segmentSize);
+        written = new JournalPosition(nextSequence, 0);
+        durable = written;
+        running = true;
+        syncer = new Thread(this::syncLoop, "ledger-journal-syncer");
+        syncer.setDaemon(true);
+        syncer.start();
+        log.info("Ledger journal started: directory={}, activeSegment={}", directory, nextSequence);
+    }
+
+    /**
+     * Appends the event and blocks until it is durable, so the caller may acknowledge the source message.
+     */
+    public void appendAndAwait(TransactionEvent event) {
+        try {
+            append(event).get(appendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JournalException("Interrupted while waiting for journal sync", e);
+        } catch (ExecutionException e) {
+            throw new JournalException("Journal sync failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new JournalException("Journal sync timed out after " + appendTimeoutMs + "ms", e);
+        }
+    }
+
+    public CompletableFuture<Void> append(TransactionEvent event) {
+        byte[] payload = serialize(event);
+        if (payload.length + JournalSegment.HEADER_SIZE > segmentSize) {
+            throw new JournalException("Event of " + payload.length + " bytes does not fit in a journal segment");
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        long startNanos = System.nanoTime();
+        future.whenComplete((ignored, error) -> appendTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+        synchronized (lock) {
+            if (!running) {
+                throw new JournalException("Journal is closed");
+            }
+            if (!active.hasRoomFor(payload.length)) {
+                rotate();
+            }
+            int end = active.append(payload);
+            written = new JournalPosition(active.getSequence(), end);
+            pending.add(future);
+            lock.notifyAll();
+        }
+        return future;
+    }
+
+    /**
+     * Position up to which every record has been forced to disk.
+     */
+    public JournalPosition getDurablePosition() {
+        return durable;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(JournalSegment::isSegmentFile)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    // Called with the lock held.
+    private void rotate() {
+        try {
+            active.forceAll();
+            active.close();
+            long nextSequence = active.getSequence() + 1;
+            active = JournalSegment.create(directory, nextSequence, segmentSize);
+            forcedUpTo = 0;
+            log.info("Rotated ledger journal to segment {}", nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rotate journal segment", e);
+        }
+    }
+
+    private void syncLoop() {
+        while (true) {
+            List<CompletableFuture<Void>> batch;
+            JournalSegment segment;
+            JournalPosition target;
+            int from;
+            synchronized (lock) {
+                while (pending.isEmpty() && running) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new ArrayList<>();
+                segment = active;
+                target = written;
+                from = forcedUpTo;
+            }
+            try {
+                // Appends continue into the mapping while the force runs; they join the next batch.
+                segment.force(from, target.offset());
+                synchronized (lock) {
+                    if (active == segment) {
+                        forcedUpTo = Math.max(forcedUpTo, target.offset());
+                    }
+                }
+                durable = target;
+                syncBatchSize.record(batch.size());
+                batch.forEach(future -> future.complete(null));
+            } catch (RuntimeException e) {
+                log.error("Failed to sync ledger journal: {}", e.getMessage(), e);
+                batch.forEach(future -> future.completeExceptionally(e));
+            }
+        }
+    }
+
+    private byte[] serialize(TransactionEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new JournalException("Failed to serialize transaction event", e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        synchronized (lock) {
+            running = false;
+            lock.notifyAll();
+        }
+        // The syncer drains outstanding appends before it exits.
+        syncer.join(TimeUnit.SECONDS.toMillis(10));
+        synchronized (lock) {
+            active.forceAll();
+            active.close();
+        }
+        log.info("Ledger journal stopped at {}", durable);
+    }
+
+    public static class JournalException extends RuntimeException {
+        public JournalException(String message) {
+            super(message);
+        }
+
+        public JournalException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
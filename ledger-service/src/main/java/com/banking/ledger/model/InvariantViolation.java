@@ -0,0 +1,42 @@
+package com.banking.ledger.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "ledger_invariant_violations")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvariantViolation {
+
+    @Id
+    @Column(name = "transaction_id")
+    private UUID transactionId;
+
+    @Column(name = "debit_count", nullable = false)
+    private int debitCount;
+
+    @Column(name = "credit_count", nullable = false)
+    private int creditCount;
+
+    @Column(name = "debit_total", precision = 15, scale = 2, nullable = false)
+    private BigDecimal debitTotal;
+
+    @Column(name = "credit_total", precision = 15, scale = 2, nullable = false)
+    private BigDecimal creditTotal;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+}
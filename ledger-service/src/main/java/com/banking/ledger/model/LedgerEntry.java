@@ -29,6 +29,10 @@ public class LedgerEntry {
     @Column(name = "transaction_id", nullable = false)
     private UUID transactionId;
 
+    @Column(name = "transaction_type", length = 20)
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType;
+
     @Column(name = "entry_type", nullable = false, length = 10)
     @Enumerated(EnumType.STRING)
     private EntryType entryType;
@@ -45,4 +49,8 @@ public class LedgerEntry {
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+
+    // Assigned by the database in insertion order; orders entries that share a created_at.
+    @Column(name = "entry_seq", insertable = false, updatable = false)
+    private Long entrySeq;
 }
@@ -0,0 +1,7 @@
+package com.banking.ledger.model;
+
+public enum TransactionType {
+    DEPOSIT,
+    WITHDRAWAL,
+    TRANSFER
+}
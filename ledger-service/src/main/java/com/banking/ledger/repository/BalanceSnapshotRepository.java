@@ -0,0 +1,43 @@
+package com.banking.ledger.repository;
+
+import com.banking.ledger.model.BalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, BalanceSnapshot.SnapshotId> {
+
+    @Query(value = "SELECT DISTINCT ON (account_id) * FROM ledger_balance_snapshots " +
+            "WHERE account_id IN (:accountIds) AND snapshot_date <= :asOf " +
+            "ORDER BY account_id, snapshot_date DESC", nativeQuery = true)
+    List<BalanceSnapshot> findLatestOnOrBefore(@Param("accountIds") Collection<UUID> accountIds,
+                                               @Param("asOf") LocalDate asOf);
+
+    /**
+     * Rolls the previous snapshot of every account active on {@code day} forward by that day's net amount.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ledger_balance_snapshots (account_id, snapshot_date, balance, entry_count) " +
+            "SELECT d.account_id, :day, " +
+            "COALESCE((SELECT s.balance FROM ledger_balance_snapshots s " +
+            "WHERE s.account_id = d.account_id AND s.snapshot_date < :day " +
+            "ORDER BY s.snapshot_date DESC LIMIT 1), 0) + d.net_amount, d.entry_count " +
+            "FROM (SELECT account_id, " +
+            "SUM(CASE WHEN entry_type = 'CREDIT' THEN amount ELSE -amount END) AS net_amount, " +
+            "COUNT(*) AS entry_count FROM ledger_entries " +
+            "WHERE created_at >= :dayStart AND created_at < :dayEnd GROUP BY account_id) d " +
+            "ON CONFLICT (account_id, snapshot_date) " +
+            "DO UPDATE SET balance = EXCLUDED.balance, entry_count = EXCLUDED.entry_count", nativeQuery = true)
+    int snapshotDay(@Param("day") LocalDate day,
+                    @Param("dayStart") LocalDateTime dayStart,
+                    @Param("dayEnd") LocalDateTime dayEnd);
+}
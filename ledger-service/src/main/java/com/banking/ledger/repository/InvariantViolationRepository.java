@@ -0,0 +1,61 @@
+package com.banking.ledger.repository;
+
+import com.banking.ledger.model.InvariantViolation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface InvariantViolationRepository extends JpaRepository<InvariantViolation, UUID> {
+
+    String TRANSFERS_IN_WINDOW = "SELECT DISTINCT transaction_id FROM ledger_entries " +
+            "WHERE created_at >= :from AND created_at < :to AND transaction_type = 'TRANSFER'";
+
+    String BALANCED = "COUNT(*) FILTER (WHERE entry_type = 'DEBIT') = 1 " +
+            "AND COUNT(*) FILTER (WHERE entry_type = 'CREDIT') = 1 " +
+            "AND SUM(amount) FILTER (WHERE entry_type = 'DEBIT') = SUM(amount) FILTER (WHERE entry_type = 'CREDIT')";
+
+    String UNBALANCED_TRANSFERS = "SELECT transaction_id, " +
+            "COUNT(*) FILTER (WHERE entry_type = 'DEBIT') AS debit_count, " +
+            "COUNT(*) FILTER (WHERE entry_type = 'CREDIT') AS credit_count, " +
+            "COALESCE(SUM(amount) FILTER (WHERE entry_type = 'DEBIT'), 0) AS debit_total, " +
+            "COALESCE(SUM(amount) FILTER (WHERE entry_type = 'CREDIT'), 0) AS credit_total " +
+            "FROM ledger_entries WHERE transaction_id IN (" + TRANSFERS_IN_WINDOW + ") " +
+            "GROUP BY transaction_id HAVING NOT (" + BALANCED + ")";
+
+    /**
+     * Checks every transfer with an entry in the window against all of its entries, so a leg written in an
+     * earlier window still counts, and records the unbalanced transfers not recorded before. Returns only those.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ledger_invariant_violations " +
+            "(transaction_id, debit_count, credit_count, debit_total, credit_total, detected_at) " +
+            "SELECT transaction_id, debit_count, credit_count, debit_total, credit_total, now() " +
+            "FROM (" + UNBALANCED_TRANSFERS + ") unbalanced " +
+            "ON CONFLICT (transaction_id) DO NOTHING", nativeQuery = true)
+    int recordUnbalancedTransfers(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Updates the entry counts and totals of violations already recorded for unbalanced transfers in the window,
+     * keeping when they were first detected.
+     */
+    @Modifying
+    @Query(value = "UPDATE ledger_invariant_violations v SET debit_count = u.debit_count, " +
+            "credit_count = u.credit_count, debit_total = u.debit_total, credit_total = u.credit_total " +
+            "FROM (" + UNBALANCED_TRANSFERS + ") u WHERE v.transaction_id = u.transaction_id", nativeQuery = true)
+    int refreshUnbalancedTransfers(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Removes earlier violations for transfers in the window that balance now that their missing leg arrived.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM ledger_invariant_violations WHERE transaction_id IN (" +
+            "SELECT transaction_id FROM ledger_entries WHERE transaction_id IN (" + TRANSFERS_IN_WINDOW + ") " +
+            "GROUP BY transaction_id HAVING " + BALANCED + ")", nativeQuery = true)
+    int clearBalancedTransfers(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,9 @@
+package com.banking.ledger.repository;
+
+import com.banking.ledger.model.JobWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobWatermarkRepository extends JpaRepository<JobWatermark, String> {
+}
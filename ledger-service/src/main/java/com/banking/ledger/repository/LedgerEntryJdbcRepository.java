@@ -0,0 +1,105 @@
+package com.banking.ledger.repository;
+
+import com.banking.ledger.model.EntryType;
+import com.banking.ledger.model.LedgerEntry;
+import com.banking.ledger.model.TransactionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class LedgerEntryJdbcRepository {
+
+    private static final String ENTRY_COLUMNS = "id, account_id, transaction_id, transaction_type, entry_type, "
+            + "amount, balance_after, description, created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Streams the entries of an account in chronological order. PostgreSQL only honours the
+     * fetch size inside a transaction, so callers must run this within one.
+     */
+    public void streamByAccountId(UUID accountId, LocalDateTime from, LocalDateTime to,
+                                  int fetchSize, Consumer<LedgerEntry> consumer) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(ENTRY_COLUMNS)
+                .append(" FROM ledger_entries WHERE account_id = ?");
+        List<Object> params = new ArrayList<>();
+        params.add(accountId);
+        if (from != null) {
+            sql.append(" AND created_at >= ?");
+            params.add(from);
+        }
+        if (to != null) {
+            sql.append(" AND created_at < ?");
+            params.add(to);
+        }
+        sql.append(" ORDER BY created_at, id");
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(mapRow(rs)));
+    }
+
+    /**
+     * Row count from the planner statistics; {@code null} until the table has been analyzed.
+     */
+    public Long estimateTotalEntries() {
+        Long estimate = jdbcTemplate.queryForObject(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = 'ledger_entries'::regclass", Long.class);
+        return estimate != null && estimate >= 0 ? estimate : null;
+    }
+
+    /**
+     * The planner's row estimate for an account, derived from the column histogram instead of a scan.
+     */
+    public Long estimateEntriesForAccount(UUID accountId) {
+        // UUID#toString only yields hex digits and dashes, so inlining it is safe; EXPLAIN cannot take bind parameters.
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN (FORMAT JSON) SELECT 1 FROM ledger_entries WHERE account_id = '" + accountId + "'::uuid",
+                String.class);
+        try {
+            JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return rows.isMissingNode() ? null : rows.asLong();
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private LedgerEntry mapRow(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        String transactionType = rs.getString("transaction_type");
+        return LedgerEntry.builder()
+                .id(rs.getObject("id", UUID.class))
+                .accountId(rs.getObject("account_id", UUID.class))
+                .transactionId(rs.getObject("transaction_id", UUID.class))
+                .transactionType(transactionType != null ? TransactionType.valueOf(transactionType) : null)
+                .entryType(EntryType.valueOf(rs.getString("entry_type")))
+                .amount(rs.getBigDecimal("amount"))
+                .balanceAfter(rs.getBigDecimal("balance_after"))
+                .description(rs.getString("description"))
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .build();
+    }
+}
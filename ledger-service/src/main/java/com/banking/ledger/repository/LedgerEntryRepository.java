@@ -9,6 +9,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,10 +24,48 @@ public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, UUID>
 
     List<LedgerEntry> findByTransactionId(UUID transactionId);
 
-    @Query("SELECT le FROM LedgerEntry le WHERE le.accountId = :accountId ORDER BY le.createdAt DESC LIMIT 1")
+    @Query(value = "SELECT * FROM ledger_entries WHERE account_id = :accountId " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<LedgerEntry> findFirstPageByAccountId(@Param("accountId") UUID accountId, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM ledger_entries WHERE account_id = :accountId " +
+            "AND (created_at, id) < (:createdAt, :id) " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<LedgerEntry> findPageByAccountIdBefore(@Param("accountId") UUID accountId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") UUID id,
+                                                @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM ledger_entries ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<LedgerEntry> findFirstPage(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM ledger_entries WHERE (created_at, id) < (:createdAt, :id) " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<LedgerEntry> findPageBefore(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") UUID id,
+                                     @Param("limit") int limit);
+
+    @Query("SELECT le FROM LedgerEntry le WHERE le.accountId = :accountId ORDER BY le.entrySeq DESC LIMIT 1")
     Optional<LedgerEntry> findLatestByAccountId(@Param("accountId") UUID accountId);
 
+    @Query("SELECT DISTINCT le.transactionId FROM LedgerEntry le WHERE le.transactionId IN :transactionIds")
+    List<UUID> findPostedTransactionIds(@Param("transactionIds") Collection<UUID> transactionIds);
+
+    @Query(value = "SELECT DISTINCT ON (account_id) account_id, balance_after FROM ledger_entries " +
+            "WHERE account_id IN (:accountIds) ORDER BY account_id, entry_seq DESC", nativeQuery = true)
+    List<Object[]> findLatestBalancesByAccountIds(@Param("accountIds") Collection<UUID> accountIds);
+
     @Query("SELECT COALESCE(SUM(CASE WHEN le.entryType = 'CREDIT' THEN le.amount ELSE -le.amount END), 0) " +
             "FROM LedgerEntry le WHERE le.accountId = :accountId")
     BigDecimal calculateBalanceByAccountId(@Param("accountId") UUID accountId);
+
+    @Query("SELECT le.accountId, SUM(CASE WHEN le.entryType = 'CREDIT' THEN le.amount ELSE -le.amount END) " +
+            "FROM LedgerEntry le WHERE le.accountId IN :accountIds " +
+            "AND le.createdAt >= :from AND le.createdAt < :to GROUP BY le.accountId")
+    List<Object[]> sumNetAmountByAccountIds(@Param("accountIds") Collection<UUID> accountIds,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to);
+
+    @Query("SELECT MIN(le.createdAt) FROM LedgerEntry le")
+    Optional<LocalDateTime> findEarliestCreatedAt();
 }
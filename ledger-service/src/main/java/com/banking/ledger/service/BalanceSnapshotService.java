@@ -0,0 +1,122 @@
+package com.banking.ledger.service;
+
+import com.banking.ledger.dto.BalanceAsOfResponse;
+import com.banking.ledger.model.BalanceSnapshot;
+import com.banking.ledger.model.JobWatermark;
+import com.banking.ledger.repository.BalanceSnapshotRepository;
+import com.banking.ledger.repository.JobWatermarkRepository;
+import com.banking.ledger.repository.LedgerEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains end-of-day balance snapshots. Every account with activity on a snapshotted day has a row
+ * for that day, so the latest snapshot on or before a date is exact for every day before the watermark
+ * and an as-of query only has to add the entries of days that have not been snapshotted yet.
+ */
+@Service
+@Slf4j
+public class BalanceSnapshotService {
+
+    static final String WATERMARK_JOB = "balance-snapshot";
+
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final JobWatermarkRepository jobWatermarkRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final Counter snapshotRowsCounter;
+
+    @Value("${ledger.snapshot.max-bulk-accounts:1000}")
+    private int maxBulkAccounts;
+
+    public BalanceSnapshotService(BalanceSnapshotRepository balanceSnapshotRepository,
+                                  JobWatermarkRepository jobWatermarkRepository,
+                                  LedgerEntryRepository ledgerEntryRepository,
+                                  MeterRegistry meterRegistry) {
+        this.balanceSnapshotRepository = balanceSnapshotRepository;
+        this.jobWatermarkRepository = jobWatermarkRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.snapshotRowsCounter = Counter.builder("banking_ledger_balance_snapshots_total")
+                .description("Total number of end-of-day balance snapshots written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The first day without a snapshot, or empty when the ledger has no entries yet.
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> nextDayToSnapshot() {
+        return jobWatermarkRepository.findById(WATERMARK_JOB)
+                .map(watermark -> watermark.getWatermark().toLocalDate())
+                .or(() -> ledgerEntryRepository.findEarliestCreatedAt().map(LocalDateTime::toLocalDate));
+    }
+
+    @Transactional
+    public void snapshotDay(LocalDate day) {
+        int rows = balanceSnapshotRepository.snapshotDay(day, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        jobWatermarkRepository.save(JobWatermark.builder()
+                .jobName(WATERMARK_JOB)
+                .watermark(day.plusDays(1).atStartOfDay())
+                .build());
+        snapshotRowsCounter.increment(rows);
+        log.info("Created balance snapshots for {}: accounts={}", day, rows);
+    }
+
+    @Transactional(readOnly = true)
+    public BalanceAsOfResponse getBalanceAsOf(UUID accountId, LocalDate asOf) {
+        return getBalancesAsOf(List.of(accountId), asOf).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BalanceAsOfResponse> getBalancesAsOf(Collection<UUID> accountIds, LocalDate asOf) {
+        Set<UUID> ids = new LinkedHashSet<>(accountIds);
+        if (ids.size() > maxBulkAccounts) {
+            throw new IllegalArgumentException("At most " + maxBulkAccounts + " accounts can be queried at once");
+        }
+
+        Map<UUID, BalanceSnapshot> snapshots = balanceSnapshotRepository.findLatestOnOrBefore(ids, asOf).stream()
+                .collect(Collectors.toMap(BalanceSnapshot::getAccountId, Function.identity()));
+
+        // Days before the watermark are fully covered by snapshots; only the remainder needs the raw entries.
+        LocalDateTime tailStart = jobWatermarkRepository.findById(WATERMARK_JOB)
+                .map(JobWatermark::getWatermark)
+                .orElse(LocalDate.EPOCH.atStartOfDay());
+        LocalDateTime asOfEnd = asOf.plusDays(1).atStartOfDay();
+        Map<UUID, BigDecimal> tail = new HashMap<>();
+        if (asOfEnd.isAfter(tailStart)) {
+            for (Object[] row : ledgerEntryRepository.sumNetAmountByAccountIds(ids, tailStart, asOfEnd)) {
+                tail.put((UUID) row[0], (BigDecimal) row[1]);
+            }
+        }
+
+        return ids.stream()
+                .map(accountId -> {
+                    BalanceSnapshot snapshot = snapshots.get(accountId);
+                    BigDecimal base = snapshot != null ? snapshot.getBalance() : BigDecimal.ZERO;
+                    return BalanceAsOfResponse.builder()
+                            .accountId(accountId)
+                            .asOf(asOf)
+                            .balance(base.add(tail.getOrDefault(accountId, BigDecimal.ZERO)))
+                            .snapshotDate(snapshot != null ? snapshot.getSnapshotDate() : null)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+}
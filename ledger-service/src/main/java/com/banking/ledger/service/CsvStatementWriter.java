@@ -0,0 +1,72 @@
+package com.banking.ledger.service;
+
+import com.banking.ledger.model.LedgerEntry;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+class CsvStatementWriter implements StatementWriter {
+
+    static final String HEADER =
+            "id,account_id,transaction_id,entry_type,amount,balance_after,description,created_at";
+
+    private final Writer writer;
+
+    CsvStatementWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(LedgerEntry entry) throws IOException {
+        writer.write(String.valueOf(entry.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(entry.getAccountId()));
+        writer.write(',');
+        writer.write(String.valueOf(entry.getTransactionId()));
+        writer.write(',');
+        writer.write(entry.getEntryType().name());
+        writer.write(',');
+        writer.write(entry.getAmount().toPlainString());
+        writer.write(',');
+        writer.write(entry.getBalanceAfter().toPlainString());
+        writer.write(',');
+        writeEscaped(entry.getDescription());
+        writer.write(',');
+        if (entry.getCreatedAt() != null) {
+            writer.write(entry.getCreatedAt().toString());
+        }
+        writer.write('\n');
+    }
+
+    private void writeEscaped(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuoting = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+}
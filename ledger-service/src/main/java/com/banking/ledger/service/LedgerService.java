@@ -1,21 +1,34 @@
 package com.banking.ledger.service;
 
+import com.banking.events.TransactionEvent;
+import com.banking.ledger.dto.CursorPage;
+import com.banking.ledger.dto.LedgerCursor;
 import com.banking.ledger.dto.LedgerEntryResponse;
-import com.banking.ledger.event.TransactionEvent;
+import com.banking.ledger.journal.LedgerJournal;
 import com.banking.ledger.model.EntryType;
 import com.banking.ledger.model.LedgerEntry;
+import com.banking.ledger.model.TransactionType;
+import com.banking.ledger.repository.LedgerEntryJdbcRepository;
 import com.banking.ledger.repository.LedgerEntryRepository;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -24,27 +37,42 @@ import java.util.stream.Collectors;
 public class LedgerService {
 
     private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerEntryJdbcRepository ledgerEntryJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LedgerJournal journal;
     private final Counter ledgerEntriesCounter;
 
-    public LedgerService(LedgerEntryRepository ledgerEntryRepository, MeterRegistry meterRegistry) {
+    @Value("${ledger.pagination.max-page-size:100}")
+    private int maxPageSize;
+
+    public LedgerService(LedgerEntryRepository ledgerEntryRepository,
+                         LedgerEntryJdbcRepository ledgerEntryJdbcRepository,
+                         TransactionTemplate transactionTemplate,
+                         ObjectProvider<LedgerJournal> journalProvider,
+                         MeterRegistry meterRegistry) {
         this.ledgerEntryRepository = ledgerEntryRepository;
+        this.ledgerEntryJdbcRepository = ledgerEntryJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.journal = journalProvider.getIfAvailable();
         this.ledgerEntriesCounter = Counter.builder("banking_ledger_entries_total")
                 .description("Total number of ledger entries created")
                 .register(meterRegistry);
     }
 
-    @RabbitListener(queues = "${rabbitmq.queue.transaction-completed}")
-    @Transactional
+    /**
+     * With the journal enabled the event is only made durable locally before the message is acknowledged;
+     * {@link com.banking.ledger.journal.JournalFlusher} posts it later. Otherwise it is posted right away.
+     */
+    @RabbitListener(id = "ledgerCompletedListener", queues = "${rabbitmq.queue.transaction-completed}")
     public void handleTransactionCompleted(TransactionEvent event) {
-        log.info("Received transaction completed event: transactionId={}, type={}",
+        log.debug("Received transaction completed event: transactionId={}, type={}",
                 event.getTransactionId(), event.getTransactionType());
 
         try {
-            switch (event.getTransactionType()) {
-                case "DEPOSIT" -> createDepositEntries(event);
-                case "WITHDRAWAL" -> createWithdrawalEntries(event);
-                case "TRANSFER" -> createTransferEntries(event);
-                default -> log.warn("Unknown transaction type: {}", event.getTransactionType());
+            if (journal != null) {
+                journal.appendAndAwait(event);
+            } else {
+                transactionTemplate.executeWithoutResult(status -> postEvents(List.of(event)));
             }
         } catch (Exception e) {
             log.error("Error processing transaction event: {}", e.getMessage(), e);
@@ -52,78 +80,124 @@ public class LedgerService {
         }
     }
 
-    private void createDepositEntries(TransactionEvent event) {
-        BigDecimal currentBalance = getCurrentBalance(event.getTargetAccountId());
-        BigDecimal newBalance = currentBalance.add(event.getAmount());
+    /**
+     * Posts the entries for a batch of completed transactions. Transactions that already have entries are
+     * skipped, which makes redelivered messages and journal replays harmless.
+     */
+    @Transactional
+    public void postEvents(List<TransactionEvent> events) {
+        Set<UUID> posted = new HashSet<>(ledgerEntryRepository.findPostedTransactionIds(
+                events.stream().map(TransactionEvent::getTransactionId).collect(Collectors.toSet())));
+        Map<UUID, BigDecimal> balances = loadCurrentBalances(events);
+        List<LedgerEntry> entries = new ArrayList<>();
+
+        for (TransactionEvent event : events) {
+            if (!posted.add(event.getTransactionId())) {
+                log.info("Skipping already posted transaction: transactionId={}", event.getTransactionId());
+                continue;
+            }
+            switch (event.getTransactionType()) {
+                case "DEPOSIT" -> createDepositEntries(event, balances, entries);
+                case "WITHDRAWAL" -> createWithdrawalEntries(event, balances, entries);
+                case "TRANSFER" -> createTransferEntries(event, balances, entries);
+                default -> log.warn("Unknown transaction type: {}", event.getTransactionType());
+            }
+        }
+
+        ledgerEntryRepository.saveAll(entries);
+        ledgerEntriesCounter.increment(entries.size());
+    }
+
+    private Map<UUID, BigDecimal> loadCurrentBalances(List<TransactionEvent> events) {
+        Set<UUID> accountIds = new HashSet<>();
+        for (TransactionEvent event : events) {
+            if (event.getSourceAccountId() != null) {
+                accountIds.add(event.getSourceAccountId());
+            }
+            if (event.getTargetAccountId() != null) {
+                accountIds.add(event.getTargetAccountId());
+            }
+        }
+        Map<UUID, BigDecimal> balances = new HashMap<>();
+        if (!accountIds.isEmpty()) {
+            for (Object[] row : ledgerEntryRepository.findLatestBalancesByAccountIds(accountIds)) {
+                balances.put((UUID) row[0], (BigDecimal) row[1]);
+            }
+        }
+        return balances;
+    }
 
-        LedgerEntry entry = LedgerEntry.builder()
+    private void createDepositEntries(TransactionEvent event, Map<UUID, BigDecimal> balances,
+                                      List<LedgerEntry> entries) {
+        BigDecimal newBalance = balances.getOrDefault(event.getTargetAccountId(), BigDecimal.ZERO)
+                .add(event.getAmount());
+        balances.put(event.getTargetAccountId(), newBalance);
+
+        entries.add(LedgerEntry.builder()
                 .accountId(event.getTargetAccountId())
                 .transactionId(event.getTransactionId())
+                .transactionType(TransactionType.DEPOSIT)
                 .entryType(EntryType.CREDIT)
                 .amount(event.getAmount())
                 .balanceAfter(newBalance)
                 .description("Deposit: " + (event.getDescription() != null ? event.getDescription() : ""))
-                .build();
-
-        ledgerEntryRepository.save(entry);
-        ledgerEntriesCounter.increment();
-        log.info("Created ledger entry for deposit: accountId={}, amount={}",
+                .build());
+        log.debug("Created ledger entry for deposit: accountId={}, amount={}",
                 event.getTargetAccountId(), event.getAmount());
     }
 
-    private void createWithdrawalEntries(TransactionEvent event) {
-        BigDecimal currentBalance = getCurrentBalance(event.getSourceAccountId());
-        BigDecimal newBalance = currentBalance.subtract(event.getAmount());
+    private void createWithdrawalEntries(TransactionEvent event, Map<UUID, BigDecimal> balances,
+                                         List<LedgerEntry> entries) {
+        BigDecimal newBalance = balances.getOrDefault(event.getSourceAccountId(), BigDecimal.ZERO)
+                .subtract(event.getAmount());
+        balances.put(event.getSourceAccountId(), newBalance);
 
-        LedgerEntry entry = LedgerEntry.builder()
+        entries.add(LedgerEntry.builder()
                 .accountId(event.getSourceAccountId())
                 .transactionId(event.getTransactionId())
+                .transactionType(TransactionType.WITHDRAWAL)
                 .entryType(EntryType.DEBIT)
                 .amount(event.getAmount())
                 .balanceAfter(newBalance)
                 .description("Withdrawal: " + (event.getDescription() != null ? event.getDescription() : ""))
-                .build();
-
-        ledgerEntryRepository.save(entry);
-        ledgerEntriesCounter.increment();
-        log.info("Created ledger entry for withdrawal: accountId={}, amount={}",
+                .build());
+        log.debug("Created ledger entry for withdrawal: accountId={}, amount={}",
                 event.getSourceAccountId(), event.getAmount());
     }
 
-    private void createTransferEntries(TransactionEvent event) {
+    private void createTransferEntries(TransactionEvent event, Map<UUID, BigDecimal> balances,
+                                       List<LedgerEntry> entries) {
         // Debit entry for source account
-        BigDecimal sourceBalance = getCurrentBalance(event.getSourceAccountId());
-        BigDecimal newSourceBalance = sourceBalance.subtract(event.getAmount());
+        BigDecimal newSourceBalance = balances.getOrDefault(event.getSourceAccountId(), BigDecimal.ZERO)
+                .subtract(event.getAmount());
+        balances.put(event.getSourceAccountId(), newSourceBalance);
 
-        LedgerEntry debitEntry = LedgerEntry.builder()
+        entries.add(LedgerEntry.builder()
                 .accountId(event.getSourceAccountId())
                 .transactionId(event.getTransactionId())
+                .transactionType(TransactionType.TRANSFER)
                 .entryType(EntryType.DEBIT)
                 .amount(event.getAmount())
                 .balanceAfter(newSourceBalance)
                 .description("Transfer out: " + (event.getDescription() != null ? event.getDescription() : ""))
-                .build();
-
-        ledgerEntryRepository.save(debitEntry);
-        ledgerEntriesCounter.increment();
+                .build());
 
         // Credit entry for target account
-        BigDecimal targetBalance = getCurrentBalance(event.getTargetAccountId());
-        BigDecimal newTargetBalance = targetBalance.add(event.getAmount());
+        BigDecimal newTargetBalance = balances.getOrDefault(event.getTargetAccountId(), BigDecimal.ZERO)
+                .add(event.getAmount());
+        balances.put(event.getTargetAccountId(), newTargetBalance);
 
-        LedgerEntry creditEntry = LedgerEntry.builder()
+        entries.add(LedgerEntry.builder()
                 .accountId(event.getTargetAccountId())
                 .transactionId(event.getTransactionId())
+                .transactionType(TransactionType.TRANSFER)
                 .entryType(EntryType.CREDIT)
                 .amount(event.getAmount())
                 .balanceAfter(newTargetBalance)
                 .description("Transfer in: " + (event.getDescription() != null ? event.getDescription() : ""))
-                .build();
+                .build());
 
-        ledgerEntryRepository.save(creditEntry);
-        ledgerEntriesCounter.increment();
-
-        log.info("Created ledger entries for transfer: from={}, to={}, amount={}",
+        log.debug("Created ledger entries for transfer: from={}, to={}, amount={}",
                 event.getSourceAccountId(), event.getTargetAccountId(), event.getAmount());
     }
 
@@ -153,12 +227,64 @@ public class LedgerService {
                 .map(this::mapToResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<LedgerEntryResponse> getAccountLedgerPage(UUID accountId, String cursor, int size,
+                                                                 boolean includeTotal) {
+        int limit = clampPageSize(size);
+        List<LedgerEntry> entries;
+        if (cursor == null || cursor.isBlank()) {
+            entries = ledgerEntryRepository.findFirstPageByAccountId(accountId, limit + 1);
+        } else {
+            LedgerCursor position = LedgerCursor.decode(cursor);
+            entries = ledgerEntryRepository.findPageByAccountIdBefore(
+                    accountId, position.createdAt(), position.id(), limit + 1);
+        }
+        Long total = includeTotal ? ledgerEntryJdbcRepository.estimateEntriesForAccount(accountId) : null;
+        return toCursorPage(entries, limit, total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<LedgerEntryResponse> getEntriesPage(String cursor, int size, boolean includeTotal) {
+        int limit = clampPageSize(size);
+        List<LedgerEntry> entries;
+        if (cursor == null || cursor.isBlank()) {
+            entries = ledgerEntryRepository.findFirstPage(limit + 1);
+        } else {
+            LedgerCursor position = LedgerCursor.decode(cursor);
+            entries = ledgerEntryRepository.findPageBefore(position.createdAt(), position.id(), limit + 1);
+        }
+        Long total = includeTotal ? ledgerEntryJdbcRepository.estimateTotalEntries() : null;
+        return toCursorPage(entries, limit, total);
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    private CursorPage<LedgerEntryResponse> toCursorPage(List<LedgerEntry> entries, int limit, Long total) {
+        // One extra row is fetched to learn whether another page exists without counting.
+        boolean hasNext = entries.size() > limit;
+        List<LedgerEntry> page = hasNext ? entries.subList(0, limit) : entries;
+        String nextCursor = null;
+        if (hasNext) {
+            LedgerEntry last = page.get(page.size() - 1);
+            nextCursor = new LedgerCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorPage.<LedgerEntryResponse>builder()
+                .content(page.stream().map(this::mapToResponse).collect(Collectors.toList()))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .approximateTotal(total)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public BigDecimal getAccountBalance(UUID accountId) {
         return getCurrentBalance(accountId);
     }
 
-    private LedgerEntryResponse mapToResponse(LedgerEntry entry) {
+    LedgerEntryResponse mapToResponse(LedgerEntry entry) {
         return LedgerEntryResponse.builder()
                 .id(entry.getId())
                 .accountId(entry.getAccountId())
@@ -0,0 +1,65 @@
+package com.banking.ledger.service;
+
+import com.banking.ledger.dto.StatementFormat;
+import com.banking.ledger.repository.LedgerEntryJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class LedgerStatementService {
+
+    private final LedgerEntryJdbcRepository ledgerEntryJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final Counter statementRowsCounter;
+
+    @Value("${ledger.statement.fetch-size:500}")
+    private int fetchSize;
+
+    public LedgerStatementService(LedgerEntryJdbcRepository ledgerEntryJdbcRepository,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.ledgerEntryJdbcRepository = ledgerEntryJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.statementRowsCounter = Counter.builder("banking_ledger_statement_rows_total")
+                .description("Total number of ledger entries streamed in statements")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Writes the statement row by row while the cursor is open. A slow client blocks the write,
+     * which in turn stops further fetches, so memory stays bounded by the fetch size.
+     */
+    @Transactional(readOnly = true)
+    public void writeStatement(UUID accountId, LocalDate from, LocalDate to,
+                               StatementFormat format, OutputStream out) throws IOException {
+        LocalDateTime fromTime = from != null ? from.atStartOfDay() : null;
+        LocalDateTime toTime = to != null ? to.plusDays(1).atStartOfDay() : null;
+
+        try (StatementWriter writer = StatementWriter.create(format, out, objectMapper)) {
+            ledgerEntryJdbcRepository.streamByAccountId(accountId, fromTime, toTime, fetchSize, entry -> {
+                try {
+                    writer.write(entry);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                statementRowsCounter.increment();
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("Statement export aborted for account {}: {}", accountId, e.getCause().getMessage());
+            throw e.getCause();
+        }
+    }
+}
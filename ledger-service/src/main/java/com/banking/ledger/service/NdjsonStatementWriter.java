@@ -0,0 +1,40 @@
+package com.banking.ledger.service;
+
+import com.banking.ledger.model.LedgerEntry;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+class NdjsonStatementWriter implements StatementWriter {
+
+    private final JsonGenerator generator;
+
+    NdjsonStatementWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(LedgerEntry entry) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", String.valueOf(entry.getId()));
+        generator.writeStringField("accountId", String.valueOf(entry.getAccountId()));
+        generator.writeStringField("transactionId", String.valueOf(entry.getTransactionId()));
+        generator.writeStringField("entryType", entry.getEntryType().name());
+        generator.writeNumberField("amount", entry.getAmount());
+        generator.writeNumberField("balanceAfter", entry.getBalanceAfter());
+        generator.writeStringField("description", entry.getDescription());
+        generator.writeStringField("createdAt",
+                entry.getCreatedAt() != null ? entry.getCreatedAt().toString() : null);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,27 @@
+package com.banking.ledger.service;
+
+import com.banking.ledger.dto.StatementFormat;
+import com.banking.ledger.model.LedgerEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+interface StatementWriter extends AutoCloseable {
+
+    void write(LedgerEntry entry) throws IOException;
+
+    /**
+     * Flushes buffered rows without closing the underlying stream, which belongs to the caller.
+     */
+    @Override
+    void close() throws IOException;
+
+    static StatementWriter create(StatementFormat format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new CsvStatementWriter(out);
+            case NDJSON -> new NdjsonStatementWriter(out, objectMapper);
+        };
+    }
+}
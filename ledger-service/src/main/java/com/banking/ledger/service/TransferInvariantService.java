@@ -0,0 +1,102 @@
+package com.banking.ledger.service;
+
+import com.banking.ledger.model.JobWatermark;
+import com.banking.ledger.repository.InvariantViolationRepository;
+import com.banking.ledger.repository.JobWatermarkRepository;
+import com.banking.ledger.repository.LedgerEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Verifies that every transfer is posted as exactly one debit and one credit of the same amount. Entries are
+ * scanned in time windows behind a watermark, so each run only reads what was written since the last one.
+ */
+@Service
+@Slf4j
+public class TransferInvariantService {
+
+    static final String WATERMARK_JOB = "transfer-invariant";
+
+    private final InvariantViolationRepository invariantViolationRepository;
+    private final JobWatermarkRepository jobWatermarkRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final Counter detectedCounter;
+    private final AtomicReference<LocalDateTime> watermark = new AtomicReference<>();
+    private final AtomicLong unbalanced = new AtomicLong();
+
+    public TransferInvariantService(InvariantViolationRepository invariantViolationRepository,
+                                    JobWatermarkRepository jobWatermarkRepository,
+                                    LedgerEntryRepository ledgerEntryRepository,
+                                    MeterRegistry meterRegistry) {
+        this.invariantViolationRepository = invariantViolationRepository;
+        this.jobWatermarkRepository = jobWatermarkRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.detectedCounter = Counter.builder("banking_ledger_invariant_violations_detected_total")
+                .description("Total number of unbalanced transfers detected")
+                .register(meterRegistry);
+        Gauge.builder("banking_ledger_invariant_watermark_lag_seconds", this, TransferInvariantService::watermarkLagSeconds)
+                .description("Age of the newest ledger entry time verified by the transfer invariant checker")
+                .register(meterRegistry);
+        Gauge.builder("banking_ledger_invariant_unbalanced_transactions", unbalanced, AtomicLong::get)
+                .description("Number of transfers currently failing the double-entry invariant")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes the violations left by earlier runs, rather than none until the first window is checked.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void seedUnbalancedCount() {
+        unbalanced.set(invariantViolationRepository.count());
+    }
+
+    /**
+     * Start of the first window that has not been checked, or empty when the ledger has no entries yet.
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> nextWindowStart() {
+        Optional<LocalDateTime> start = jobWatermarkRepository.findById(WATERMARK_JOB)
+                .map(JobWatermark::getWatermark)
+                .or(ledgerEntryRepository::findEarliestCreatedAt);
+        start.ifPresent(watermark::set);
+        return start;
+    }
+
+    @Transactional
+    public void checkWindow(LocalDateTime from, LocalDateTime to) {
+        int cleared = invariantViolationRepository.clearBalancedTransfers(from, to);
+        // Transfers seen unbalanced in an earlier window are only refreshed, so each is detected once.
+        invariantViolationRepository.refreshUnbalancedTransfers(from, to);
+        int detected = invariantViolationRepository.recordUnbalancedTransfers(from, to);
+        jobWatermarkRepository.save(JobWatermark.builder()
+                .jobName(WATERMARK_JOB)
+                .watermark(to)
+                .build());
+        unbalanced.set(invariantViolationRepository.count());
+        watermark.set(to);
+        detectedCounter.increment(detected);
+        if (detected > 0 || cleared > 0) {
+            log.warn("Transfer invariant check [{}, {}): unbalanced={}, resolved={}", from, to, detected, cleared);
+        } else {
+            log.debug("Transfer invariant check [{}, {}) found no unbalanced transfers", from, to);
+        }
+    }
+
+    private double watermarkLagSeconds() {
+        LocalDateTime current = watermark.get();
+        return current == null ? 0 : Duration.between(current, LocalDateTime.now()).toSeconds();
+    }
+}
@@ -0,0 +1,8 @@
+-- V2__Add_ledger_keyset_indexes.sql
+-- Keyset pagination walks (created_at, id) in either direction; the composite
+-- indexes also cover the single-column lookups they replace.
+CREATE INDEX idx_ledger_account_created_id ON ledger_entries(account_id, created_at, id);
+CREATE INDEX idx_ledger_created_id ON ledger_entries(created_at, id);
+
+DROP INDEX idx_ledger_account;
+DROP INDEX idx_ledger_created;
@@ -0,0 +1,19 @@
+-- V3__Create_balance_snapshots_table.sql
+-- One row per account and day with activity, holding the end-of-day balance.
+CREATE TABLE ledger_balance_snapshots (
+    account_id UUID NOT NULL,
+    snapshot_date DATE NOT NULL,
+    balance DECIMAL(15,2) NOT NULL,
+    entry_count BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (account_id, snapshot_date)
+);
+
+CREATE INDEX idx_snapshots_date ON ledger_balance_snapshots(snapshot_date);
+
+-- Progress of background jobs that process ledger_entries incrementally.
+CREATE TABLE ledger_job_watermarks (
+    job_name VARCHAR(50) PRIMARY KEY,
+    watermark TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
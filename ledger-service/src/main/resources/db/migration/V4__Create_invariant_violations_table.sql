@@ -0,0 +1,10 @@
+-- V4__Create_invariant_violations_table.sql
+-- Transfers whose ledger entries are not exactly one debit and one credit of the same amount.
+CREATE TABLE ledger_invariant_violations (
+    transaction_id UUID PRIMARY KEY,
+    debit_count INT NOT NULL,
+    credit_count INT NOT NULL,
+    debit_total DECIMAL(15,2) NOT NULL,
+    credit_total DECIMAL(15,2) NOT NULL,
+    detected_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,19 @@
+-- V5__Add_ledger_entry_sequence.sql
+-- Insertion order per account. created_at can tie within a batch and the random
+-- UUID id does not break ties in posting order, so the latest balance is read by
+-- this sequence instead.
+CREATE SEQUENCE ledger_entries_entry_seq;
+
+ALTER TABLE ledger_entries ADD COLUMN entry_seq BIGINT;
+
+UPDATE ledger_entries le SET entry_seq = ordered.seq
+FROM (SELECT id, nextval('ledger_entries_entry_seq') AS seq
+      FROM (SELECT id FROM ledger_entries ORDER BY created_at, id) by_time) ordered
+WHERE le.id = ordered.id;
+
+ALTER TABLE ledger_entries
+    ALTER COLUMN entry_seq SET DEFAULT nextval('ledger_entries_entry_seq'),
+    ALTER COLUMN entry_seq SET NOT NULL;
+ALTER SEQUENCE ledger_entries_entry_seq OWNED BY ledger_entries.entry_seq;
+
+CREATE INDEX idx_ledger_account_entry_seq ON ledger_entries(account_id, entry_seq);
@@ -0,0 +1,11 @@
+-- V6__Add_ledger_entry_transaction_type.sql
+-- Type of the transaction an entry posts, so checks such as the transfer invariant
+-- select by type instead of by the display text in description. Existing rows are
+-- classified from that text once; rows it does not match stay NULL.
+ALTER TABLE ledger_entries ADD COLUMN transaction_type VARCHAR(20);
+
+UPDATE ledger_entries SET transaction_type = CASE
+    WHEN description LIKE 'Deposit:%' THEN 'DEPOSIT'
+    WHEN description LIKE 'Withdrawal:%' THEN 'WITHDRAWAL'
+    WHEN description LIKE 'Transfer %' THEN 'TRANSFER'
+END;
@@ -0,0 +1,237 @@
+package com.banking.ledger.journal;
+
+import com.banking.events.TransactionEvent;
+import com.banking.ledger.service.LedgerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class LedgerJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LedgerJournal journal;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (journal != null) {
+            journal.stop();
+        }
+    }
+
+    @Test
+    void append_IsReadableOnceDurable() throws Exception {
+        // Given
+        journal = startJournal(1024 * 1024);
+        TransactionEvent event = event();
+
+        // When
+        journal.appendAndAwait(event);
+
+        // Then
+        JournalPosition durable = journal.getDurablePosition();
+        assertTrue(durable.offset() > 0);
+        try (JournalSegment segment = JournalSegment.openReadOnly(journal.listSegments().get(0))) {
+            JournalRecord record = segment.read(0);
+            assertTrue(record.checksumValid());
+            assertEquals(durable.offset(), record.nextOffset());
+            assertEquals(event.getTransactionId(),
+                    objectMapper.readValue(record.payload(), TransactionEvent.class).getTransactionId());
+            assertNull(segment.read(record.nextOffset()));
+        }
+    }
+
+    @Test
+    void append_RotatesWhenSegmentIsFull() throws Exception {
+        // Given
+        journal = startJournal(512);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            journal.appendAndAwait(event());
+        }
+
+        // Then
+        assertTrue(journal.listSegments().size() > 1);
+        assertEquals(journal.getDurablePosition().segment(),
+                JournalSegment.sequenceOf(journal.listSegments().get(journal.listSegments().size() - 1)));
+    }
+
+    @Test
+    void read_DetectsChecksumMismatch() throws Exception {
+        // Given
+        journal = startJournal(1024 * 1024);
+        journal.appendAndAwait(event());
+        journal.stop();
+        journal = null;
+        Path segmentPath = directory.resolve(JournalSegment.fileName(1));
+        try (RandomAccessFile file = new RandomAccessFile(segmentPath.toFile(), "rw")) {
+            file.seek(JournalSegment.HEADER_SIZE + 2);
+            file.write('#');
+        }
+
+        // When
+        JournalRecord record;
+        try (JournalSegment segment = JournalSegment.openReadOnly(segmentPath)) {
+            record = segment.read(0);
+        }
+
+        // Then
+        assertFalse(record.checksumValid());
+    }
+
+    @Test
+    void flusher_ReplaysUnflushedSegmentsAndCheckpoints() throws Exception {
+        // Given a previous run that journaled events without flushing them
+        journal = startJournal(512);
+        List<UUID> appended = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            TransactionEvent event = event();
+            appended.add(event.getTransactionId());
+            journal.appendAndAwait(event);
+        }
+        journal.stop();
+
+        journal = startJournal(512);
+        LedgerService ledgerService = mock(LedgerService.class);
+        List<UUID> posted = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<TransactionEvent> events = invocation.getArgument(0);
+            events.forEach(event -> posted.add(event.getTransactionId()));
+            return null;
+        }).when(ledgerService).postEvents(anyList());
+        JournalFlusher flusher = new JournalFlusher(journal, ledgerService, objectMapper, meterRegistry, 100, 1000);
+        flusher.resume();
+
+        // When
+        flusher.flushBatch();
+
+        // Then
+        assertEquals(appended, posted);
+        JournalPosition checkpoint = new JournalCheckpoint(directory).read().orElseThrow();
+        assertEquals(journal.getDurablePosition(), checkpoint);
+        assertEquals(1, journal.listSegments().size());
+        assertEquals(4.0, meterRegistry.counter("banking_ledger_journal_flushed_records_total").count());
+    }
+
+    @Test
+    void flusher_StopsAtCorruptRecordAndKeepsCheckpointThere() throws Exception {
+        // Given a previous run whose segment has a damaged record followed by intact ones
+        List<UUID> appended = journalEvents(3);
+        JournalPosition corrupt = corruptRecord(1);
+
+        journal = startJournal(1024 * 1024);
+        List<UUID> posted = new ArrayList<>();
+        JournalFlusher flusher = new JournalFlusher(journal, recordingLedgerService(posted), objectMapper,
+                meterRegistry, 100, 1000);
+        flusher.resume();
+
+        // When / Then
+        assertThrows(JournalFlusher.JournalCorruptedException.class, flusher::flushBatch);
+        assertEquals(appended.subList(0, 1), posted);
+        assertEquals(corrupt, new JournalCheckpoint(directory).read().orElseThrow());
+        assertTrue(journal.listSegments().contains(directory.resolve(JournalSegment.fileName(1))));
+    }
+
+    @Test
+    void flusher_SkipsTornRecordAtEndOfSegment() throws Exception {
+        // Given a previous run that crashed while writing its last record
+        List<UUID> appended = journalEvents(3);
+        corruptRecord(2);
+
+        journal = startJournal(1024 * 1024);
+        List<UUID> posted = new ArrayList<>();
+        JournalFlusher flusher = new JournalFlusher(journal, recordingLedgerService(posted), objectMapper,
+                meterRegistry, 100, 1000);
+        flusher.resume();
+
+        // When
+        flusher.flushBatch();
+
+        // Then
+        assertEquals(appended.subList(0, 2), posted);
+        assertEquals(journal.getDurablePosition(), new JournalCheckpoint(directory).read().orElseThrow());
+        assertEquals(1.0, meterRegistry.counter("banking_ledger_journal_corrupt_records_total").count());
+    }
+
+    private List<UUID> journalEvents(int count) throws Exception {
+        journal = startJournal(1024 * 1024);
+        List<UUID> appended = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TransactionEvent event = event();
+            appended.add(event.getTransactionId());
+            journal.appendAndAwait(event);
+        }
+        journal.stop();
+        journal = null;
+        return appended;
+    }
+
+    // Flips a payload byte of the index-th record in the first segment and returns where that record starts.
+    private JournalPosition corruptRecord(int index) throws Exception {
+        Path segmentPath = directory.resolve(JournalSegment.fileName(1));
+        int offset = 0;
+        try (JournalSegment segment = JournalSegment.openReadOnly(segmentPath)) {
+            for (int i = 0; i < index; i++) {
+                offset = segment.read(offset).nextOffset();
+            }
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segmentPath.toFile(), "rw")) {
+            file.seek(offset + JournalSegment.HEADER_SIZE + 2);
+            file.write('#');
+        }
+        return new JournalPosition(1, offset);
+    }
+
+    private LedgerService recordingLedgerService(List<UUID> posted) {
+        LedgerService ledgerService = mock(LedgerService.class);
+        doAnswer(invocation -> {
+            List<TransactionEvent> events = invocation.getArgument(0);
+            events.forEach(event -> posted.add(event.getTransactionId()));
+            return null;
+        }).when(ledgerService).postEvents(anyList());
+        return ledgerService;
+    }
+
+    private LedgerJournal startJournal(int segmentSize) throws Exception {
+        LedgerJournal started = new LedgerJournal(objectMapper, meterRegistry, directory.toString(), segmentSize, 5000);
+        started.start();
+        return started;
+    }
+
+    private TransactionEvent event() {
+        return TransactionEvent.builder()
+                .transactionId(UUID.randomUUID())
+                .transactionType("DEPOSIT")
+                .targetAccountId(UUID.randomUUID())
+                .amount(new BigDecimal("25.00"))
+                .status("COMPLETED")
+                .description("Salary")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
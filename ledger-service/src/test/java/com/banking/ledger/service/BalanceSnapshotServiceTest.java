@@ -0,0 +1,139 @@
+package com.banking.ledger.service;
+
+import com.banking.ledger.dto.BalanceAsOfResponse;
+import com.banking.ledger.model.BalanceSnapshot;
+import com.banking.ledger.model.JobWatermark;
+import com.banking.ledger.repository.BalanceSnapshotRepository;
+import com.banking.ledger.repository.JobWatermarkRepository;
+import com.banking.ledger.repository.LedgerEntryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceSnapshotServiceTest {
+
+    @Mock
+    private BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @Mock
+    private JobWatermarkRepository jobWatermarkRepository;
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BalanceSnapshotService balanceSnapshotService;
+
+    private final LocalDate today = LocalDate.of(2024, 3, 31);
+
+    @BeforeEach
+    void setUp() {
+        balanceSnapshotService = new BalanceSnapshotService(
+                balanceSnapshotRepository, jobWatermarkRepository, ledgerEntryRepository, meterRegistry);
+        ReflectionTestUtils.setField(balanceSnapshotService, "maxBulkAccounts", 10);
+    }
+
+    @Test
+    void getBalanceAsOf_BeforeWatermark_UsesSnapshotOnly() {
+        // Given
+        UUID accountId = UUID.randomUUID();
+        LocalDate asOf = today.minusDays(5);
+        when(jobWatermarkRepository.findById(BalanceSnapshotService.WATERMARK_JOB))
+                .thenReturn(Optional.of(watermark(today)));
+        when(balanceSnapshotRepository.findLatestOnOrBefore(Set.of(accountId), asOf))
+                .thenReturn(List.of(snapshot(accountId, asOf.minusDays(2), "150.00")));
+
+        // When
+        BalanceAsOfResponse response = balanceSnapshotService.getBalanceAsOf(accountId, asOf);
+
+        // Then
+        assertEquals(new BigDecimal("150.00"), response.getBalance());
+        assertEquals(asOf.minusDays(2), response.getSnapshotDate());
+        verify(ledgerEntryRepository, never()).sumNetAmountByAccountIds(any(), any(), any());
+    }
+
+    @Test
+    void getBalancesAsOf_AfterWatermark_AddsUnsnapshottedEntries() {
+        // Given
+        UUID withSnapshot = UUID.randomUUID();
+        UUID withoutSnapshot = UUID.randomUUID();
+        when(jobWatermarkRepository.findById(BalanceSnapshotService.WATERMARK_JOB))
+                .thenReturn(Optional.of(watermark(today)));
+        when(balanceSnapshotRepository.findLatestOnOrBefore(any(), eq(today)))
+                .thenReturn(List.of(snapshot(withSnapshot, today.minusDays(1), "100.00")));
+        when(ledgerEntryRepository.sumNetAmountByAccountIds(any(), eq(today.atStartOfDay()),
+                eq(today.plusDays(1).atStartOfDay())))
+                .thenReturn(List.of(
+                        new Object[]{withSnapshot, new BigDecimal("-25.00")},
+                        new Object[]{withoutSnapshot, new BigDecimal("40.00")}));
+
+        // When
+        List<BalanceAsOfResponse> responses = balanceSnapshotService.getBalancesAsOf(
+                List.of(withSnapshot, withoutSnapshot), today);
+
+        // Then
+        assertEquals(new BigDecimal("75.00"), responses.get(0).getBalance());
+        assertEquals(new BigDecimal("40.00"), responses.get(1).getBalance());
+        assertNull(responses.get(1).getSnapshotDate());
+    }
+
+    @Test
+    void snapshotDay_AdvancesWatermarkToNextDay() {
+        // Given
+        LocalDate day = today.minusDays(1);
+        when(balanceSnapshotRepository.snapshotDay(day, day.atStartOfDay(), today.atStartOfDay())).thenReturn(3);
+
+        // When
+        balanceSnapshotService.snapshotDay(day);
+
+        // Then
+        verify(jobWatermarkRepository).save(argThat(saved -> saved.getWatermark().equals(today.atStartOfDay())));
+        assertEquals(3.0, meterRegistry.counter("banking_ledger_balance_snapshots_total").count());
+    }
+
+    @Test
+    void nextDayToSnapshot_WithoutWatermark_StartsAtEarliestEntry() {
+        // Given
+        when(jobWatermarkRepository.findById(BalanceSnapshotService.WATERMARK_JOB)).thenReturn(Optional.empty());
+        when(ledgerEntryRepository.findEarliestCreatedAt()).thenReturn(Optional.of(today.atTime(9, 30)));
+
+        // When & Then
+        assertEquals(Optional.of(today), balanceSnapshotService.nextDayToSnapshot());
+    }
+
+    private JobWatermark watermark(LocalDate firstUnsnapshottedDay) {
+        return JobWatermark.builder()
+                .jobName(BalanceSnapshotService.WATERMARK_JOB)
+                .watermark(firstUnsnapshottedDay.atStartOfDay())
+                .build();
+    }
+
+    private BalanceSnapshot snapshot(UUID accountId, LocalDate date, String balance) {
+        return BalanceSnapshot.builder()
+                .accountId(accountId)
+                .snapshotDate(date)
+                .balance(new BigDecimal(balance))
+                .entryCount(1)
+                .build();
+    }
+}
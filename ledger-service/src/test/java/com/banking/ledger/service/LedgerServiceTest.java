@@ -0,0 +1,190 @@
+package com.banking.ledger.service;
+
+import com.banking.events.TransactionEvent;
+import com.banking.ledger.dto.CursorPage;
+import com.banking.ledger.dto.LedgerCursor;
+import com.banking.ledger.dto.LedgerEntryResponse;
+import com.banking.ledger.journal.LedgerJournal;
+import com.banking.ledger.model.EntryType;
+import com.banking.ledger.model.LedgerEntry;
+import com.banking.ledger.model.TransactionType;
+import com.banking.ledger.repository.LedgerEntryJdbcRepository;
+import com.banking.ledger.repository.LedgerEntryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerServiceTest {
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Mock
+    private LedgerEntryJdbcRepository ledgerEntryJdbcRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ObjectProvider<LedgerJournal> journalProvider;
+
+    @Captor
+    private ArgumentCaptor<List<LedgerEntry>> entriesCaptor;
+
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LedgerService ledgerService;
+
+    @BeforeEach
+    void setUp() {
+        ledgerService = new LedgerService(ledgerEntryRepository, ledgerEntryJdbcRepository,
+                transactionTemplate, journalProvider, meterRegistry);
+        ReflectionTestUtils.setField(ledgerService, "maxPageSize", 100);
+    }
+
+    @Test
+    void getAccountLedgerPage_ReturnsCursorOfLastEntry() {
+        // Given
+        UUID accountId = UUID.randomUUID();
+        LedgerEntry newest = entry(accountId, LocalDateTime.now());
+        LedgerEntry middle = entry(accountId, LocalDateTime.now().minusMinutes(1));
+        LedgerEntry oldest = entry(accountId, LocalDateTime.now().minusMinutes(2));
+
+        when(ledgerEntryRepository.findFirstPageByAccountId(accountId, 3))
+                .thenReturn(List.of(newest, middle, oldest));
+
+        // When
+        CursorPage<LedgerEntryResponse> page = ledgerService.getAccountLedgerPage(accountId, null, 2, false);
+
+        // Then
+        assertEquals(2, page.getSize());
+        assertTrue(page.isHasNext());
+        assertNull(page.getApproximateTotal());
+        LedgerCursor cursor = LedgerCursor.decode(page.getNextCursor());
+        assertEquals(middle.getId(), cursor.id());
+        assertEquals(middle.getCreatedAt(), cursor.createdAt());
+        verifyNoInteractions(ledgerEntryJdbcRepository);
+    }
+
+    @Test
+    void getAccountLedgerPage_LastPageHasNoCursor() {
+        // Given
+        UUID accountId = UUID.randomUUID();
+        LedgerEntry previous = entry(accountId, LocalDateTime.now());
+        LedgerEntry last = entry(accountId, LocalDateTime.now().minusMinutes(1));
+        String cursor = new LedgerCursor(previous.getCreatedAt(), previous.getId()).encode();
+
+        when(ledgerEntryRepository.findPageByAccountIdBefore(accountId, previous.getCreatedAt(), previous.getId(), 21))
+                .thenReturn(List.of(last));
+        when(ledgerEntryJdbcRepository.estimateEntriesForAccount(accountId)).thenReturn(2L);
+
+        // When
+        CursorPage<LedgerEntryResponse> page = ledgerService.getAccountLedgerPage(accountId, cursor, 20, true);
+
+        // Then
+        assertEquals(1, page.getSize());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertEquals(2L, page.getApproximateTotal());
+    }
+
+    @Test
+    void getEntriesPage_RejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> ledgerService.getEntriesPage("not-a-cursor", 20, false));
+        verify(ledgerEntryRepository, never()).findFirstPage(anyInt());
+    }
+
+    @Test
+    void postEvents_CarriesRunningBalanceAcrossBatch() {
+        // Given
+        UUID source = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        TransactionEvent deposit = event("DEPOSIT", null, source, "100.00");
+        TransactionEvent transfer = event("TRANSFER", source, target, "30.00");
+
+        when(ledgerEntryRepository.findPostedTransactionIds(anyCollection())).thenReturn(List.of());
+        when(ledgerEntryRepository.findLatestBalancesByAccountIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{source, new BigDecimal("50.00")}));
+
+        // When
+        ledgerService.postEvents(List.of(deposit, transfer));
+
+        // Then
+        verify(ledgerEntryRepository).saveAll(entriesCaptor.capture());
+        List<LedgerEntry> entries = entriesCaptor.getValue();
+        assertEquals(3, entries.size());
+        assertEquals(new BigDecimal("150.00"), entries.get(0).getBalanceAfter());
+        assertEquals(new BigDecimal("120.00"), entries.get(1).getBalanceAfter());
+        assertEquals(target, entries.get(2).getAccountId());
+        assertEquals(new BigDecimal("30.00"), entries.get(2).getBalanceAfter());
+        assertEquals(TransactionType.DEPOSIT, entries.get(0).getTransactionType());
+        assertEquals(TransactionType.TRANSFER, entries.get(1).getTransactionType());
+        assertEquals(TransactionType.TRANSFER, entries.get(2).getTransactionType());
+        assertEquals(3.0, meterRegistry.counter("banking_ledger_entries_total").count());
+    }
+
+    @Test
+    void postEvents_SkipsAlreadyPostedAndDuplicateTransactions() {
+        // Given
+        UUID account = UUID.randomUUID();
+        TransactionEvent posted = event("DEPOSIT", null, account, "10.00");
+        TransactionEvent fresh = event("DEPOSIT", null, account, "20.00");
+
+        when(ledgerEntryRepository.findPostedTransactionIds(anyCollection()))
+                .thenReturn(List.of(posted.getTransactionId()));
+        when(ledgerEntryRepository.findLatestBalancesByAccountIds(anyCollection())).thenReturn(List.of());
+
+        // When
+        ledgerService.postEvents(List.of(posted, fresh, fresh));
+
+        // Then
+        verify(ledgerEntryRepository).saveAll(entriesCaptor.capture());
+        List<LedgerEntry> entries = entriesCaptor.getValue();
+        assertEquals(1, entries.size());
+        assertEquals(fresh.getTransactionId(), entries.get(0).getTransactionId());
+        assertEquals(new BigDecimal("20.00"), entries.get(0).getBalanceAfter());
+    }
+
+    private TransactionEvent event(String type, UUID source, UUID target, String amount) {
+        return TransactionEvent.builder()
+                .transactionId(UUID.randomUUID())
+                .transactionType(type)
+                .sourceAccountId(source)
+                .targetAccountId(target)
+                .amount(new BigDecimal(amount))
+                .status("COMPLETED")
+                .build();
+    }
+
+    private LedgerEntry entry(UUID accountId, LocalDateTime createdAt) {
+        return LedgerEntry.builder()
+                .id(UUID.randomUUID())
+                .accountId(accountId)
+                .transactionId(UUID.randomUUID())
+                .entryType(EntryType.CREDIT)
+                .amount(BigDecimal.TEN)
+                .balanceAfter(BigDecimal.TEN)
+                .createdAt(createdAt)
+                .build();
+    }
+}
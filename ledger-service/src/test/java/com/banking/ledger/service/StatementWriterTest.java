@@ -0,0 +1,73 @@
+package com.banking.ledger.service;
+
+import com.banking.ledger.dto.StatementFormat;
+import com.banking.ledger.model.EntryType;
+import com.banking.ledger.model.LedgerEntry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StatementWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void csv_QuotesDescriptionWithSeparators() throws Exception {
+        // Given
+        LedgerEntry entry = entry("Transfer in: rent, \"March\"");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (StatementWriter writer = StatementWriter.create(StatementFormat.CSV, out, objectMapper)) {
+            writer.write(entry);
+        }
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(CsvStatementWriter.HEADER, lines[0]);
+        assertEquals(entry.getId() + "," + entry.getAccountId() + "," + entry.getTransactionId()
+                + ",CREDIT,100.50,250.00,\"Transfer in: rent, \"\"March\"\"\",2024-03-01T10:15:30", lines[1]);
+    }
+
+    @Test
+    void ndjson_WritesOneObjectPerLine() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (StatementWriter writer = StatementWriter.create(StatementFormat.NDJSON, out, objectMapper)) {
+            writer.write(entry("first"));
+            writer.write(entry("second"));
+        }
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals("second", second.get("description").asText());
+        assertEquals(0, new BigDecimal("100.50").compareTo(second.get("amount").decimalValue()));
+        assertEquals("CREDIT", second.get("entryType").asText());
+    }
+
+    private LedgerEntry entry(String description) {
+        return LedgerEntry.builder()
+                .id(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .transactionId(UUID.randomUUID())
+                .entryType(EntryType.CREDIT)
+                .amount(new BigDecimal("100.50"))
+                .balanceAfter(new BigDecimal("250.00"))
+                .description(description)
+                .createdAt(LocalDateTime.of(2024, 3, 1, 10, 15, 30))
+                .build();
+    }
+}
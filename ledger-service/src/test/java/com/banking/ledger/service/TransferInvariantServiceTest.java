@@ -0,0 +1,125 @@
+package com.banking.ledger.service;
+
+import com.banking.ledger.model.JobWatermark;
+import com.banking.ledger.repository.InvariantViolationRepository;
+import com.banking.ledger.repository.JobWatermarkRepository;
+import com.banking.ledger.repository.LedgerEntryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferInvariantServiceTest {
+
+    @Mock
+    private InvariantViolationRepository invariantViolationRepository;
+
+    @Mock
+    private JobWatermarkRepository jobWatermarkRepository;
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TransferInvariantService transferInvariantService;
+
+    @BeforeEach
+    void setUp() {
+        transferInvariantService = new TransferInvariantService(
+                invariantViolationRepository, jobWatermarkRepository, ledgerEntryRepository, meterRegistry);
+    }
+
+    @Test
+    void nextWindowStart_WithoutWatermark_StartsAtEarliestEntry() {
+        // Given
+        LocalDateTime earliest = LocalDateTime.of(2024, 3, 1, 9, 30);
+        when(jobWatermarkRepository.findById(TransferInvariantService.WATERMARK_JOB)).thenReturn(Optional.empty());
+        when(ledgerEntryRepository.findEarliestCreatedAt()).thenReturn(Optional.of(earliest));
+
+        // When
+        Optional<LocalDateTime> start = transferInvariantService.nextWindowStart();
+
+        // Then
+        assertEquals(Optional.of(earliest), start);
+    }
+
+    @Test
+    void nextWindowStart_ResumesFromWatermark() {
+        // Given
+        LocalDateTime watermark = LocalDateTime.of(2024, 3, 2, 0, 0);
+        when(jobWatermarkRepository.findById(TransferInvariantService.WATERMARK_JOB))
+                .thenReturn(Optional.of(JobWatermark.builder().jobName("transfer-invariant").watermark(watermark).build()));
+
+        // When
+        Optional<LocalDateTime> start = transferInvariantService.nextWindowStart();
+
+        // Then
+        assertEquals(Optional.of(watermark), start);
+        verifyNoInteractions(ledgerEntryRepository);
+    }
+
+    @Test
+    void checkWindow_AdvancesWatermarkAndPublishesUnbalancedCount() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2024, 3, 2, 0, 0);
+        LocalDateTime to = from.plusHours(1);
+        when(invariantViolationRepository.clearBalancedTransfers(from, to)).thenReturn(1);
+        when(invariantViolationRepository.recordUnbalancedTransfers(from, to)).thenReturn(2);
+        when(invariantViolationRepository.count()).thenReturn(5L);
+
+        // When
+        transferInvariantService.checkWindow(from, to);
+
+        // Then
+        ArgumentCaptor<JobWatermark> saved = ArgumentCaptor.forClass(JobWatermark.class);
+        verify(jobWatermarkRepository).save(saved.capture());
+        assertEquals(to, saved.getValue().getWatermark());
+        assertEquals(5.0, meterRegistry.get("banking_ledger_invariant_unbalanced_transactions").gauge().value());
+        assertEquals(2.0, meterRegistry.counter("banking_ledger_invariant_violations_detected_total").count());
+        double lag = meterRegistry.get("banking_ledger_invariant_watermark_lag_seconds").gauge().value();
+        assertTrue(lag > 0);
+    }
+
+    @Test
+    void checkWindow_CountsATransferStillUnbalancedInALaterWindowOnce() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2024, 3, 2, 0, 0);
+        LocalDateTime to = from.plusHours(1);
+        when(invariantViolationRepository.refreshUnbalancedTransfers(from, to)).thenReturn(0, 1);
+        when(invariantViolationRepository.recordUnbalancedTransfers(from, to)).thenReturn(1, 0);
+        when(invariantViolationRepository.count()).thenReturn(1L);
+
+        // When
+        transferInvariantService.checkWindow(from, to);
+        transferInvariantService.checkWindow(from, to);
+
+        // Then
+        assertEquals(1.0, meterRegistry.counter("banking_ledger_invariant_violations_detected_total").count());
+        assertEquals(1.0, meterRegistry.get("banking_ledger_invariant_unbalanced_transactions").gauge().value());
+    }
+
+    @Test
+    void seedUnbalancedCount_PublishesViolationsLeftByEarlierRuns() {
+        // Given
+        when(invariantViolationRepository.count()).thenReturn(3L);
+
+        // When
+        transferInvariantService.seedUnbalancedCount();
+
+        // Then
+        assertEquals(3.0, meterRegistry.get("banking_ledger_invariant_unbalanced_transactions").gauge().value());
+    }
+}
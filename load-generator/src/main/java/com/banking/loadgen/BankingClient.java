@@ -0,0 +1,119 @@
+package com.banking.loadgen;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The API calls of the workload, asynchronous so a slow answer does not hold up the schedule. Each call is made
+ * as one of the virtual clients, identified to the gateway by its API key.
+ */
+@Component
+class BankingClient {
+
+    private final LoadProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    BankingClient(LoadProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getRequestTimeout())
+                .build();
+    }
+
+    CompletableFuture<Response> createAccount(int client, String holderName) {
+        return post(client, properties.accountBaseUrl() + "/api/accounts",
+                Map.of("holderName", holderName, "accountType", "CHECKING"));
+    }
+
+    CompletableFuture<Response> account(int client, UUID accountId) {
+        return get(client, properties.accountBaseUrl() + "/api/accounts/" + accountId);
+    }
+
+    CompletableFuture<Response> deposit(int client, UUID accountId, BigDecimal amount) {
+        return post(client, properties.transactionBaseUrl() + "/api/transactions/deposit",
+                Map.of("accountId", accountId, "amount", amount, "description", "Load test"));
+    }
+
+    CompletableFuture<Response> withdraw(int client, UUID accountId, BigDecimal amount) {
+        return post(client, properties.transactionBaseUrl() + "/api/transactions/withdraw",
+                Map.of("accountId", accountId, "amount", amount, "description", "Load test"));
+    }
+
+    CompletableFuture<Response> transfer(int client, UUID sourceAccountId, UUID targetAccountId, BigDecimal amount) {
+        return post(client, properties.transactionBaseUrl() + "/api/transactions/transfer",
+                Map.of("sourceAccountId", sourceAccountId, "targetAccountId", targetAccountId,
+                        "amount", amount, "description", "Load test"));
+    }
+
+    CompletableFuture<Response> transaction(int client, UUID transactionId) {
+        return get(client, properties.transactionBaseUrl() + "/api/transactions/" + transactionId);
+    }
+
+    private CompletableFuture<Response> get(int client, String url) {
+        return send(request(client, url).GET().build());
+    }
+
+    private CompletableFuture<Response> post(int client, String url, Object body) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return send(request(client, url)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    private HttpRequest.Builder request(int client, String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(properties.getRequestTimeout())
+                .header(properties.getApiKeyHeader(), properties.getApiKeyPrefix() + client);
+    }
+
+    private CompletableFuture<Response> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> new Response(response.statusCode(), parse(response.body())));
+    }
+
+    private JsonNode parse(byte[] body) {
+        try {
+            return body.length == 0 ? null : objectMapper.readTree(body);
+        } catch (IOException e) {
+            // Error pages of a proxy need not be JSON.
+            return null;
+        }
+    }
+
+    record Response(int status, JsonNode body) {
+
+        boolean successful() {
+            return status >= 200 && status < 300;
+        }
+
+        boolean rejected() {
+            return status == 429 || status == 503;
+        }
+
+        String text(String field) {
+            return body != null && body.hasNonNull(field) ? body.get(field).asText() : null;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.banking.loadgen;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The workload to drive against the stack and how to report it.
+ */
+@Data
+@ConfigurationProperties(prefix = "load")
+public class LoadProperties {
+
+    private String gatewayUrl = "http://localhost:8080";
+
+    /**
+     * Account service to call instead of the gateway, e.g. {@code http://localhost:8081} for local-stack.
+     */
+    private String accountUrl;
+
+    /**
+     * Transaction service to call instead of the gateway, e.g. {@code http://localhost:8082} for local-stack.
+     */
+    private String transactionUrl;
+
+    /**
+     * Operations started per second. They start on schedule whether or not earlier ones have finished.
+     */
+    private double rate = 50;
+
+    private Arrival arrival = Arrival.POISSON;
+
+    /**
+     * Run before measuring, so the services are warm and the accounts have a history.
+     */
+    private Duration warmup = Duration.ofSeconds(10);
+
+    private Duration duration = Duration.ofSeconds(60);
+
+    /**
+     * Relative weights of the operations.
+     */
+    private Map<Operation, Integer> mix = new EnumMap<>(Map.of(
+            Operation.DEPOSIT, 30,
+            Operation.WITHDRAWAL, 15,
+            Operation.TRANSFER, 35,
+            Operation.READ, 20));
+
+    /**
+     * Accounts created for the run, each funded with {@code initial-balance}.
+     */
+    private int accounts = 100;
+
+    private BigDecimal initialBalance = new BigDecimal("100000.00");
+
+    /**
+     * Share of the accounts that are hot, and share of the account picks that go to them.
+     */
+    private double hotAccounts = 0.05;
+
+    private double hotTraffic = 0.5;
+
+    private BigDecimal minAmount = new BigDecimal("1.00");
+
+    private BigDecimal maxAmount = new BigDecimal("100.00");
+
+    /**
+     * How long a transaction may stay pending before it is given up as timed out.
+     */
+    private Duration completionTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Delay before the first poll of a pending transaction; each further poll waits twice as long, up to
+     * {@code max-poll-interval}, so slow transactions do not flood the stack with polls.
+     */
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    private Duration maxPollInterval = Duration.ofSeconds(1);
+
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Operations in flight at most. Beyond it new operations start late, which their latency includes.
+     */
+    private int maxInFlight = 2000;
+
+    /**
+     * Virtual clients the operations are spread over. Each sends its own {@code api-key-header}, so the gateway
+     * rate limits every client on its own instead of the whole run as one remote address.
+     */
+    private int clients = 200;
+
+    private String apiKeyHeader = "X-API-Key";
+
+    private String apiKeyPrefix = "load-generator-";
+
+    /**
+     * Share of rejected operations above which the report warns that its latencies only cover the admitted ones.
+     */
+    private double maxRejectedShare = 0.01;
+
+    /**
+     * File the JSON report is written to.
+     */
+    private String report = "load-report.json";
+
+    /**
+     * Seed of the operation, account and arrival choices; random when not set.
+     */
+    private Long seed;
+
+    public String accountBaseUrl() {
+        return accountUrl != null ? accountUrl : gatewayUrl;
+    }
+
+    public String transactionBaseUrl() {
+        return transactionUrl != null ? transactionUrl : gatewayUrl;
+    }
+
+    public enum Arrival {
+        /**
+         * Evenly spaced starts.
+         */
+        CONSTANT,
+        /**
+         * Exponentially distributed gaps, as independent clients would arrive.
+         */
+        POISSON
+    }
+}
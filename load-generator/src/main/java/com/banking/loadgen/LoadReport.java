@@ -0,0 +1,139 @@
+package com.banking.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the results as JSON: the workload, and per operation and overall the outcome counts, the share of them
+ * rejected, throughput and latency percentiles in milliseconds. {@code histogram} holds the full latency
+ * histogram (microseconds, compressed and base64 encoded as by {@code HistogramLogWriter}), so runs can be merged
+ * or plotted later.
+ */
+@Component
+@Slf4j
+class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final LoadProperties properties;
+    private final ObjectMapper objectMapper;
+
+    LoadReport(LoadProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    Path write(Map<Operation, OperationStats> stats, long measuredNanos) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("workload", workload());
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        OperationStats all = new OperationStats();
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operation = entry.getValue();
+            if (operation.total() == 0) {
+                continue;
+            }
+            operations.put(entry.getKey().name(), summary(operation, measuredNanos));
+            all.add(operation);
+            log.info("{}: {}", entry.getKey(), line(operation, measuredNanos));
+        }
+        report.put("operations", operations);
+        report.put("all", summary(all, measuredNanos));
+        log.info("ALL: {}", line(all, measuredNanos));
+        if (all.rejectedShare() > properties.getMaxRejectedShare()) {
+            log.warn("{}% of the operations were rejected, so the latencies only describe the admitted rest; lower "
+                    + "load.rate, raise load.clients or the gateway's rate limit", percent(all.rejectedShare()));
+        }
+
+        Path path = Path.of(properties.getReport());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+        return path;
+    }
+
+    private Map<String, Object> workload() {
+        Map<String, Object> workload = new LinkedHashMap<>();
+        workload.put("rate", properties.getRate());
+        workload.put("arrival", properties.getArrival());
+        workload.put("warmup", properties.getWarmup().toString());
+        workload.put("duration", properties.getDuration().toString());
+        workload.put("mix", properties.getMix());
+        workload.put("accounts", properties.getAccounts());
+        workload.put("hotAccounts", properties.getHotAccounts());
+        workload.put("hotTraffic", properties.getHotTraffic());
+        workload.put("maxInFlight", properties.getMaxInFlight());
+        workload.put("seed", properties.getSeed());
+        return workload;
+    }
+
+    private Map<String, Object> summary(OperationStats stats, long measuredNanos) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        Map<String, Long> outcomes = new LinkedHashMap<>();
+        for (OperationStats.Outcome outcome : OperationStats.Outcome.values()) {
+            outcomes.put(outcome.name(), stats.count(outcome));
+        }
+        summary.put("total", stats.total());
+        summary.put("outcomes", outcomes);
+        summary.put("rejectedShare", Math.round(stats.rejectedShare() * 10_000) / 10_000.0);
+        summary.put("throughputPerSecond", perSecond(stats.total(), measuredNanos));
+        summary.put("latencyMs", percentiles(stats.latency()));
+        summary.put("serviceTimeMs", percentiles(stats.serviceTime()));
+        summary.put("histogram", encode(stats.latency()));
+        return summary;
+    }
+
+    private static Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> percentiles = new LinkedHashMap<>();
+        percentiles.put("count", histogram.getTotalCount());
+        percentiles.put("mean", millis(histogram.getMean()));
+        for (double percentile : PERCENTILES) {
+            percentiles.put("p" + (percentile % 1 == 0 ? String.valueOf((int) percentile) : String.valueOf(percentile)),
+                    millis(histogram.getValueAtPercentile(percentile)));
+        }
+        percentiles.put("max", millis(histogram.getMaxValue()));
+        return percentiles;
+    }
+
+    private static String line(OperationStats stats, long measuredNanos) {
+        Histogram latency = stats.latency();
+        return String.format("%d operations (%.1f/s), %d rejected (%.1f%%), %d errors, %d timed out; "
+                        + "p50 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, max %.1f ms",
+                stats.total(), perSecond(stats.total(), measuredNanos),
+                stats.count(OperationStats.Outcome.REJECTED), percent(stats.rejectedShare()),
+                stats.count(OperationStats.Outcome.ERROR),
+                stats.count(OperationStats.Outcome.TIMED_OUT), millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()));
+    }
+
+    private static double perSecond(long count, long nanos) {
+        return nanos > 0 ? Math.round(count * (double) TimeUnit.SECONDS.toNanos(1) / nanos * 100) / 100.0 : 0;
+    }
+
+    private static double percent(double share) {
+        return Math.round(share * 1000) / 10.0;
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+}
@@ -0,0 +1,233 @@
+package com.banking.loadgen;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Runs the workload open-loop: operations start at their scheduled time however many are still in flight, and
+ * a transaction counts as done once polling finds it {@code COMPLETED} or {@code FAILED}, not when it was
+ * accepted. Operations due during the warmup are run but not recorded.
+ */
+@Component
+@Slf4j
+class LoadRun implements ApplicationRunner, ExitCodeGenerator {
+
+    private static final String PENDING = "PENDING";
+    private static final String PROCESSING = "PROCESSING";
+    private static final String COMPLETED = "COMPLETED";
+
+    private final LoadProperties properties;
+    private final BankingClient client;
+    private final LoadReport report;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "load-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Semaphore inFlight;
+    private int exitCode;
+
+    LoadRun(LoadProperties properties, BankingClient client, LoadReport report) {
+        this.properties = properties;
+        this.client = client;
+        this.report = report;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        inFlight = new Semaphore(properties.getMaxInFlight());
+        try {
+            List<UUID> accounts = createAccounts();
+            SplittableRandom random = properties.getSeed() != null
+                    ? new SplittableRandom(properties.getSeed()) : new SplittableRandom();
+            long measuredNanos = drive(new Workload(properties, accounts, random));
+            Path written = report.write(stats, measuredNanos);
+            log.info("Report written to {}", written.toAbsolutePath());
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            log.error("Load run aborted: {}", e.getMessage());
+            exitCode = 1;
+        } finally {
+            poller.shutdownNow();
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private List<UUID> createAccounts() {
+        log.info("Creating and funding {} accounts", properties.getAccounts());
+        List<CompletableFuture<UUID>> created = new ArrayList<>();
+        for (int i = 0; i < properties.getAccounts(); i++) {
+            String holderName = String.format("Load Test %05d", i);
+            int clientId = i % properties.getClients();
+            inFlight.acquireUninterruptibly();
+            created.add(client.createAccount(clientId, holderName).thenCompose(response -> {
+                String id = response.text("id");
+                if (!response.successful() || id == null) {
+                    throw new IllegalStateException("Creating an account answered " + response.status());
+                }
+                UUID accountId = UUID.fromString(id);
+                return awaitFunded(clientId, accountId).thenApply(funded -> accountId);
+            }).whenComplete((accountId, error) -> inFlight.release()));
+        }
+        try {
+            return created.stream().map(CompletableFuture::join).toList();
+        } catch (RuntimeException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException("Setting up accounts failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private CompletableFuture<Void> awaitFunded(int clientId, UUID accountId) {
+        CompletableFuture<Void> funded = new CompletableFuture<>();
+        client.deposit(clientId, accountId, properties.getInitialBalance()).whenComplete((response, error) -> {
+            String transactionId = response != null ? response.text("id") : null;
+            if (error != null || !response.successful() || transactionId == null) {
+                funded.completeExceptionally(new IllegalStateException("Funding account " + accountId + " failed"));
+                return;
+            }
+            long deadline = System.nanoTime() + properties.getCompletionTimeout().toNanos();
+            awaitOutcome(clientId, UUID.fromString(transactionId), deadline, response.text("status"),
+                    properties.getPollInterval(), outcome -> {
+                        if (outcome == OperationStats.Outcome.COMPLETED) {
+                            funded.complete(null);
+                        } else {
+                            funded.completeExceptionally(new IllegalStateException(
+                                    "Funding account " + accountId + " ended " + outcome));
+                        }
+                    });
+        });
+        return funded;
+    }
+
+    /**
+     * Starts the operations on schedule until the run is over and waits for the last ones to finish.
+     *
+     * @return nanoseconds of the measured part of the run
+     */
+    private long drive(Workload workload) {
+        long start = System.nanoTime();
+        long measureFrom = start + properties.getWarmup().toNanos();
+        long end = measureFrom + properties.getDuration().toNanos();
+        log.info("Running {} operations/s ({}) for {} after {} warmup", properties.getRate(),
+                properties.getArrival(), properties.getDuration(), properties.getWarmup());
+
+        boolean warmingUp = measureFrom > start;
+        for (long due = start + workload.nextIntervalNanos(); due < end; due += workload.nextIntervalNanos()) {
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (warmingUp && due >= measureFrom) {
+                warmingUp = false;
+                log.info("Warmup done, measuring");
+            }
+            // Waiting for a permit delays the start, not the due time, so the latency still includes it.
+            inFlight.acquireUninterruptibly();
+            start(workload, due, due >= measureFrom);
+        }
+
+        long drainTimeout = properties.getCompletionTimeout().plus(properties.getRequestTimeout()).toNanos();
+        try {
+            if (!inFlight.tryAcquire(properties.getMaxInFlight(), drainTimeout, TimeUnit.NANOSECONDS)) {
+                log.warn("{} operations still in flight at the end",
+                        properties.getMaxInFlight() - inFlight.availablePermits());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return end - measureFrom;
+    }
+
+    private void start(Workload workload, long due, boolean measured) {
+        Operation operation = workload.nextOperation();
+        int clientId = workload.nextClient();
+        long sent = System.nanoTime();
+        CompletableFuture<BankingClient.Response> request = switch (operation) {
+            case DEPOSIT -> client.deposit(clientId, workload.nextAccount(), workload.nextAmount());
+            case WITHDRAWAL -> client.withdraw(clientId, workload.nextAccount(), workload.nextAmount());
+            case TRANSFER -> {
+                UUID source = workload.nextAccount();
+                yield client.transfer(clientId, source, workload.nextAccountOtherThan(source), workload.nextAmount());
+            }
+            case READ -> client.account(clientId, workload.nextAccount());
+        };
+        request.whenComplete((response, error) -> {
+            if (error != null) {
+                log.debug("{} failed: {}", operation, error.toString());
+                finish(operation, OperationStats.Outcome.ERROR, due, sent, measured);
+            } else if (response.rejected()) {
+                finish(operation, OperationStats.Outcome.REJECTED, due, sent, measured);
+            } else if (!response.successful() || response.text("id") == null) {
+                log.debug("{} answered {}", operation, response.status());
+                finish(operation, OperationStats.Outcome.ERROR, due, sent, measured);
+            } else if (operation == Operation.READ) {
+                finish(operation, OperationStats.Outcome.COMPLETED, due, sent, measured);
+            } else {
+                long deadline = due + properties.getCompletionTimeout().toNanos();
+                awaitOutcome(clientId, UUID.fromString(response.text("id")), deadline, response.text("status"),
+                        properties.getPollInterval(), outcome -> finish(operation, outcome, due, sent, measured));
+            }
+        });
+    }
+
+    private void finish(Operation operation, OperationStats.Outcome outcome, long due, long sent, boolean measured) {
+        if (measured) {
+            stats.get(operation).record(outcome, due, sent, System.nanoTime());
+        }
+        inFlight.release();
+    }
+
+    /**
+     * Polls the transaction until it leaves {@code PENDING} and {@code PROCESSING} or the deadline passes, waiting
+     * twice as long before each poll as before the last, up to {@code max-poll-interval}. The latency of a
+     * transaction is therefore only as precise as the interval it was last polled at.
+     */
+    private void awaitOutcome(int clientId, UUID transactionId, long deadline, String status, Duration interval,
+                              Consumer<OperationStats.Outcome> done) {
+        if (status != null && !PENDING.equals(status) && !PROCESSING.equals(status)) {
+            done.accept(COMPLETED.equals(status) ? OperationStats.Outcome.COMPLETED : OperationStats.Outcome.FAILED);
+            return;
+        }
+        if (System.nanoTime() >= deadline) {
+            done.accept(OperationStats.Outcome.TIMED_OUT);
+            return;
+        }
+        Duration next = interval.multipliedBy(2).compareTo(properties.getMaxPollInterval()) < 0
+                ? interval.multipliedBy(2) : properties.getMaxPollInterval();
+        poller.schedule(() -> client.transaction(clientId, transactionId).whenComplete((response, error) -> {
+            if (error != null || !response.successful()) {
+                // A failed or rejected poll is retried until the deadline rather than failing the operation.
+                awaitOutcome(clientId, transactionId, deadline, null, next, done);
+            } else {
+                awaitOutcome(clientId, transactionId, deadline, response.text("status"), next, done);
+            }
+        }), interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+}
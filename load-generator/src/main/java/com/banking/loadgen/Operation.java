@@ -0,0 +1,11 @@
+package com.banking.loadgen;
+
+public enum Operation {
+    DEPOSIT,
+    WITHDRAWAL,
+    TRANSFER,
+    /**
+     * Reading an account, complete with the response.
+     */
+    READ
+}
@@ -0,0 +1,104 @@
+package com.banking.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcomes and latencies of one operation, in microseconds. {@link #latency()} runs from when the operation
+ * was due to start, so time spent waiting behind a slow system counts (coordinated omission); the
+ * {@link #serviceTime()} from when its request was actually sent is kept to show the difference. Finished
+ * operations are recorded, failed transactions included, and so are timed out ones at the time they were given
+ * up; rejected and erroneous requests are only counted, as their quick answers would flatter the percentiles.
+ */
+class OperationStats {
+
+    private final Histogram latency = new ConcurrentHistogram(3);
+    private final Histogram serviceTime = new ConcurrentHistogram(3);
+    private final Map<Outcome, LongAdder> outcomes = new EnumMap<>(Outcome.class);
+
+    OperationStats() {
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, new LongAdder());
+        }
+    }
+
+    void record(Outcome outcome, long dueNanos, long sentNanos, long finishedNanos) {
+        outcomes.get(outcome).increment();
+        if (outcome.timed()) {
+            latency.recordValue(TimeUnit.NANOSECONDS.toMicros(finishedNanos - dueNanos));
+            serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(finishedNanos - sentNanos));
+        }
+    }
+
+    void add(OperationStats other) {
+        latency.add(other.latency);
+        serviceTime.add(other.serviceTime);
+        other.outcomes.forEach((outcome, count) -> outcomes.get(outcome).add(count.sum()));
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    Histogram serviceTime() {
+        return serviceTime;
+    }
+
+    long count(Outcome outcome) {
+        return outcomes.get(outcome).sum();
+    }
+
+    long total() {
+        long total = 0;
+        for (LongAdder count : outcomes.values()) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Share of the operations turned away; the latencies say nothing about these.
+     */
+    double rejectedShare() {
+        long total = total();
+        return total > 0 ? (double) count(Outcome.REJECTED) / total : 0;
+    }
+
+    enum Outcome {
+        /**
+         * Read, or transaction completed.
+         */
+        COMPLETED(true),
+        /**
+         * Transaction accepted but failed, e.g. for lack of funds.
+         */
+        FAILED(true),
+        /**
+         * Still pending after {@code completion-timeout}.
+         */
+        TIMED_OUT(true),
+        /**
+         * Turned away by admission control or rate limiting (429, 503).
+         */
+        REJECTED(false),
+        /**
+         * Any other error response or a request that did not get one.
+         */
+        ERROR(false);
+
+        private final boolean timed;
+
+        Outcome(boolean timed) {
+            this.timed = timed;
+        }
+
+        boolean timed() {
+            return timed;
+        }
+    }
+}
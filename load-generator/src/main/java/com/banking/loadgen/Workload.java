@@ -0,0 +1,105 @@
+package com.banking.loadgen;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The random choices of a run: when the next operation starts, which operation it is, the virtual client making
+ * it, the accounts it touches and the amount. The first {@code hot-accounts} share of the accounts receives
+ * {@code hot-traffic} of the picks. Used by the scheduling thread only.
+ */
+class Workload {
+
+    private final SplittableRandom random;
+    private final LoadProperties.Arrival arrival;
+    private final double meanIntervalNanos;
+    private final List<Operation> operations = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    private final List<UUID> accounts;
+    private final int clients;
+    private final int hotCount;
+    private final double hotTraffic;
+    private final long minCents;
+    private final long maxCents;
+
+    Workload(LoadProperties properties, List<UUID> accounts, SplittableRandom random) {
+        if (accounts.size() < 2) {
+            throw new IllegalArgumentException("Transfers need at least two accounts");
+        }
+        this.random = random;
+        this.arrival = properties.getArrival();
+        this.meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / properties.getRate();
+        int total = 0;
+        List<Integer> cumulative = new ArrayList<>();
+        for (Map.Entry<Operation, Integer> weight : properties.getMix().entrySet()) {
+            if (weight.getValue() > 0) {
+                total += weight.getValue();
+                operations.add(weight.getKey());
+                cumulative.add(total);
+            }
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("The operation mix has no positive weight");
+        }
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+        if (properties.getClients() < 1) {
+            throw new IllegalArgumentException("The run needs at least one client");
+        }
+        this.clients = properties.getClients();
+        this.accounts = List.copyOf(accounts);
+        this.hotCount = Math.max(1, Math.min(accounts.size() - 1,
+                (int) Math.round(accounts.size() * properties.getHotAccounts())));
+        this.hotTraffic = properties.getHotTraffic();
+        this.minCents = properties.getMinAmount().movePointRight(2).longValue();
+        this.maxCents = properties.getMaxAmount().movePointRight(2).longValue();
+    }
+
+    long nextIntervalNanos() {
+        if (arrival == LoadProperties.Arrival.CONSTANT) {
+            return Math.round(meanIntervalNanos);
+        }
+        return Math.round(-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+    }
+
+    Operation nextOperation() {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations.get(i);
+            }
+        }
+        throw new IllegalStateException("Weight " + pick + " out of range");
+    }
+
+    int nextClient() {
+        return random.nextInt(clients);
+    }
+
+    UUID nextAccount() {
+        if (random.nextDouble() < hotTraffic) {
+            return accounts.get(random.nextInt(hotCount));
+        }
+        return accounts.get(hotCount + random.nextInt(accounts.size() - hotCount));
+    }
+
+    UUID nextAccountOtherThan(UUID account) {
+        for (int attempt = 0; attempt < 8; attempt++) {
+            UUID other = nextAccount();
+            if (!other.equals(account)) {
+                return other;
+            }
+        }
+        // A single hot account taking all the traffic would never yield another one.
+        UUID other = accounts.get(random.nextInt(accounts.size()));
+        return other.equals(account) ? accounts.get((accounts.indexOf(account) + 1) % accounts.size()) : other;
+    }
+
+    BigDecimal nextAmount() {
+        return BigDecimal.valueOf(random.nextLong(minCents, maxCents + 1), 2);
+    }
+}
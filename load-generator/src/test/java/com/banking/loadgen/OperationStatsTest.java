@@ -0,0 +1,32 @@
+package com.banking.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OperationStatsTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final OperationStats stats = new OperationStats();
+
+    @Test
+    void record_MeasuresLatencyFromTheDueTimeAndOnlyCountsRejections() {
+        // Given
+        long due = 1_000 * MS;
+
+        // When
+        stats.record(OperationStats.Outcome.COMPLETED, due, due + 400 * MS, due + 450 * MS);
+        stats.record(OperationStats.Outcome.REJECTED, due, due, due + MS);
+
+        // Then
+        assertEquals(2, stats.total());
+        assertEquals(1, stats.count(OperationStats.Outcome.REJECTED));
+        assertEquals(0.5, stats.rejectedShare());
+        assertEquals(1, stats.latency().getTotalCount());
+        assertEquals(450_000, stats.latency().getMaxValue(), 450);
+        assertEquals(50_000, stats.serviceTime().getMaxValue(), 50);
+    }
+}
@@ -0,0 +1,81 @@
+package com.banking.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadTest {
+
+    private static final int PICKS = 100_000;
+
+    private final List<UUID> accounts = new ArrayList<>();
+
+    WorkloadTest() {
+        for (int i = 0; i < 100; i++) {
+            accounts.add(UUID.randomUUID());
+        }
+    }
+
+    @Test
+    void nextAccount_SendsTheHotShareOfPicksToTheHotAccounts() {
+        // Given
+        LoadProperties properties = new LoadProperties();
+        properties.setHotAccounts(0.05);
+        properties.setHotTraffic(0.8);
+        Workload workload = new Workload(properties, accounts, new SplittableRandom(1));
+
+        // When
+        int hot = 0;
+        for (int i = 0; i < PICKS; i++) {
+            if (accounts.indexOf(workload.nextAccount()) < 5) {
+                hot++;
+            }
+        }
+
+        // Then
+        assertEquals(0.8, hot / (double) PICKS, 0.01);
+    }
+
+    @Test
+    void nextOperation_FollowsTheMixAndSkipsZeroWeights() {
+        // Given
+        LoadProperties properties = new LoadProperties();
+        properties.setMix(new EnumMap<>(Map.of(Operation.DEPOSIT, 1, Operation.TRANSFER, 3, Operation.READ, 0)));
+        Workload workload = new Workload(properties, accounts, new SplittableRandom(1));
+
+        // When
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        for (int i = 0; i < PICKS; i++) {
+            counts.merge(workload.nextOperation(), 1, Integer::sum);
+        }
+
+        // Then
+        assertEquals(0.25, counts.get(Operation.DEPOSIT) / (double) PICKS, 0.01);
+        assertEquals(0.75, counts.get(Operation.TRANSFER) / (double) PICKS, 0.01);
+        assertFalse(counts.containsKey(Operation.READ));
+    }
+
+    @Test
+    void nextIntervalNanos_AveragesToTheRate() {
+        // Given
+        LoadProperties properties = new LoadProperties();
+        properties.setRate(200);
+        Workload workload = new Workload(properties, accounts, new SplittableRandom(1));
+
+        // When
+        long total = 0;
+        for (int i = 0; i < PICKS; i++) {
+            total += workload.nextIntervalNanos();
+        }
+
+        // Then
+        assertEquals(5_000_000, total / (double) PICKS, 100_000);
+    }
+}
@@ -0,0 +1,134 @@
+package com.banking.localstack;
+
+import com.banking.account.AccountServiceApplication;
+import com.banking.ledger.LedgerServiceApplication;
+import com.banking.messaging.transport.InMemoryBroker;
+import com.banking.notification.NotificationServiceApplication;
+import com.banking.transaction.TransactionServiceApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts account, transaction, ledger and notification services in one JVM for end-to-end load tests without
+ * RabbitMQ or a database server. Each service runs in its own child context with its own port and database on
+ * an embedded PostgreSQL, and all of them share the {@link InMemoryBroker} of the parent context.
+ * <p>
+ * Service settings come from {@code local-stack/<service>.yml}, not from the services' own
+ * {@code application.yml}, which all sit at the same classpath location here. For the same reason each
+ * service's Flyway migrations are copied out of its own jar and loaded from the file system.
+ */
+@Slf4j
+public final class LocalStack {
+
+    private static final List<Service> SERVICES = List.of(
+            new Service("account", AccountServiceApplication.class, "account_db"),
+            new Service("transaction", TransactionServiceApplication.class, "transaction_db"),
+            new Service("ledger", LedgerServiceApplication.class, "ledger_db"),
+            new Service("notification", NotificationServiceApplication.class, null));
+
+    private LocalStack() {
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        createDatabases(postgres);
+
+        // The shared context must not pick up whichever service's application.yml comes first on the classpath.
+        ConfigurableApplicationContext shared = new SpringApplicationBuilder(SharedConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .properties("spring.config.location=optional:classpath:/local-stack/shared.yml")
+                .run(args);
+        shared.addApplicationListener(event -> {
+            if (event instanceof ContextClosedEvent) {
+                closeQuietly(postgres);
+            }
+        });
+
+        List<ConfigurableApplicationContext> started = new ArrayList<>();
+        try {
+            for (Service service : SERVICES) {
+                started.add(new SpringApplicationBuilder(service.application())
+                        .parent(shared)
+                        .bannerMode(Banner.Mode.OFF)
+                        .properties("spring.config.location=classpath:/local-stack/" + service.name() + ".yml",
+                                "spring.flyway.locations=filesystem:" + extractMigrations(service),
+                                "local-stack.postgres.port=" + postgres.getPort())
+                        .run(args));
+            }
+        } catch (RuntimeException e) {
+            // Do not leave a partial stack holding ports.
+            started.forEach(ConfigurableApplicationContext::close);
+            shared.close();
+            throw e;
+        }
+        log.info("Local stack is up: embedded PostgreSQL on port {}", postgres.getPort());
+    }
+
+    private static void createDatabases(EmbeddedPostgres postgres) throws SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            for (Service service : SERVICES) {
+                if (service.database() != null) {
+                    statement.execute("CREATE DATABASE " + service.database());
+                }
+            }
+        }
+    }
+
+    private static Path extractMigrations(Service service) throws IOException {
+        String serviceLocation = service.application().getProtectionDomain().getCodeSource().getLocation().toString();
+        Path directory = Files.createTempDirectory("local-stack-" + service.name());
+        directory.toFile().deleteOnExit();
+        for (Resource migration : new PathMatchingResourcePatternResolver().getResources("classpath*:db/migration/*.sql")) {
+            if (migration.getURL().toString().startsWith(serviceLocation)) {
+                Path target = directory.resolve(migration.getFilename());
+                try (InputStream in = migration.getInputStream()) {
+                    Files.copy(in, target);
+                }
+                target.toFile().deleteOnExit();
+            }
+        }
+        return directory;
+    }
+
+    private static void closeQuietly(EmbeddedPostgres postgres) {
+        try {
+            postgres.close();
+        } catch (IOException e) {
+            log.warn("Could not stop embedded PostgreSQL: {}", e.getMessage());
+        }
+    }
+
+    private record Service(String name, Class<?> application, String database) {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class SharedConfiguration {
+
+        @Bean
+        public InMemoryBroker inMemoryBroker(@Value("${banking.transport.in-memory.queue-capacity:100000}") int capacity) {
+            return new InMemoryBroker(capacity);
+        }
+    }
+}
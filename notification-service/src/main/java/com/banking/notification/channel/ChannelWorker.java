@@ -0,0 +1,241 @@
+package com.banking.notification.channel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The queue and worker threads of one channel. Workers take notifications in order and send them no faster than
+ * the channel's rate, each with the channel's timeout. The outcome of each send goes to the {@link Listener},
+ * which decides about retries.
+ */
+@Slf4j
+public class ChannelWorker {
+
+    private final String name;
+    private final NotificationChannel channel;
+    private final NotificationProperties.Channel settings;
+    private final Listener listener;
+    private final BlockingQueue<Notification> queue;
+    private final List<Thread> threads = new ArrayList<>();
+    private final long intervalNanos;
+    private final ReentrantLock spaceLock = new ReentrantLock();
+    private final Condition spaceFreed = spaceLock.newCondition();
+    private final AtomicInteger awaitingSpace = new AtomicInteger();
+
+    private final Timer latency;
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter timedOut;
+    private final Counter dropped;
+
+    private long nextSendNanos;
+    private volatile boolean running;
+
+    public ChannelWorker(String name, NotificationChannel channel, NotificationProperties.Channel settings,
+                         Listener listener, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.channel = channel;
+        this.settings = settings;
+        this.listener = listener;
+        this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+        this.intervalNanos = settings.getRatePerSecond() > 0 ? (long) (1e9 / settings.getRatePerSecond()) : 0;
+
+        this.latency = Timer.builder("banking_notification_channel_latency")
+                .description("Time to send a notification through the channel")
+                .tag("channel", name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.sent = outcome(meterRegistry, "sent");
+        this.failed = outcome(meterRegistry, "failed");
+        this.timedOut = outcome(meterRegistry, "timeout");
+        this.dropped = outcome(meterRegistry, "dropped");
+        Gauge.builder("banking_notification_channel_queue_depth", queue, BlockingQueue::size)
+                .description("Notifications waiting for the channel's workers")
+                .tag("channel", name)
+                .register(meterRegistry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean accepts(Notification.Kind kind) {
+        return settings.getEvents().contains(kind);
+    }
+
+    public boolean offer(Notification notification, Duration wait) throws InterruptedException {
+        return queue.offer(notification, wait.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public void dropped() {
+        dropped.increment();
+    }
+
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    /**
+     * Waits until the queue has room for {@code slots} notifications or the deadline passes; {@code false} then.
+     */
+    public boolean awaitCapacity(int slots, long deadlineNanos) throws InterruptedException {
+        awaitingSpace.incrementAndGet();
+        spaceLock.lock();
+        try {
+            while (queue.remainingCapacity() < slots) {
+                long wait = deadlineNanos - System.nanoTime();
+                if (wait <= 0) {
+                    return false;
+                }
+                spaceFreed.awaitNanos(wait);
+            }
+            return true;
+        } finally {
+            spaceLock.unlock();
+            awaitingSpace.decrementAndGet();
+        }
+    }
+
+    public double fill() {
+        return queue.size() / (double) settings.getQueueCapacity();
+    }
+
+    public void start() {
+        running = true;
+        for (int i = 0; i < settings.getWorkers(); i++) {
+            Thread thread = new Thread(this::work, "notification-" + name + "-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+    }
+
+    public void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        threads.clear();
+    }
+
+    private void work() {
+        while (running) {
+            Notification notification;
+            try {
+                notification = queue.take();
+                signalSpace();
+                pace();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long started = System.nanoTime();
+            Exception failure = null;
+            try {
+                channel.send(notification, settings.getTimeout());
+                sent.increment();
+            } catch (TimeoutException | HttpTimeoutException e) {
+                timedOut.increment();
+                failure = e;
+                log.warn("Notification {} on {} timed out after {}", notification.transactionId(), name,
+                        settings.getTimeout());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failed.increment();
+                failure = e;
+                log.warn("Notification {} on {} failed: {}", notification.transactionId(), name, e.getMessage());
+            } finally {
+                latency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+            report(notification, failure);
+        }
+    }
+
+    private void report(Notification notification, Exception failure) {
+        try {
+            if (failure == null) {
+                listener.sent(this, notification);
+            } else {
+                listener.failed(this, notification, failure);
+            }
+        } catch (RuntimeException e) {
+            log.error("Recording the outcome of notification {} on {} failed", notification.transactionId(), name, e);
+        }
+    }
+
+    // Only takes the lock while a dispatch waits for room, so the workers do not contend on it otherwise.
+    private void signalSpace() {
+        if (awaitingSpace.get() > 0) {
+            spaceLock.lock();
+            try {
+                spaceFreed.signalAll();
+            } finally {
+                spaceLock.unlock();
+            }
+        }
+    }
+
+    // Hands out send slots intervalNanos apart across the workers and waits for this worker's slot.
+    private void pace() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long slot;
+        synchronized (this) {
+            long now = System.nanoTime();
+            slot = Math.max(now, nextSendNanos);
+            nextSendNanos = slot + intervalNanos;
+        }
+        long wait;
+        while ((wait = slot - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("banking_notification_channel_sends_total")
+                .description("Notifications handed to the channel, by outcome")
+                .tag("channel", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Told the outcome of each send, on the worker thread.
+     */
+    public interface Listener {
+
+        Listener NONE = new Listener() {
+            @Override
+            public void sent(ChannelWorker worker, Notification notification) {
+            }
+
+            @Override
+            public void failed(ChannelWorker worker, Notification notification, Exception failure) {
+            }
+        };
+
+        void sent(ChannelWorker worker, Notification notification);
+
+        void failed(ChannelWorker worker, Notification notification, Exception failure);
+    }
+}
@@ -0,0 +1,39 @@
+package com.banking.notification.channel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * Appends notifications as JSON lines to a file; a stand-in for a provider that shows what would be sent.
+ */
+public class FileChannel implements NotificationChannel {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileChannel(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void send(Notification notification, Duration timeout) throws IOException {
+        byte[] line = objectMapper.writeValueAsBytes(notification);
+        synchronized (this) {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                out.write(line);
+                out.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.banking.notification.channel;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the most recent notifications in memory instead of delivering them; a stand-in for local runs and tests.
+ */
+public class LoopbackChannel implements NotificationChannel {
+
+    private static final int RETAINED = 100;
+
+    private final Deque<Notification> recent = new ArrayDeque<>();
+
+    @Override
+    public synchronized void send(Notification notification, Duration timeout) {
+        if (recent.size() == RETAINED) {
+            recent.removeFirst();
+        }
+        recent.addLast(notification);
+    }
+
+    public synchronized List<Notification> recent() {
+        return List.copyOf(recent);
+    }
+}
@@ -0,0 +1,20 @@
+package com.banking.notification.channel;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A message for the holder of one account about one transaction, or about several in a digest, where
+ * {@code transactionId} is the latest of them, {@code transactionType} is {@value #DIGEST} and {@code amount}
+ * is the net change with {@code debit} set when it is negative.
+ */
+public record Notification(UUID transactionId, UUID accountId, Kind kind, String transactionType, BigDecimal amount,
+                           boolean debit, String message, Instant createdAt) {
+
+    public static final String DIGEST = "DIGEST";
+
+    public enum Kind {
+        COMPLETED, FAILED
+    }
+}
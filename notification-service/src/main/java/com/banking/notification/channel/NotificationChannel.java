@@ -0,0 +1,16 @@
+package com.banking.notification.channel;
+
+import java.time.Duration;
+
+/**
+ * A way of delivering notifications, e.g. email or SMS. Called from the channel's own worker threads, so an
+ * implementation may block, but it should give up after {@code timeout} and say so with a
+ * {@link java.util.concurrent.TimeoutException} or {@link java.net.http.HttpTimeoutException}.
+ * <p>
+ * A {@code NotificationChannel} bean named after a configured channel ({@code notification.channels.<name>})
+ * replaces that channel's built-in {@code type}.
+ */
+public interface NotificationChannel {
+
+    void send(Notification notification, Duration timeout) throws Exception;
+}
@@ -0,0 +1,155 @@
+package com.banking.notification.channel;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Groups one channel's completed notifications per account over {@code window}: the first opens a digest and
+ * schedules its expiry on the wheel, later ones only add to its counts and totals, so a digest takes the same
+ * memory however many transactions it covers. On expiry the digest goes out as one summary, or as the original
+ * notification if nothing joined it. Failures, debits of {@code immediate-debit-above} or more, and accounts
+ * beyond {@code max-accounts} open digests are not digested.
+ */
+public class NotificationDigester {
+
+    /**
+     * Writes the message of a summary from the digest's counts and totals.
+     */
+    @FunctionalInterface
+    public interface SummaryRenderer {
+        String render(int credits, int debits, BigDecimal credited, BigDecimal debited);
+    }
+
+    private final ChannelWorker worker;
+    private final NotificationProperties.Digest settings;
+    private final TimerWheel<Digest> wheel;
+    private final SummaryRenderer summaries;
+    private final Map<UUID, Digest> open = new HashMap<>();
+
+    public NotificationDigester(ChannelWorker worker, NotificationProperties.Digest settings, TimerWheel<Digest> wheel,
+                                SummaryRenderer summaries) {
+        this.worker = worker;
+        this.settings = settings;
+        this.wheel = wheel;
+        this.summaries = summaries;
+    }
+
+    public ChannelWorker worker() {
+        return worker;
+    }
+
+    /**
+     * Whether {@link #absorb} would take the notification now.
+     */
+    public synchronized boolean accepts(Notification notification) {
+        return digestible(notification)
+                && (open.containsKey(notification.accountId()) || open.size() < settings.getMaxAccounts());
+    }
+
+    /**
+     * Adds the notification to its account's digest; {@code false} if it has to be sent on its own.
+     */
+    public boolean absorb(Notification notification) {
+        return absorb(notification, digestId -> true);
+    }
+
+    /**
+     * Adds the notification to its account's digest once {@code record} has accepted it with the id of that digest,
+     * which a redelivered notification's record may decline; {@code false} if it has to be sent on its own. The
+     * digest cannot close between the two, so a summary covers every notification recorded with its id.
+     */
+    public synchronized boolean absorb(Notification notification, Predicate<UUID> record) {
+        if (!digestible(notification)) {
+            return false;
+        }
+        Digest digest = open.get(notification.accountId());
+        if (digest == null) {
+            if (open.size() >= settings.getMaxAccounts()) {
+                return false;
+            }
+            digest = new Digest(this, notification);
+            if (!record.test(digest.id)) {
+                return true;
+            }
+            digest.add(notification);
+            open.put(notification.accountId(), digest);
+            wheel.schedule(digest, settings.getWindow().toNanos());
+            return true;
+        }
+        if (record.test(digest.id)) {
+            digest.add(notification);
+        }
+        return true;
+    }
+
+    /**
+     * Closes the digest and returns what to send for it.
+     */
+    public synchronized Notification close(Digest digest) {
+        open.remove(digest.first.accountId(), digest);
+        return digest.summary(summaries);
+    }
+
+    public synchronized int openDigests() {
+        return open.size();
+    }
+
+    private boolean digestible(Notification notification) {
+        return notification.kind() == Notification.Kind.COMPLETED
+                && !(notification.debit() && notification.amount() != null
+                        && notification.amount().compareTo(settings.getImmediateDebitAbove()) >= 0);
+    }
+
+    /**
+     * One account's open digest on the wheel.
+     */
+    public static final class Digest {
+        private final UUID id = UUID.randomUUID();
+        private final NotificationDigester digester;
+        private final Notification first;
+        private Notification latest;
+        private int credits;
+        private int debits;
+        private BigDecimal credited = BigDecimal.ZERO;
+        private BigDecimal debited = BigDecimal.ZERO;
+
+        private Digest(NotificationDigester digester, Notification first) {
+            this.digester = digester;
+            this.first = first;
+        }
+
+        public UUID id() {
+            return id;
+        }
+
+        public NotificationDigester digester() {
+            return digester;
+        }
+
+        private void add(Notification notification) {
+            latest = notification;
+            BigDecimal amount = notification.amount() != null ? notification.amount() : BigDecimal.ZERO;
+            if (notification.debit()) {
+                debits++;
+                debited = debited.add(amount);
+            } else {
+                credits++;
+                credited = credited.add(amount);
+            }
+        }
+
+        private Notification summary(SummaryRenderer summaries) {
+            if (credits + debits == 1) {
+                return first;
+            }
+            BigDecimal net = credited.subtract(debited);
+            String message = summaries.render(credits, debits, credited, debited);
+            return new Notification(latest.transactionId(), first.accountId(), Notification.Kind.COMPLETED,
+                    Notification.DIGEST, net.abs(), net.signum() < 0, message, Instant.now());
+        }
+    }
+}
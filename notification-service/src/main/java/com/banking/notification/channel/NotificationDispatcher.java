@@ -0,0 +1,400 @@
+package com.banking.notification.channel;
+
+import com.banking.notification.outbox.NotificationOutbox;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.context.SmartLifecycle;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Hands notifications to the queues of the channels that take their kind, so the listeners only wait for
+ * queue space, never for a provider. When a channel's queue stays full for {@code enqueue-timeout} the delivery
+ * fails with {@link DispatchRejectedException} and goes to the listener's retry tiers. Before it comes to that,
+ * the listeners stop consuming once the fullest queue reaches {@code pause-at} and start again below
+ * {@code resume-at}, leaving the backlog in RabbitMQ.
+ * <p>
+ * Channels with a {@code digest} pass completed notifications to their {@link NotificationDigester} instead,
+ * whose windows expire on a shared {@link TimerWheel} ticked by one thread.
+ * <p>
+ * With a {@link NotificationOutbox}, every notification is recorded per channel before it is queued, so one that
+ * was recorded before (a redelivered event) is skipped. Failed sends are retried after the outbox's backoff from
+ * a second wheel on the same thread, and on startup the notifications still pending or in an open digest are
+ * queued again.
+ */
+@Slf4j
+public class NotificationDispatcher implements SmartLifecycle {
+
+    private static final int WHEEL_SLOTS = 64;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final NotificationProperties properties;
+    private final Map<String, ChannelWorker> workers = new LinkedHashMap<>();
+    private final Map<ChannelWorker, NotificationDigester> digesters = new HashMap<>();
+    private final TimerWheel<NotificationDigester.Digest> wheel;
+    private final TimerWheel<Retry> retries;
+    private final NotificationOutbox outbox;
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final Counter rejected;
+    private final Counter deduplicated;
+    private final Counter retried;
+    private final Counter abandoned;
+    private final Set<String> pausedListeners = new LinkedHashSet<>();
+
+    private Thread monitor;
+    private Thread ticker;
+    private volatile boolean running;
+
+    /**
+     * @param customChannels channel beans by bean name, replacing the built-in type of the channel of that name
+     * @param summaries writes the messages of digest summaries
+     * @param outbox where notifications are kept until sent, or {@code null} to keep them in memory only
+     * @param listenerRegistry the listener containers to pause, or {@code null} to never pause
+     */
+    public NotificationDispatcher(NotificationProperties properties, Map<String, NotificationChannel> customChannels,
+                                  ObjectMapper objectMapper, NotificationDigester.SummaryRenderer summaries,
+                                  NotificationOutbox outbox, RabbitListenerEndpointRegistry listenerRegistry,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.outbox = outbox;
+        this.listenerRegistry = listenerRegistry;
+        long tick = properties.getTimerTick().toNanos();
+        this.wheel = new TimerWheel<>(tick, WHEEL_SLOTS, WHEEL_LEVELS, System.nanoTime());
+        this.retries = new TimerWheel<>(tick, WHEEL_SLOTS, WHEEL_LEVELS, System.nanoTime());
+        ChannelWorker.Listener outcomes = outbox != null ? new OutboxOutcomes() : ChannelWorker.Listener.NONE;
+        properties.getChannels().forEach((name, settings) -> {
+            if (!settings.isEnabled()) {
+                return;
+            }
+            NotificationChannel channel = customChannels.containsKey(name)
+                    ? customChannels.get(name)
+                    : builtIn(name, settings, objectMapper);
+            ChannelWorker worker = new ChannelWorker(name, channel, settings, outcomes, meterRegistry);
+            workers.put(name, worker);
+            if (settings.getDigest().isEnabled()) {
+                NotificationDigester digester = new NotificationDigester(worker, settings.getDigest(), wheel,
+                        summaries);
+                digesters.put(worker, digester);
+                Gauge.builder("banking_notification_digest_open", digester, NotificationDigester::openDigests)
+                        .description("Accounts with a digest waiting for its window to end")
+                        .tag("channel", name)
+                        .register(meterRegistry);
+            }
+        });
+        this.rejected = Counter.builder("banking_notification_dispatch_rejected_total")
+                .description("Notifications sent back for retry because a channel queue was full")
+                .register(meterRegistry);
+        this.deduplicated = outboxEvents(meterRegistry, "deduplicated");
+        this.retried = outboxEvents(meterRegistry, "retry_scheduled");
+        this.abandoned = outboxEvents(meterRegistry, "abandoned");
+    }
+
+    /**
+     * Queues each notification on every channel that takes its kind, or none of them if a channel is full.
+     * Notifications a channel digests do not need room in its queue.
+     */
+    public void dispatch(List<Notification> notifications) throws InterruptedException {
+        Map<ChannelWorker, List<Notification>> targets = new LinkedHashMap<>();
+        Map<NotificationDigester, List<Notification>> digested = new LinkedHashMap<>();
+        for (ChannelWorker worker : workers.values()) {
+            NotificationDigester digester = digesters.get(worker);
+            for (Notification notification : notifications) {
+                if (!worker.accepts(notification.kind())) {
+                    continue;
+                }
+                if (digester != null && digester.accepts(notification)) {
+                    digested.computeIfAbsent(digester, d -> new ArrayList<>()).add(notification);
+                } else {
+                    targets.computeIfAbsent(worker, w -> new ArrayList<>()).add(notification);
+                }
+            }
+        }
+        // All or nothing, so a retried delivery does not reach the channels that already had it twice.
+        long deadline = System.nanoTime() + properties.getEnqueueTimeout().toNanos();
+        for (Map.Entry<ChannelWorker, List<Notification>> full = firstFull(targets); full != null;
+             full = firstFull(targets)) {
+            if (!full.getKey().awaitCapacity(full.getValue().size(), deadline)) {
+                rejected.increment();
+                throw new DispatchRejectedException(notifications.get(0).transactionId(), targets.entrySet().stream()
+                        .filter(target -> !fits(target.getKey(), target.getValue()))
+                        .map(target -> target.getKey().name())
+                        .toList());
+            }
+        }
+        for (Map.Entry<ChannelWorker, List<Notification>> target : targets.entrySet()) {
+            for (Notification notification : target.getValue()) {
+                enqueue(target.getKey(), notification, deadline);
+            }
+        }
+        for (Map.Entry<NotificationDigester, List<Notification>> target : digested.entrySet()) {
+            NotificationDigester digester = target.getKey();
+            String channel = digester.worker().name();
+            for (Notification notification : target.getValue()) {
+                boolean absorbed = outbox == null ? digester.absorb(notification) : digester.absorb(notification,
+                        digestId -> {
+                            if (outbox.addDigesting(channel, notification, digestId)) {
+                                return true;
+                            }
+                            deduplicated.increment();
+                            return false;
+                        });
+                // The digester may have filled up since the check.
+                if (!absorbed) {
+                    enqueue(digester.worker(), notification, deadline);
+                }
+            }
+        }
+    }
+
+    private void enqueue(ChannelWorker worker, Notification notification, long deadline) throws InterruptedException {
+        if (outbox != null && !outbox.add(worker.name(), notification, NotificationOutbox.Status.PENDING)) {
+            deduplicated.increment();
+            log.debug("Notification {} already recorded for {}, skipping", notification.transactionId(), worker.name());
+            return;
+        }
+        offer(worker, notification, deadline);
+    }
+
+    private void offer(ChannelWorker worker, Notification notification, long deadline) throws InterruptedException {
+        // Another listener thread may have taken the last slots since the check.
+        Duration wait = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+        if (worker.offer(notification, wait)) {
+            return;
+        }
+        if (outbox != null) {
+            // Recorded as pending, so it is not lost; try again once the queue has had time to drain.
+            retries.schedule(new Retry(worker.name(), notification), properties.getTimerTick().toNanos());
+            return;
+        }
+        worker.dropped();
+        log.warn("Notification {} dropped on {}: queue full", notification.transactionId(), worker.name());
+    }
+
+    private void retry(Retry retry) {
+        ChannelWorker worker = workers.get(retry.channel());
+        if (worker == null) {
+            log.warn("Notification {} pending for channel {}, which is not configured", retry.notification().transactionId(),
+                    retry.channel());
+            return;
+        }
+        try {
+            offer(worker, retry.notification(), System.nanoTime());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void expire(NotificationDigester.Digest digest) {
+        NotificationDigester digester = digest.digester();
+        ChannelWorker worker = digester.worker();
+        Notification summary = digester.close(digest);
+        long deadline = System.nanoTime() + properties.getEnqueueTimeout().toNanos();
+        try {
+            if (!Notification.DIGEST.equals(summary.transactionType())) {
+                // Nothing joined it, so the notification goes out itself under the record it already has.
+                if (outbox != null) {
+                    outbox.markPending(worker.name(), summary);
+                }
+                offer(worker, summary, deadline);
+                return;
+            }
+            enqueue(worker, summary, deadline);
+            if (outbox != null) {
+                outbox.digested(digest.id());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void tick() {
+        long tickMillis = Math.max(1, properties.getTimerTick().toMillis());
+        while (running) {
+            try {
+                Thread.sleep(tickMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long now = System.nanoTime();
+            wheel.advance(now, this::expire);
+            retries.advance(now, this::retry);
+        }
+    }
+
+    private static Map.Entry<ChannelWorker, List<Notification>> firstFull(
+            Map<ChannelWorker, List<Notification>> targets) {
+        for (Map.Entry<ChannelWorker, List<Notification>> target : targets.entrySet()) {
+            if (!fits(target.getKey(), target.getValue())) {
+                return target;
+            }
+        }
+        return null;
+    }
+
+    private static boolean fits(ChannelWorker worker, List<Notification> notifications) {
+        return worker.remainingCapacity() >= notifications.size();
+    }
+
+    @Override
+    public void start() {
+        workers.values().forEach(ChannelWorker::start);
+        running = true;
+        if (outbox != null) {
+            recover();
+        }
+        if (listenerRegistry != null) {
+            monitor = new Thread(this::monitorBackpressure, "notification-backpressure");
+            monitor.setDaemon(true);
+            monitor.start();
+        }
+        if (!digesters.isEmpty() || outbox != null) {
+            ticker = new Thread(this::tick, "notification-digest");
+            ticker.setDaemon(true);
+            ticker.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (monitor != null) {
+            monitor.interrupt();
+        }
+        if (ticker != null) {
+            ticker.interrupt();
+        }
+        workers.values().forEach(ChannelWorker::stop);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Starts before the listener containers and stops after them, so no delivery finds the workers gone.
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE + 1000;
+    }
+
+    private void monitorBackpressure() {
+        while (running) {
+            try {
+                Thread.sleep(properties.getBackpressureInterval().toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            double fill = workers.values().stream().mapToDouble(ChannelWorker::fill).max().orElse(0);
+            if (pausedListeners.isEmpty() && fill >= properties.getPauseAt()) {
+                for (String id : properties.getListenerIds()) {
+                    MessageListenerContainer container = listenerRegistry.getListenerContainer(id);
+                    if (container != null && container.isRunning()) {
+                        container.stop();
+                        pausedListeners.add(id);
+                    }
+                }
+                log.warn("Notification queues {}% full, paused listeners {}", Math.round(fill * 100), pausedListeners);
+            } else if (!pausedListeners.isEmpty() && fill <= properties.getResumeAt()) {
+                for (String id : pausedListeners) {
+                    MessageListenerContainer container = listenerRegistry.getListenerContainer(id);
+                    if (container != null) {
+                        container.start();
+                    }
+                }
+                log.info("Notification queues drained to {}%, resumed listeners {}", Math.round(fill * 100),
+                        pausedListeners);
+                pausedListeners.clear();
+            }
+        }
+    }
+
+    // Queues what was recorded but not sent before the last shutdown, in the order it was recorded. Notifications
+    // of digests that were still open go out on their own.
+    private void recover() {
+        outbox.requeueDigesting();
+        List<NotificationOutbox.Pending> pending = outbox.pending();
+        Instant now = Instant.now();
+        for (NotificationOutbox.Pending record : pending) {
+            long delay = record.nextAttemptAt() != null
+                    ? Math.max(0, Duration.between(now, record.nextAttemptAt()).toNanos()) : 0;
+            retries.schedule(new Retry(record.channel(), record.notification()), delay);
+        }
+        if (!pending.isEmpty()) {
+            log.info("Queued {} notifications left pending in the outbox", pending.size());
+        }
+    }
+
+    private static Counter outboxEvents(MeterRegistry meterRegistry, String event) {
+        return Counter.builder("banking_notification_outbox_events_total")
+                .description("Notifications skipped as already recorded, scheduled for retry or given up, by event")
+                .tag("event", event)
+                .register(meterRegistry);
+    }
+
+    private static NotificationChannel builtIn(String name, NotificationProperties.Channel settings,
+                                               ObjectMapper objectMapper) {
+        return switch (settings.getType()) {
+            case "loopback" -> new LoopbackChannel();
+            case "file" -> new FileChannel(Path.of(required(name, "path", settings.getPath())), objectMapper);
+            case "webhook" -> new WebhookChannel(URI.create(required(name, "url", settings.getUrl())), objectMapper,
+                    settings.getTimeout());
+            default -> throw new IllegalStateException(
+                    "Unknown type '" + settings.getType() + "' of notification channel " + name);
+        };
+    }
+
+    private static String required(String channel, String property, String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("notification.channels." + channel + "." + property + " is required");
+        }
+        return value;
+    }
+
+    private record Retry(String channel, Notification notification) {
+    }
+
+    // Records send outcomes in the outbox and schedules the retries it asks for.
+    private class OutboxOutcomes implements ChannelWorker.Listener {
+
+        @Override
+        public void sent(ChannelWorker worker, Notification notification) {
+            outbox.delivered(worker.name(), notification);
+        }
+
+        @Override
+        public void failed(ChannelWorker worker, Notification notification, Exception failure) {
+            Optional<Duration> backoff = outbox.failed(worker.name(), notification, failure.toString());
+            if (backoff.isPresent()) {
+                retries.schedule(new Retry(worker.name(), notification), backoff.get().toNanos());
+                retried.increment();
+            } else {
+                abandoned.increment();
+                log.warn("Notification {} on {} is out of attempts, left as failed in the outbox",
+                        notification.transactionId(), worker.name());
+            }
+        }
+    }
+
+    public static class DispatchRejectedException extends RuntimeException {
+        public DispatchRejectedException(UUID transactionId, List<String> fullChannels) {
+            super("Notifications of " + transactionId + " rejected, channel queues full: " + fullChannels);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.banking.notification.channel;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The notification channels and the dispatch pipeline in front of them:
+ * <pre>
+ * notification:
+ *   channels:
+ *     email:
+ *       type: file
+ *       path: ./data/notifications/email.jsonl
+ *       workers: 2
+ *       rate-per-second: 50
+ *       timeout: 2s
+ *       queue-capacity: 1000
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "notification")
+public class NotificationProperties {
+
+    /**
+     * How long a listener waits for room in the channel queues before the delivery is retried later.
+     */
+    private Duration enqueueTimeout = Duration.ofMillis(100);
+
+    /**
+     * Fill of the fullest channel queue at which the listeners stop consuming, and at which they resume.
+     */
+    private double pauseAt = 0.8;
+
+    private double resumeAt = 0.5;
+
+    private Duration backpressureInterval = Duration.ofMillis(250);
+
+    /**
+     * Resolution of digest windows and retry backoffs.
+     */
+    private Duration timerTick = Duration.ofMillis(100);
+
+    /**
+     * Listener containers stopped while the pipeline is over {@code pause-at}.
+     */
+    private List<String> listenerIds = List.of("notificationCompletedListener", "notificationFailedListener");
+
+    private Map<String, Channel> channels = new LinkedHashMap<>();
+
+    @Data
+    public static class Channel {
+        private boolean enabled = true;
+        /**
+         * Built-in implementation: {@code loopback}, {@code file} or {@code webhook}.
+         */
+        private String type = "loopback";
+        private Set<Notification.Kind> events = EnumSet.allOf(Notification.Kind.class);
+        private int workers = 1;
+        /**
+         * Sends per second at most across the channel's workers; unlimited when 0.
+         */
+        private double ratePerSecond = 0;
+        private Duration timeout = Duration.ofSeconds(2);
+        private int queueCapacity = 1000;
+        /**
+         * File the {@code file} type appends to.
+         */
+        private String path;
+        /**
+         * URL the {@code webhook} type posts to.
+         */
+        private String url;
+        private Digest digest = new Digest();
+    }
+
+    /**
+     * Completed notifications of one account within {@code window} go out as one summary; failures and debits
+     * of {@code immediate-debit-above} or more go out at once.
+     */
+    @Data
+    public static class Digest {
+        private boolean enabled = false;
+        private Duration window = Duration.ofSeconds(30);
+        private BigDecimal immediateDebitAbove = new BigDecimal("1000");
+        /**
+         * Accounts with an open digest at most; notifications for further accounts go out at once.
+         */
+        private int maxAccounts = 10000;
+    }
+}
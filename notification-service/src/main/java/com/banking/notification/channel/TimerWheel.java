@@ -0,0 +1,103 @@
+package com.banking.notification.channel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel: {@code levels} wheels of {@code slots} buckets each, where a bucket of level
+ * {@code n} spans {@code slots^n} ticks. A timer goes into the coarsest level it fits, so scheduling is O(1)
+ * however far out it expires; when the wheel below comes round, the level's current bucket is cascaded into
+ * finer levels, and timers fire from level 0. Each tick therefore touches only the timers of its own buckets,
+ * with no scan of the pending ones. Timers beyond the top level wait there and are cascaded again. Expiry is
+ * accurate to one tick.
+ */
+public class TimerWheel<T> {
+
+    private final long tickNanos;
+    private final int slots;
+    private final List<List<List<Timer<T>>>> levels;
+    private long currentTick;
+    private long lastAdvanceNanos;
+    private int pending;
+
+    public TimerWheel(long tickNanos, int slots, int levels, long startNanos) {
+        this.tickNanos = tickNanos;
+        this.slots = slots;
+        this.levels = new ArrayList<>(levels);
+        for (int level = 0; level < levels; level++) {
+            List<List<Timer<T>>> wheel = new ArrayList<>(slots);
+            for (int i = 0; i < slots; i++) {
+                wheel.add(new ArrayList<>());
+            }
+            this.levels.add(wheel);
+        }
+        this.lastAdvanceNanos = startNanos;
+    }
+
+    /**
+     * Fires {@code item} on the first {@link #advance} at least {@code delayNanos} from the last one.
+     */
+    public synchronized void schedule(T item, long delayNanos) {
+        long ticks = Math.max(1, (delayNanos + tickNanos - 1) / tickNanos);
+        place(new Timer<>(item, currentTick + ticks));
+        pending++;
+    }
+
+    /**
+     * Moves the wheel up to {@code nowNanos} and passes each timer that came due to {@code expired}, outside the
+     * wheel's lock so it may schedule again.
+     */
+    public void advance(long nowNanos, Consumer<T> expired) {
+        List<T> due = new ArrayList<>();
+        synchronized (this) {
+            while (nowNanos - lastAdvanceNanos >= tickNanos) {
+                lastAdvanceNanos += tickNanos;
+                currentTick++;
+                cascade();
+                List<Timer<T>> bucket = levels.get(0).get((int) (currentTick % slots));
+                List<Timer<T>> timers = new ArrayList<>(bucket);
+                bucket.clear();
+                for (Timer<T> timer : timers) {
+                    if (timer.deadlineTick <= currentTick) {
+                        due.add(timer.item);
+                    } else {
+                        place(timer);
+                    }
+                }
+            }
+            pending -= due.size();
+        }
+        due.forEach(expired);
+    }
+
+    public synchronized int pending() {
+        return pending;
+    }
+
+    // Empties the current bucket of every level whose span starts at this tick into the levels below.
+    private void cascade() {
+        long span = slots;
+        for (int level = 1; level < levels.size() && currentTick % span == 0; level++) {
+            List<Timer<T>> bucket = levels.get(level).get((int) ((currentTick / span) % slots));
+            List<Timer<T>> timers = new ArrayList<>(bucket);
+            bucket.clear();
+            timers.forEach(this::place);
+            span *= slots;
+        }
+    }
+
+    private void place(Timer<T> timer) {
+        long delta = timer.deadlineTick - currentTick;
+        int level = 0;
+        long unit = 1;
+        while (level < levels.size() - 1 && delta >= unit * slots) {
+            level++;
+            unit *= slots;
+        }
+        levels.get(level).get((int) ((timer.deadlineTick / unit) % slots)).add(timer);
+    }
+
+    private record Timer<T>(T item, long deadlineTick) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.banking.notification.config;
+
+import com.banking.notification.channel.NotificationChannel;
+import com.banking.notification.channel.NotificationDigester;
+import com.banking.notification.channel.NotificationDispatcher;
+import com.banking.notification.channel.NotificationProperties;
+import com.banking.notification.outbox.NotificationOutbox;
+import com.banking.notification.template.NotificationTemplates;
+import com.banking.notification.template.TemplateProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * The channels notifications are delivered through; see {@link NotificationProperties}.
+ */
+@Configuration
+@EnableConfigurationProperties(NotificationProperties.class)
+public class NotificationChannelConfig {
+
+    @Bean
+    public NotificationDispatcher notificationDispatcher(NotificationProperties properties,
+                                                         ObjectProvider<Map<String, NotificationChannel>> customChannels,
+                                                         ObjectMapper objectMapper,
+                                                         NotificationTemplates templates,
+                                                         TemplateProperties templateProperties,
+                                                         ObjectProvider<NotificationOutbox> outbox,
+                                                         ObjectProvider<RabbitListenerEndpointRegistry> listenerRegistry,
+                                                         MeterRegistry meterRegistry) {
+        // Summaries in the same locale as the notifications they stand for, see NotificationService.
+        NotificationDigester.SummaryRenderer summaries = (credits, debits, credited, debited) -> templates
+                .renderDigest(credits, debits, credited, debited, templateProperties.getDefaultLocale());
+        return new NotificationDispatcher(properties, customChannels.getIfAvailable(Map::of), objectMapper, summaries,
+                outbox.getIfAvailable(), listenerRegistry.getIfAvailable(), meterRegistry);
+    }
+}
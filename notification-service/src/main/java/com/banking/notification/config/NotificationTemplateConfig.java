@@ -0,0 +1,21 @@
+package com.banking.notification.config;
+
+import com.banking.notification.template.NotificationTemplates;
+import com.banking.notification.template.TemplateProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The compiled notification message templates; see {@link TemplateProperties}.
+ */
+@Configuration
+@EnableConfigurationProperties(TemplateProperties.class)
+public class NotificationTemplateConfig {
+
+    @Bean
+    public NotificationTemplates notificationTemplates(TemplateProperties properties, MeterRegistry meterRegistry) {
+        return new NotificationTemplates(properties, meterRegistry);
+    }
+}
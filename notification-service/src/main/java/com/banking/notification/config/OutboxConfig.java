@@ -0,0 +1,41 @@
+package com.banking.notification.config;
+
+import com.banking.notification.outbox.NotificationOutbox;
+import com.banking.notification.outbox.OutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+/**
+ * The notification outbox in an embedded H2 database of its own, created on startup if missing.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+@ConditionalOnProperty(prefix = "notification.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+
+    @Bean
+    public DataSource outboxDataSource(OutboxProperties properties) {
+        DataSource dataSource = DataSourceBuilder.create()
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+        new ResourceDatabasePopulator(new ClassPathResource("notification-outbox.sql")).execute(dataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public NotificationOutbox notificationOutbox(DataSource outboxDataSource, ObjectMapper objectMapper,
+                                                 OutboxProperties properties) {
+        return new NotificationOutbox(new JdbcTemplate(outboxDataSource), objectMapper, properties);
+    }
+}
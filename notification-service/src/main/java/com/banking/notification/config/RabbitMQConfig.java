@@ -1,24 +1,112 @@
 package com.banking.notification.config;
 
+import com.banking.events.codec.EventMessageConverters;
+import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitMQConfig {
 
+    @Value("${rabbitmq.exchange.name}")
+    private String exchangeName;
+
+    @Value("${rabbitmq.queue.transaction-completed}")
+    private String transactionCompletedQueue;
+
+    @Value("${rabbitmq.queue.transaction-failed}")
+    private String transactionFailedQueue;
+
+    @Value("${rabbitmq.routing-key.transaction-completed}")
+    private String transactionCompletedRoutingKey;
+
+    @Value("${rabbitmq.routing-key.transaction-failed}")
+    private String transactionFailedRoutingKey;
+
+    @Value("${rabbitmq.wire-format:json}")
+    private EventMessageConverters.WireFormat wireFormat;
+
+    @Bean
+    public TopicExchange exchange() {
+        return new TopicExchange(exchangeName);
+    }
+
+    @Bean
+    public TopicExchange deadLetterExchange() {
+        return new TopicExchange(exchangeName + ".dlx");
+    }
+
+    // Notification keeps its own queues so a slow notification path never holds back other consumers.
+    @Bean
+    public Queue transactionCompletedQueue() {
+        return consumerQueue(transactionCompletedQueue);
+    }
+
+    @Bean
+    public Queue transactionFailedQueue() {
+        return consumerQueue(transactionFailedQueue);
+    }
+
+    @Bean
+    public Binding transactionCompletedBinding(Queue transactionCompletedQueue, TopicExchange exchange) {
+        return BindingBuilder.bind(transactionCompletedQueue)
+                .to(exchange)
+                .with(transactionCompletedRoutingKey);
+    }
+
+    @Bean
+    public Binding transactionFailedBinding(Queue transactionFailedQueue, TopicExchange exchange) {
+        return BindingBuilder.bind(transactionFailedQueue)
+                .to(exchange)
+                .with(transactionFailedRoutingKey);
+    }
+
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public Queue transactionCompletedDeadLetterQueue() {
+        return QueueBuilder.durable(transactionCompletedQueue + ".dlq").build();
+    }
+
+    @Bean
+    public Queue transactionFailedDeadLetterQueue() {
+        return QueueBuilder.durable(transactionFailedQueue + ".dlq").build();
+    }
+
+    @Bean
+    public Binding transactionCompletedDeadLetterBinding(Queue transactionCompletedDeadLetterQueue,
+                                                         TopicExchange deadLetterExchange) {
+        return BindingBuilder.bind(transactionCompletedDeadLetterQueue)
+                .to(deadLetterExchange)
+                .with(transactionCompletedQueue);
+    }
+
+    @Bean
+    public Binding transactionFailedDeadLetterBinding(Queue transactionFailedDeadLetterQueue,
+                                                      TopicExchange deadLetterExchange) {
+        return BindingBuilder.bind(transactionFailedDeadLetterQueue)
+                .to(deadLetterExchange)
+                .with(transactionFailedQueue);
+    }
+
+    @Bean
+    public MessageConverter messageConverter() {
+        return EventMessageConverters.create(wireFormat);
     }
 
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(jsonMessageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter());
         return rabbitTemplate;
     }
+
+    private Queue consumerQueue(String name) {
+        return QueueBuilder.durable(name)
+                .withArgument("x-dead-letter-exchange", exchangeName + ".dlx")
+                .withArgument("x-dead-letter-routing-key", name)
+                .build();
+    }
 }
@@ -0,0 +1,46 @@
+package com.banking.notification.job;
+
+import com.banking.notification.outbox.NotificationOutbox;
+import com.banking.notification.outbox.OutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@ConditionalOnProperty(prefix = "notification.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxCleanupJob {
+
+    private final NotificationOutbox outbox;
+    private final OutboxProperties properties;
+    private final Counter deleted;
+
+    public OutboxCleanupJob(NotificationOutbox outbox, OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.properties = properties;
+        this.deleted = Counter.builder("banking_notification_outbox_deleted_total")
+                .description("Delivered and digested outbox records deleted after the retention period")
+                .register(meterRegistry);
+    }
+
+    // Batches keep each delete short, so sends recording their outcome are not held up behind it.
+    @Scheduled(fixedDelayString = "${notification.outbox.cleanup-interval-ms:60000}")
+    public void deleteDelivered() {
+        Instant before = Instant.now().minus(properties.getRetainDelivered());
+        int total = 0;
+        int batch;
+        do {
+            batch = outbox.deleteCompletedBefore(before, properties.getCleanupBatchSize());
+            total += batch;
+        } while (batch == properties.getCleanupBatchSize());
+        deleted.increment(total);
+        if (total > 0) {
+            log.debug("Deleted {} delivered notification outbox records", total);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.banking.notification.outbox;
+
+import com.banking.notification.channel.Notification;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Notifications per channel, keyed by transaction, account and channel so a redelivered event is recognised.
+ * A record is {@code PENDING} from when it is queued until the channel has sent it, {@code DIGESTING} while it
+ * waits in an open digest, {@code DIGESTED} once a summary covering it was queued, and {@code FAILED} once its
+ * attempts are used up. Records in a digest carry its id, so closing it touches exactly the records it covers.
+ */
+public class NotificationOutbox {
+
+    public enum Status {
+        PENDING, DELIVERED, DIGESTING, DIGESTED, FAILED
+    }
+
+    /**
+     * A notification still to be sent, with when to try next ({@code null} for at once).
+     */
+    public record Pending(String channel, Notification notification, Instant nextAttemptAt) {
+    }
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+
+    public NotificationOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, OutboxProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * Records the notification for the channel; {@code false} if it was recorded before.
+     */
+    public boolean add(String channel, Notification notification, Status status) {
+        return insert(channel, notification, status, null);
+    }
+
+    /**
+     * Records the notification for the channel as waiting in the digest {@code digestId}; {@code false} if it was
+     * recorded before.
+     */
+    public boolean addDigesting(String channel, Notification notification, UUID digestId) {
+        return insert(channel, notification, Status.DIGESTING, digestId);
+    }
+
+    private boolean insert(String channel, Notification notification, Status status, UUID digestId) {
+        Timestamp now = Timestamp.from(Instant.now());
+        try {
+            jdbcTemplate.update("""
+                            INSERT INTO notification_outbox
+                                (dedupe_key, channel, account_id, digest_id, status, payload, attempts, created_at,
+                                 updated_at)
+                            VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)""",
+                    dedupeKey(channel, notification), channel, notification.accountId(), digestId, status.name(),
+                    write(notification), now, now);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public void markPending(String channel, Notification notification) {
+        setStatus(channel, notification, Status.PENDING);
+    }
+
+    /**
+     * Marks the notifications waiting in the digest as covered by its summary.
+     */
+    public void digested(UUID digestId) {
+        jdbcTemplate.update("""
+                        UPDATE notification_outbox SET status = ?, updated_at = ?
+                        WHERE digest_id = ? AND status = ?""",
+                Status.DIGESTED.name(), Timestamp.from(Instant.now()), digestId, Status.DIGESTING.name());
+    }
+
+    /**
+     * Turns notifications left in digests that never closed, as after a crash, back into pending ones.
+     */
+    public int requeueDigesting() {
+        return jdbcTemplate.update("UPDATE notification_outbox SET status = ?, updated_at = ? WHERE status = ?",
+                Status.PENDING.name(), Timestamp.from(Instant.now()), Status.DIGESTING.name());
+    }
+
+    public void delivered(String channel, Notification notification) {
+        setStatus(channel, notification, Status.DELIVERED);
+    }
+
+    /**
+     * Counts a failed send and returns the backoff before the next one, or nothing once the attempts are used up
+     * and the record is left as {@code FAILED}.
+     */
+    public Optional<Duration> failed(String channel, Notification notification, String error) {
+        String key = dedupeKey(channel, notification);
+        Integer previous = jdbcTemplate.queryForObject(
+                "SELECT attempts FROM notification_outbox WHERE dedupe_key = ?", Integer.class, key);
+        int attempts = (previous != null ? previous : 0) + 1;
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        Instant now = Instant.now();
+        if (attempts >= properties.getMaxAttempts()) {
+            jdbcTemplate.update("""
+                            UPDATE notification_outbox
+                            SET status = ?, attempts = ?, next_attempt_at = NULL, last_error = ?, updated_at = ?
+                            WHERE dedupe_key = ?""",
+                    Status.FAILED.name(), attempts, lastError, Timestamp.from(now), key);
+            return Optional.empty();
+        }
+        Duration backoff = backoff(attempts);
+        jdbcTemplate.update("""
+                        UPDATE notification_outbox
+                        SET attempts = ?, next_attempt_at = ?, last_error = ?, updated_at = ?
+                        WHERE dedupe_key = ?""",
+                attempts, Timestamp.from(now.plus(backoff)), lastError, Timestamp.from(now), key);
+        return Optional.of(backoff);
+    }
+
+    public List<Pending> pending() {
+        return jdbcTemplate.query(
+                "SELECT channel, payload, next_attempt_at FROM notification_outbox WHERE status = ? ORDER BY created_at",
+                (rs, row) -> {
+                    Timestamp next = rs.getTimestamp("next_attempt_at");
+                    return new Pending(rs.getString("channel"), read(rs.getString("payload")),
+                            next != null ? next.toInstant() : null);
+                },
+                Status.PENDING.name());
+    }
+
+    /**
+     * Deletes up to {@code limit} delivered or digested records last changed before {@code before}.
+     */
+    public int deleteCompletedBefore(Instant before, int limit) {
+        return jdbcTemplate.update("""
+                        DELETE FROM notification_outbox
+                        WHERE dedupe_key IN (
+                            SELECT dedupe_key FROM notification_outbox
+                            WHERE status IN (?, ?) AND updated_at < ?
+                            FETCH FIRST ? ROWS ONLY)""",
+                Status.DELIVERED.name(), Status.DIGESTED.name(), Timestamp.from(before), limit);
+    }
+
+    public Status status(String channel, Notification notification) {
+        List<String> status = jdbcTemplate.queryForList(
+                "SELECT status FROM notification_outbox WHERE dedupe_key = ?", String.class,
+                dedupeKey(channel, notification));
+        return status.isEmpty() ? null : Status.valueOf(status.get(0));
+    }
+
+    private void setStatus(String channel, Notification notification, Status status) {
+        jdbcTemplate.update("UPDATE notification_outbox SET status = ?, next_attempt_at = NULL, updated_at = ? "
+                        + "WHERE dedupe_key = ?",
+                status.name(), Timestamp.from(Instant.now()), dedupeKey(channel, notification));
+    }
+
+    // Exponential with +/-20% jitter, so notifications that failed together do not all retry together.
+    private Duration backoff(int attempts) {
+        double nanos = properties.getInitialBackoff().toNanos() * Math.pow(properties.getBackoffMultiplier(), attempts - 1);
+        nanos = Math.min(nanos, properties.getMaxBackoff().toNanos());
+        return Duration.ofNanos((long) (nanos * ThreadLocalRandom.current().nextDouble(0.8, 1.2)));
+    }
+
+    private static String dedupeKey(String channel, Notification notification) {
+        String prefix = Notification.DIGEST.equals(notification.transactionType()) ? "digest:" : "";
+        return prefix + notification.transactionId() + ":" + notification.accountId() + ":" + channel;
+    }
+
+    private String write(Notification notification) {
+        try {
+            return objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize notification " + notification.transactionId(), e);
+        }
+    }
+
+    private Notification read(String payload) {
+        try {
+            return objectMapper.readValue(payload, Notification.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read outbox payload " + payload, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.banking.notification.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * The local store notifications are kept in until their channel has delivered them.
+ */
+@Data
+@ConfigurationProperties(prefix = "notification.outbox")
+public class OutboxProperties {
+
+    private boolean enabled = true;
+
+    private String url = "jdbc:h2:file:./data/notification-outbox";
+
+    private String username = "sa";
+
+    private String password = "";
+
+    /**
+     * Backoff before the first retry of a failed send, growing by {@code backoff-multiplier} per attempt up to
+     * {@code max-backoff}.
+     */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    private double backoffMultiplier = 2;
+
+    private Duration maxBackoff = Duration.ofMinutes(10);
+
+    /**
+     * Sends per notification and channel before it is left as failed.
+     */
+    private int maxAttempts = 8;
+
+    /**
+     * How long delivered records are kept, which is also how long a redelivered event is recognised.
+     */
+    private Duration retainDelivered = Duration.ofHours(24);
+
+    private int cleanupBatchSize = 1000;
+}
@@ -1,20 +1,38 @@
 package com.banking.notification.service;
 
-import com.banking.notification.event.TransactionEvent;
+import com.banking.events.TransactionEvent;
+import com.banking.notification.channel.Notification;
+import com.banking.notification.channel.NotificationDispatcher;
+import com.banking.notification.template.NotificationTemplates;
+import com.banking.notification.template.TemplateProperties;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 @Service
 @Slf4j
 public class NotificationService {
 
+    private final NotificationDispatcher dispatcher;
+    private final NotificationTemplates templates;
+    private final TemplateProperties templateProperties;
     private final Counter notificationsSentCounter;
     private final Counter notificationsFailedCounter;
 
-    public NotificationService(MeterRegistry meterRegistry) {
+    public NotificationService(NotificationDispatcher dispatcher, NotificationTemplates templates,
+                               TemplateProperties templateProperties, MeterRegistry meterRegistry) {
+        this.dispatcher = dispatcher;
+        this.templates = templates;
+        this.templateProperties = templateProperties;
         this.notificationsSentCounter = Counter.builder("banking_notifications_sent_total")
                 .description("Total number of notifications sent")
                 .register(meterRegistry);
@@ -24,44 +42,44 @@ public class NotificationService {
     }
 
     @RabbitListener(queues = "${rabbitmq.queue.transaction-completed}", containerFactory = "rabbitListenerContainerFactory", id = "notificationCompletedListener")
-    public void handleTransactionCompleted(TransactionEvent event) {
-        log.info("📧 NOTIFICATION: Transaction COMPLETED");
-        log.info("   Transaction ID: {}", event.getTransactionId());
-        log.info("   Type: {}", event.getTransactionType());
-        log.info("   Amount: ${}", event.getAmount());
-        log.info("   Status: {}", event.getStatus());
+    public void handleTransactionCompleted(TransactionEvent event) throws InterruptedException {
+        log.debug("📧 NOTIFICATION: Transaction COMPLETED: id={}, type={}, amount={}",
+                event.getTransactionId(), event.getTransactionType(), event.getAmount());
 
-        // In a real system, this would send email/SMS/push notification
-        sendNotification(event, true);
+        sendNotification(event, Notification.Kind.COMPLETED);
         notificationsSentCounter.increment();
     }
 
     @RabbitListener(queues = "${rabbitmq.queue.transaction-failed}", containerFactory = "rabbitListenerContainerFactory", id = "notificationFailedListener")
-    public void handleTransactionFailed(TransactionEvent event) {
-        log.warn("📧 NOTIFICATION: Transaction FAILED");
-        log.warn("   Transaction ID: {}", event.getTransactionId());
-        log.warn("   Type: {}", event.getTransactionType());
-        log.warn("   Amount: ${}", event.getAmount());
-        log.warn("   Error: {}", event.getErrorMessage());
+    public void handleTransactionFailed(TransactionEvent event) throws InterruptedException {
+        log.info("📧 NOTIFICATION: Transaction FAILED: id={}, type={}, amount={}, error={}",
+                event.getTransactionId(), event.getTransactionType(), event.getAmount(), event.getErrorMessage());
 
-        // In a real system, this would send failure notification
-        sendNotification(event, false);
+        sendNotification(event, Notification.Kind.FAILED);
         notificationsFailedCounter.increment();
     }
 
-    private void sendNotification(TransactionEvent event, boolean success) {
-        // Simulate notification sending
-        String message = success
-                ? String.format("Your %s of $%s has been completed successfully.",
-                        event.getTransactionType().toLowerCase(), event.getAmount())
-                : String.format("Your %s of $%s has failed. Reason: %s",
-                        event.getTransactionType().toLowerCase(), event.getAmount(), event.getErrorMessage());
-
-        log.info("   📱 Sending notification: {}", message);
+    // One notification per account holder involved, in the default locale as accounts carry none; the channels
+    // deliver them on their own threads.
+    private void sendNotification(TransactionEvent event, Notification.Kind kind) throws InterruptedException {
+        String message = templates.render(event, kind, templateProperties.getDefaultLocale());
 
-        // Here you would integrate with:
-        // - Email service (SendGrid, AWS SES, etc.)
-        // - SMS service (Twilio, etc.)
-        // - Push notification service (Firebase, etc.)
+        Set<UUID> accounts = new LinkedHashSet<>();
+        if (event.getSourceAccountId() != null) {
+            accounts.add(event.getSourceAccountId());
+        }
+        if (event.getTargetAccountId() != null) {
+            accounts.add(event.getTargetAccountId());
+        }
+        Instant now = Instant.now();
+        List<Notification> notifications = new ArrayList<>();
+        for (UUID accountId : accounts) {
+            // Money leaves the source account; deposits only have a target.
+            boolean debit = accountId.equals(event.getSourceAccountId());
+            notifications.add(new Notification(event.getTransactionId(), accountId, kind,
+                    event.getTransactionType(), event.getAmount(), debit, message, now));
+        }
+        dispatcher.dispatch(notifications);
+        log.debug("   📱 Queued notification for {}: {}", accounts, message);
     }
 }
@@ -0,0 +1,192 @@
+package com.banking.notification.template;
+
+import com.banking.events.TransactionEvent;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A message template parsed into literal text and fields once, so rendering only appends to a buffer. Fields are
+ * written in braces: {@code {type}}, {@code {amount}}, {@code {currency}}, {@code {reason}},
+ * {@code {transactionId}} and {@code {accountId}}, or in a digest summary {@code {count}}, {@code {credits}},
+ * {@code {debits}}, {@code {credited}}, {@code {debited}} and {@code {currency}}; a doubled opening brace is a
+ * literal one.
+ */
+public final class CompiledTemplate {
+
+    enum Field {
+        TYPE, AMOUNT, CURRENCY, REASON, TRANSACTION_ID, ACCOUNT_ID, COUNT, CREDITS, DEBITS, CREDITED, DEBITED
+    }
+
+    private static final Set<Field> TRANSACTION_FIELDS = EnumSet.range(Field.TYPE, Field.ACCOUNT_ID);
+    private static final Set<Field> DIGEST_FIELDS = EnumSet.of(Field.CURRENCY, Field.COUNT, Field.CREDITS,
+            Field.DEBITS, Field.CREDITED, Field.DEBITED);
+
+    // literals[i] comes before fields[i]; the last literal ends the message.
+    private final String[] literals;
+    private final Field[] fields;
+
+    private CompiledTemplate(String[] literals, Field[] fields) {
+        this.literals = literals;
+        this.fields = fields;
+    }
+
+    public static CompiledTemplate compile(String source) {
+        return compile(source, TRANSACTION_FIELDS);
+    }
+
+    /**
+     * Compiles the template of a digest summary, which has the digest's counts and totals instead of one
+     * transaction's fields.
+     */
+    public static CompiledTemplate compileDigest(String source) {
+        return compile(source, DIGEST_FIELDS);
+    }
+
+    private static CompiledTemplate compile(String source, Set<Field> allowed) {
+        List<String> literals = new ArrayList<>();
+        List<Field> fields = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c != '{') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            if (source.startsWith("{{", i)) {
+                literal.append('{');
+                i += 2;
+                continue;
+            }
+            int end = source.indexOf('}', i);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed '{' at " + i + " in template: " + source);
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            Field field = field(source.substring(i + 1, end), source);
+            if (!allowed.contains(field)) {
+                throw new IllegalArgumentException("Field {" + source.substring(i + 1, end)
+                        + "} cannot be used in template: " + source);
+            }
+            fields.add(field);
+            i = end + 1;
+        }
+        literals.add(literal.toString());
+        return new CompiledTemplate(literals.toArray(String[]::new), fields.toArray(Field[]::new));
+    }
+
+    /**
+     * Appends the message for {@code event} to {@code out}.
+     *
+     * @param typeName the event type in the template's language
+     */
+    public void render(TransactionEvent event, String typeName, AmountFormat amounts, StringBuilder out) {
+        for (int i = 0; i < fields.length; i++) {
+            out.append(literals[i]);
+            switch (fields[i]) {
+                case TYPE -> out.append(typeName);
+                case AMOUNT -> amounts.append(event.getAmount(), out);
+                case CURRENCY -> out.append(amounts.currency);
+                case REASON -> out.append(event.getErrorMessage());
+                case TRANSACTION_ID -> out.append(event.getTransactionId());
+                case ACCOUNT_ID -> out.append(event.getSourceAccountId() != null
+                        ? event.getSourceAccountId() : event.getTargetAccountId());
+                default -> throw new IllegalStateException("Not a transaction field: " + fields[i]);
+            }
+        }
+        out.append(literals[fields.length]);
+    }
+
+    /**
+     * Appends the summary of a digest of {@code credits} credits and {@code debits} debits to {@code out}.
+     */
+    public void renderDigest(int credits, int debits, BigDecimal credited, BigDecimal debited, AmountFormat amounts,
+                             StringBuilder out) {
+        for (int i = 0; i < fields.length; i++) {
+            out.append(literals[i]);
+            switch (fields[i]) {
+                case COUNT -> out.append(credits + debits);
+                case CREDITS -> out.append(credits);
+                case DEBITS -> out.append(debits);
+                case CREDITED -> amounts.append(credited, out);
+                case DEBITED -> amounts.append(debited, out);
+                case CURRENCY -> out.append(amounts.currency);
+                default -> throw new IllegalStateException("Not a digest field: " + fields[i]);
+            }
+        }
+        out.append(literals[fields.length]);
+    }
+
+    private static Field field(String name, String source) {
+        return switch (name) {
+            case "type" -> Field.TYPE;
+            case "amount" -> Field.AMOUNT;
+            case "currency" -> Field.CURRENCY;
+            case "reason" -> Field.REASON;
+            case "transactionId" -> Field.TRANSACTION_ID;
+            case "accountId" -> Field.ACCOUNT_ID;
+            case "count" -> Field.COUNT;
+            case "credits" -> Field.CREDITS;
+            case "debits" -> Field.DEBITS;
+            case "credited" -> Field.CREDITED;
+            case "debited" -> Field.DEBITED;
+            default -> throw new IllegalArgumentException("Unknown field {" + name + "} in template: " + source);
+        };
+    }
+
+    /**
+     * Writes amounts with two decimals and the grouping and decimal separators of a locale, without
+     * {@link java.text.NumberFormat}, and the currency with the locale's symbol for it.
+     */
+    public static final class AmountFormat {
+
+        private final char grouping;
+        private final char decimal;
+        private final String currency;
+
+        public AmountFormat(char grouping, char decimal, String currency) {
+            this.grouping = grouping;
+            this.decimal = decimal;
+            this.currency = currency;
+        }
+
+        void append(BigDecimal amount, StringBuilder out) {
+            if (amount == null) {
+                return;
+            }
+            BigDecimal cents = amount.setScale(2, RoundingMode.HALF_UP);
+            if (cents.precision() > 18) {
+                out.append(cents.toPlainString());
+                return;
+            }
+            long value = cents.unscaledValue().longValue();
+            if (value < 0) {
+                out.append('-');
+                value = -value;
+            }
+            appendGrouped(value / 100, out);
+            long fraction = value % 100;
+            out.append(decimal).append((char) ('0' + fraction / 10)).append((char) ('0' + fraction % 10));
+        }
+
+        private void appendGrouped(long whole, StringBuilder out) {
+            if (whole < 1000) {
+                out.append(whole);
+                return;
+            }
+            appendGrouped(whole / 1000, out);
+            long group = whole % 1000;
+            out.append(grouping)
+                    .append((char) ('0' + group / 100))
+                    .append((char) ('0' + group / 10 % 10))
+                    .append((char) ('0' + group % 10));
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.banking.notification.template;
+
+import com.banking.events.TransactionEvent;
+import com.banking.notification.channel.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.text.DecimalFormatSymbols;
+import java.util.Currency;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Notification messages from templates compiled when loaded (see {@link TemplateProperties}). Rendering looks up
+ * the compiled template by locale, outcome and type and appends it to a per-thread buffer. With a
+ * {@code directory} configured, a change to any file in it compiles all templates again and swaps them in at
+ * once; templates that do not compile are logged and the previous ones kept.
+ */
+@Slf4j
+public class NotificationTemplates implements SmartLifecycle {
+
+    private static final String BUNDLED = "notification-templates/";
+    private static final String BASE_NAME = "notifications";
+    private static final String SUFFIX = ".properties";
+    private static final String DEFAULT_TYPE = "default";
+    private static final String TYPE_NAME = "type.";
+
+    private final TemplateProperties properties;
+    private final Path directory;
+    private final Counter reloaded;
+    private final Counter reloadFailed;
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private volatile TemplateSet templates;
+    private volatile boolean running;
+    private WatchService watchService;
+
+    public NotificationTemplates(TemplateProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.directory = properties.getDirectory() == null || properties.getDirectory().isBlank()
+                ? null : Path.of(properties.getDirectory());
+        this.reloaded = reloads(meterRegistry, "reloaded");
+        this.reloadFailed = reloads(meterRegistry, "failed");
+        this.templates = load();
+    }
+
+    public String render(TransactionEvent event, Notification.Kind kind, Locale locale) {
+        StringBuilder out = buffers.get();
+        out.setLength(0);
+        render(event, kind, locale, out);
+        return out.toString();
+    }
+
+    public void render(TransactionEvent event, Notification.Kind kind, Locale locale, StringBuilder out) {
+        templates.forLocale(locale).render(event, kind, out);
+    }
+
+    /**
+     * The message of a digest summary from the {@value Notification#DIGEST}.COMPLETED template.
+     */
+    public String renderDigest(int credits, int debits, BigDecimal credited, BigDecimal debited, Locale locale) {
+        StringBuilder out = buffers.get();
+        out.setLength(0);
+        templates.forLocale(locale).renderDigest(credits, debits, credited, debited, out);
+        return out.toString();
+    }
+
+    /**
+     * Compiles the templates again and uses them if they all compile.
+     */
+    public boolean reload() {
+        try {
+            templates = load();
+            reloaded.increment();
+            log.info("Reloaded notification templates from {}", directory);
+            return true;
+        } catch (RuntimeException e) {
+            reloadFailed.increment();
+            log.warn("Notification templates in {} not reloaded, keeping the previous ones: {}", directory,
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            log.warn("Not watching {} for template changes: {}", directory, e.getMessage());
+            return;
+        }
+        Thread watcher = new Thread(this::watch, "notification-templates-watch");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("Closing the template watch service failed", e);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void watch() {
+        try {
+            while (running) {
+                WatchKey key = watchService.take();
+                // Editors write in several steps; let them finish before compiling.
+                Thread.sleep(100);
+                key.pollEvents();
+                key.reset();
+                reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private TemplateSet load() {
+        Properties root = new Properties();
+        read(BASE_NAME + SUFFIX, root);
+        LocaleTemplates defaults = new LocaleTemplates(properties.getDefaultLocale(), properties.getCurrency(), root);
+        for (Notification.Kind kind : Notification.Kind.values()) {
+            if (defaults.template(kind, DEFAULT_TYPE) == null) {
+                throw new IllegalStateException("No " + DEFAULT_TYPE + "." + kind + " template in " + BASE_NAME + SUFFIX);
+            }
+        }
+        if (defaults.template(Notification.Kind.COMPLETED, Notification.DIGEST) == null) {
+            throw new IllegalStateException("No " + Notification.DIGEST + ".COMPLETED template in " + BASE_NAME + SUFFIX);
+        }
+
+        Set<Locale> locales = new LinkedHashSet<>(properties.getLocales());
+        locales.addAll(directoryLocales());
+        Map<Locale, LocaleTemplates> byLocale = new ConcurrentHashMap<>();
+        byLocale.put(properties.getDefaultLocale(), defaults);
+        for (Locale locale : locales) {
+            Properties merged = new Properties();
+            merged.putAll(root);
+            read(BASE_NAME + "_" + locale.toLanguageTag().replace('-', '_') + SUFFIX, merged);
+            byLocale.put(locale, new LocaleTemplates(locale, properties.getCurrency(), merged));
+        }
+        return new TemplateSet(byLocale, defaults);
+    }
+
+    // Bundled file first, then the directory's copy over it.
+    private void read(String fileName, Properties into) {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(BUNDLED + fileName)) {
+            if (in != null) {
+                load(in, into);
+            }
+            if (directory != null && Files.isRegularFile(directory.resolve(fileName))) {
+                try (InputStream file = Files.newInputStream(directory.resolve(fileName))) {
+                    load(file, into);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read notification templates " + fileName, e);
+        }
+    }
+
+    private static void load(InputStream in, Properties into) throws IOException {
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            into.load(reader);
+        }
+    }
+
+    private Set<Locale> directoryLocales() {
+        Set<Locale> locales = new LinkedHashSet<>();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return locales;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, BASE_NAME + "_*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String tag = name.substring(BASE_NAME.length() + 1, name.length() - SUFFIX.length());
+                locales.add(Locale.forLanguageTag(tag.replace('_', '-')));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot list notification templates in " + directory, e);
+        }
+        return locales;
+    }
+
+    private static Counter reloads(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("banking_notification_template_reloads_total")
+                .description("Notification template reloads from the template directory, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record TemplateSet(Map<Locale, LocaleTemplates> byLocale, LocaleTemplates defaults) {
+
+        LocaleTemplates forLocale(Locale locale) {
+            LocaleTemplates templates = byLocale.get(locale);
+            if (templates != null) {
+                return templates;
+            }
+            // Remembered, so an unknown locale costs one lookup from then on.
+            return byLocale.computeIfAbsent(locale, unknown ->
+                    byLocale.getOrDefault(new Locale(unknown.getLanguage()), defaults));
+        }
+    }
+
+    /**
+     * The compiled templates, type names and amount and currency format of one locale.
+     */
+    private static final class LocaleTemplates {
+
+        private final Locale locale;
+        private final Map<Notification.Kind, Map<String, CompiledTemplate>> templates =
+                new EnumMap<>(Notification.Kind.class);
+        private final Map<String, String> typeNames = new HashMap<>();
+        private final CompiledTemplate.AmountFormat amounts;
+
+        LocaleTemplates(Locale locale, Currency currency, Properties source) {
+            this.locale = locale;
+            for (Notification.Kind kind : Notification.Kind.values()) {
+                templates.put(kind, new HashMap<>());
+            }
+            for (String key : source.stringPropertyNames()) {
+                String value = source.getProperty(key);
+                if (key.startsWith(TYPE_NAME)) {
+                    typeNames.put(key.substring(TYPE_NAME.length()), value);
+                    continue;
+                }
+                int dot = key.lastIndexOf('.');
+                if (dot < 0) {
+                    throw new IllegalArgumentException("Template key " + key + " is not <type>.<outcome>");
+                }
+                Notification.Kind kind = Notification.Kind.valueOf(key.substring(dot + 1));
+                String type = key.substring(0, dot);
+                templates.get(kind).put(type, Notification.DIGEST.equals(type)
+                        ? CompiledTemplate.compileDigest(value) : CompiledTemplate.compile(value));
+            }
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            this.amounts = new CompiledTemplate.AmountFormat(symbols.getGroupingSeparator(),
+                    symbols.getDecimalSeparator(), currency.getSymbol(locale));
+        }
+
+        CompiledTemplate template(Notification.Kind kind, String type) {
+            return templates.get(kind).get(type);
+        }
+
+        void render(TransactionEvent event, Notification.Kind kind, StringBuilder out) {
+            String type = event.getTransactionType();
+            CompiledTemplate template = type != null ? template(kind, type) : null;
+            if (template == null) {
+                template = template(kind, DEFAULT_TYPE);
+            }
+            String typeName = type != null ? typeNames.get(type) : null;
+            if (typeName == null) {
+                typeName = type != null ? type.toLowerCase(locale) : "";
+            }
+            template.render(event, typeName, amounts, out);
+        }
+
+        void renderDigest(int credits, int debits, BigDecimal credited, BigDecimal debited, StringBuilder out) {
+            template(Notification.Kind.COMPLETED, Notification.DIGEST)
+                    .renderDigest(credits, debits, credited, debited, amounts, out);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.banking.notification.template;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Where notification templates come from. Templates are {@code notifications.properties} files, one per locale
+ * ({@code notifications_de.properties}), with a template per transaction type and outcome and the type names:
+ * <pre>
+ * TRANSFER.COMPLETED=Your transfer of {currency}{amount} has been completed successfully.
+ * default.FAILED=Your {type} of {currency}{amount} has failed. Reason: {reason}
+ * type.WITHDRAWAL=withdrawal
+ * </pre>
+ * A locale falls back to its language, then to the unsuffixed file, key by key.
+ */
+@Data
+@ConfigurationProperties(prefix = "notification.templates")
+public class TemplateProperties {
+
+    /**
+     * Language of the unsuffixed files, used for locales without templates of their own.
+     */
+    private Locale defaultLocale = Locale.ENGLISH;
+
+    /**
+     * Further locales with bundled templates under {@code notification-templates/}.
+     */
+    private List<Locale> locales = List.of(Locale.GERMAN);
+
+    /**
+     * Currency of the accounts, written as {@code {currency}} with its symbol in the message's locale. A locale
+     * changes how amounts are written, never which currency they are in.
+     */
+    private Currency currency = Currency.getInstance("USD");
+
+    /**
+     * Directory whose template files override the bundled ones and are reloaded when they change; none if blank.
+     */
+    private String directory;
+}
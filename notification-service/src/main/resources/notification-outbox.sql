@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    dedupe_key      VARCHAR(160) PRIMARY KEY,
+    channel         VARCHAR(50)  NOT NULL,
+    account_id      UUID         NOT NULL,
+    digest_id       UUID,
+    status          VARCHAR(20)  NOT NULL,
+    payload         CLOB         NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP,
+    last_error      VARCHAR(500),
+    created_at      TIMESTAMP    NOT NULL,
+    updated_at      TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_status_updated ON notification_outbox (status, updated_at);
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_digest ON notification_outbox (digest_id);
@@ -0,0 +1,86 @@
+package com.banking.notification.channel;
+
+import com.banking.notification.template.NotificationTemplates;
+import com.banking.notification.template.TemplateProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationDigesterTest {
+
+    private static final long TICK = Duration.ofMillis(100).toNanos();
+
+    private final UUID account = UUID.randomUUID();
+    private final TimerWheel<NotificationDigester.Digest> wheel = new TimerWheel<>(TICK, 64, 2, 0);
+    private final NotificationDigester digester;
+
+    NotificationDigesterTest() {
+        NotificationProperties.Digest settings = new NotificationProperties.Digest();
+        settings.setEnabled(true);
+        settings.setWindow(Duration.ofSeconds(1));
+        settings.setImmediateDebitAbove(new BigDecimal("1000"));
+        settings.setMaxAccounts(1);
+        ChannelWorker worker = new ChannelWorker("push", new LoopbackChannel(), new NotificationProperties.Channel(),
+                ChannelWorker.Listener.NONE, new SimpleMeterRegistry());
+        NotificationTemplates templates = new NotificationTemplates(new TemplateProperties(), new SimpleMeterRegistry());
+        digester = new NotificationDigester(worker, settings, wheel, (credits, debits, credited, debited) ->
+                templates.renderDigest(credits, debits, credited, debited, Locale.GERMAN));
+    }
+
+    @Test
+    void absorb_SummarisesTheAccountsCompletedNotificationsOnExpiry() {
+        // Given
+        assertTrue(digester.absorb(completed(account, "100", false)));
+        assertTrue(digester.absorb(completed(account, "250", false)));
+        assertTrue(digester.absorb(completed(account, "50", true)));
+
+        // When
+        List<Notification> sent = new ArrayList<>();
+        wheel.advance(Duration.ofSeconds(1).toNanos(), digest -> sent.add(digest.digester().close(digest)));
+
+        // Then
+        assertEquals(1, sent.size());
+        Notification summary = sent.get(0);
+        assertEquals(Notification.DIGEST, summary.transactionType());
+        assertEquals(account, summary.accountId());
+        assertEquals(new BigDecimal("300"), summary.amount());
+        assertFalse(summary.debit());
+        assertEquals("3 Buchungen ausgeführt: 2 Gutschriften über 350,00 $, 1 Belastungen über 50,00 $.",
+                summary.message());
+        assertEquals(0, digester.openDigests());
+    }
+
+    @Test
+    void absorb_LeavesFailuresLargeDebitsAndExtraAccountsToBeSentAtOnce() {
+        // Given
+        Notification failed = new Notification(UUID.randomUUID(), account, Notification.Kind.FAILED, "WITHDRAWAL",
+                BigDecimal.TEN, true, "failed", Instant.now());
+        Notification largeDebit = completed(account, "1000", true);
+        digester.absorb(completed(account, "10", false));
+
+        // When
+        boolean failedAbsorbed = digester.absorb(failed);
+        boolean largeDebitAbsorbed = digester.absorb(largeDebit);
+        boolean otherAccountAbsorbed = digester.absorb(completed(UUID.randomUUID(), "10", false));
+
+        // Then
+        assertFalse(failedAbsorbed);
+        assertFalse(largeDebitAbsorbed);
+        assertFalse(otherAccountAbsorbed);
+        assertEquals(1, digester.openDigests());
+    }
+
+    private static Notification completed(UUID accountId, String amount, boolean debit) {
+        return new Notification(UUID.randomUUID(), accountId, Notification.Kind.COMPLETED, "TRANSFER",
+                new BigDecimal(amount), debit, "completed", Instant.now());
+    }
+}
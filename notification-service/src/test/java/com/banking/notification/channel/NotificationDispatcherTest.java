@@ -0,0 +1,205 @@
+package com.banking.notification.channel;
+
+import com.banking.notification.outbox.NotificationOutbox;
+import com.banking.notification.outbox.OutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationDispatcherTest {
+
+    private static final NotificationDigester.SummaryRenderer SUMMARIES =
+            (credits, debits, credited, debited) -> (credits + debits) + " transactions completed";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void stop() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void dispatch_DeliversToTheChannelsTakingTheKind() throws Exception {
+        // Given
+        LoopbackChannel push = new LoopbackChannel();
+        LoopbackChannel sms = new LoopbackChannel();
+        NotificationProperties properties = new NotificationProperties();
+        properties.getChannels().put("push", channel(10));
+        properties.getChannels().put("sms", channel(10));
+        properties.getChannels().get("sms").setEvents(EnumSet.of(Notification.Kind.FAILED));
+        dispatcher = new NotificationDispatcher(properties, Map.of("push", push, "sms", sms), new ObjectMapper(),
+                SUMMARIES, null, null, meterRegistry);
+        dispatcher.start();
+
+        // When
+        dispatcher.dispatch(List.of(notification(Notification.Kind.COMPLETED)));
+
+        // Then
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (push.recent().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, push.recent().size());
+        assertTrue(sms.recent().isEmpty());
+        assertEquals(1, meterRegistry.get("banking_notification_channel_sends_total")
+                .tags("channel", "push", "outcome", "sent").counter().count());
+    }
+
+    @Test
+    void dispatch_RejectsWhenASlowChannelQueueStaysFull() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        LoopbackChannel push = new LoopbackChannel();
+        NotificationChannel stuck = (notification, timeout) -> release.await();
+        NotificationProperties properties = new NotificationProperties();
+        properties.setEnqueueTimeout(Duration.ofMillis(20));
+        properties.getChannels().put("push", channel(10));
+        properties.getChannels().put("email", channel(1));
+        dispatcher = new NotificationDispatcher(properties, Map.of("push", push, "email", stuck), new ObjectMapper(),
+                SUMMARIES, null, null, meterRegistry);
+        dispatcher.start();
+        dispatcher.dispatch(List.of(notification(Notification.Kind.COMPLETED)));
+        dispatcher.dispatch(List.of(notification(Notification.Kind.COMPLETED)));
+
+        // When
+        assertThrows(NotificationDispatcher.DispatchRejectedException.class,
+                () -> dispatcher.dispatch(List.of(notification(Notification.Kind.COMPLETED))));
+        release.countDown();
+
+        // Then
+        Thread.sleep(100);
+        assertEquals(2, push.recent().size());
+        assertEquals(1, meterRegistry.get("banking_notification_dispatch_rejected_total").counter().count());
+    }
+
+    @Test
+    void dispatch_SkipsRedeliveriesAndRetriesFailedSendsFromTheOutbox() throws Exception {
+        // Given
+        LoopbackChannel delivered = new LoopbackChannel();
+        AtomicInteger attempts = new AtomicInteger();
+        NotificationChannel flaky = (notification, timeout) -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IOException("provider unavailable");
+            }
+            delivered.send(notification, timeout);
+        };
+        OutboxProperties outboxProperties = new OutboxProperties();
+        outboxProperties.setInitialBackoff(Duration.ofMillis(20));
+        ObjectMapper objectMapper = objectMapper();
+        NotificationOutbox outbox = outbox(outboxProperties);
+        NotificationProperties properties = new NotificationProperties();
+        properties.setTimerTick(Duration.ofMillis(5));
+        properties.getChannels().put("email", channel(10));
+        dispatcher = new NotificationDispatcher(properties, Map.of("email", flaky), objectMapper, SUMMARIES, outbox,
+                null, meterRegistry);
+        dispatcher.start();
+        Notification notification = notification(Notification.Kind.COMPLETED);
+
+        // When
+        dispatcher.dispatch(List.of(notification));
+        dispatcher.dispatch(List.of(notification));
+
+        // Then
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (outbox.status("email", notification) != NotificationOutbox.Status.DELIVERED
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(NotificationOutbox.Status.DELIVERED, outbox.status("email", notification));
+        assertEquals(2, attempts.get());
+        assertEquals(List.of(notification), delivered.recent());
+        assertEquals(1, meterRegistry.get("banking_notification_outbox_events_total")
+                .tags("event", "deduplicated").counter().count());
+    }
+
+    @Test
+    void dispatch_SendsDigestsAndLoneNotificationsThroughTheOutbox() throws Exception {
+        // Given
+        LoopbackChannel email = new LoopbackChannel();
+        NotificationOutbox outbox = outbox(new OutboxProperties());
+        NotificationProperties properties = new NotificationProperties();
+        properties.setTimerTick(Duration.ofMillis(5));
+        properties.getChannels().put("email", channel(10));
+        properties.getChannels().get("email").getDigest().setEnabled(true);
+        properties.getChannels().get("email").getDigest().setWindow(Duration.ofMillis(30));
+        Notification lone = notification(Notification.Kind.COMPLETED);
+        Notification first = notification(Notification.Kind.COMPLETED);
+        Notification second = new Notification(UUID.randomUUID(), first.accountId(), Notification.Kind.COMPLETED,
+                "DEPOSIT", BigDecimal.ONE, false, "Your deposit of $1 has completed.", Instant.now());
+        Notification leftOpen = notification(Notification.Kind.COMPLETED);
+        outbox.add("email", leftOpen, NotificationOutbox.Status.DIGESTING);
+        dispatcher = new NotificationDispatcher(properties, Map.of("email", email), objectMapper(), SUMMARIES,
+                outbox, null, meterRegistry);
+        dispatcher.start();
+
+        // When
+        dispatcher.dispatch(List.of(lone));
+        dispatcher.dispatch(List.of(first));
+        dispatcher.dispatch(List.of(second));
+
+        // Then
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (email.recent().size() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        List<Notification> sent = email.recent();
+        assertEquals(3, sent.size());
+        assertTrue(sent.contains(lone));
+        assertTrue(sent.contains(leftOpen));
+        assertTrue(sent.stream().anyMatch(notification -> Notification.DIGEST.equals(notification.transactionType())
+                && notification.accountId().equals(first.accountId())));
+        while (outbox.status("email", lone) != NotificationOutbox.Status.DELIVERED && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(NotificationOutbox.Status.DELIVERED, outbox.status("email", lone));
+        assertEquals(NotificationOutbox.Status.DIGESTED, outbox.status("email", first));
+        assertEquals(NotificationOutbox.Status.DIGESTED, outbox.status("email", second));
+        assertEquals(0, meterRegistry.get("banking_notification_outbox_events_total")
+                .tags("event", "deduplicated").counter().count());
+    }
+
+    private static NotificationOutbox outbox(OutboxProperties outboxProperties) {
+        DataSource dataSource = DataSourceBuilder.create()
+                .url("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1")
+                .username("sa")
+                .build();
+        new ResourceDatabasePopulator(new ClassPathResource("notification-outbox.sql")).execute(dataSource);
+        return new NotificationOutbox(new JdbcTemplate(dataSource), objectMapper(), outboxProperties);
+    }
+
+    private static ObjectMapper objectMapper() {
+        return new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    private static NotificationProperties.Channel channel(int queueCapacity) {
+        NotificationProperties.Channel channel = new NotificationProperties.Channel();
+        channel.setQueueCapacity(queueCapacity);
+        return channel;
+    }
+
+    private static Notification notification(Notification.Kind kind) {
+        return new Notification(UUID.randomUUID(), UUID.randomUUID(), kind, "TRANSFER", BigDecimal.TEN, false,
+                "Your transfer of $10 has completed.", Instant.now());
+    }
+}
@@ -0,0 +1,77 @@
+package com.banking.notification.channel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    private final TimerWheel<String> wheel = new TimerWheel<>(10, 8, 2, 0);
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    void advance_FiresTimersOnTheirTickIncludingBeyondOneTurn() {
+        // Given
+        wheel.schedule("soon", 25);
+        wheel.schedule("later", 200);
+
+        // When
+        wheel.advance(20, fired::add);
+        List<String> afterTwoTicks = List.copyOf(fired);
+        wheel.advance(30, fired::add);
+        List<String> afterThreeTicks = List.copyOf(fired);
+        wheel.advance(190, fired::add);
+        List<String> beforeLater = List.copyOf(fired);
+        wheel.advance(200, fired::add);
+
+        // Then
+        assertEquals(List.of(), afterTwoTicks);
+        assertEquals(List.of("soon"), afterThreeTicks);
+        assertEquals(List.of("soon"), beforeLater);
+        assertEquals(List.of("soon", "later"), fired);
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void advance_CascadesTimersThroughTheLevelsAndPastTheTopOne() {
+        // Given
+        TimerWheel<Long> levels = new TimerWheel<>(1, 4, 3, 0);
+        List<Long> deadlines = List.of(3L, 4L, 15L, 16L, 17L, 63L, 64L, 150L, 1000L);
+        deadlines.forEach(deadline -> levels.schedule(deadline, deadline));
+        List<Long> firedAt = new ArrayList<>();
+        List<Long> expected = new ArrayList<>();
+
+        // When
+        for (long now = 1; now <= 1000; now++) {
+            long tick = now;
+            levels.advance(now, deadline -> {
+                firedAt.add(tick);
+                expected.add(deadline);
+            });
+        }
+
+        // Then
+        assertEquals(deadlines, firedAt);
+        assertEquals(deadlines, expected);
+        assertEquals(0, levels.pending());
+    }
+
+    @Test
+    void advance_LetsExpiredTimersScheduleAgain() {
+        // Given
+        wheel.schedule("again", 10);
+
+        // When
+        wheel.advance(10, item -> {
+            fired.add(item);
+            wheel.schedule(item, 10);
+        });
+        wheel.advance(20, fired::add);
+
+        // Then
+        assertEquals(List.of("again", "again"), fired);
+    }
+}
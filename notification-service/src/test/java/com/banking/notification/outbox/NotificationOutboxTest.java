@@ -0,0 +1,122 @@
+package com.banking.notification.outbox;
+
+import com.banking.notification.channel.Notification;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationOutboxTest {
+
+    private final OutboxProperties properties = new OutboxProperties();
+    private final NotificationOutbox outbox;
+
+    NotificationOutboxTest() {
+        DataSource dataSource = DataSourceBuilder.create()
+                .url("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1")
+                .username("sa")
+                .build();
+        new ResourceDatabasePopulator(new ClassPathResource("notification-outbox.sql")).execute(dataSource);
+        properties.setMaxAttempts(3);
+        outbox = new NotificationOutbox(new JdbcTemplate(dataSource),
+                new ObjectMapper().registerModule(new JavaTimeModule()), properties);
+    }
+
+    @Test
+    void add_RecognisesTheSameNotificationForTheSameChannel() {
+        // Given
+        Notification notification = notification();
+
+        // When
+        boolean first = outbox.add("email", notification, NotificationOutbox.Status.PENDING);
+        boolean again = outbox.add("email", notification, NotificationOutbox.Status.PENDING);
+        boolean otherChannel = outbox.add("push", notification, NotificationOutbox.Status.PENDING);
+
+        // Then
+        assertTrue(first);
+        assertFalse(again);
+        assertTrue(otherChannel);
+        assertEquals(List.of(notification, notification),
+                outbox.pending().stream().map(NotificationOutbox.Pending::notification).toList());
+    }
+
+    @Test
+    void failed_BacksOffExponentiallyUntilTheAttemptsAreUsedUp() {
+        // Given
+        Notification notification = notification();
+        outbox.add("email", notification, NotificationOutbox.Status.PENDING);
+
+        // When
+        Optional<Duration> first = outbox.failed("email", notification, "timeout");
+        Optional<Duration> second = outbox.failed("email", notification, "timeout");
+        Optional<Duration> third = outbox.failed("email", notification, "timeout");
+
+        // Then
+        assertTrue(first.orElseThrow().toMillis() >= 800 && first.get().toMillis() <= 1200, first.toString());
+        assertTrue(second.orElseThrow().toMillis() >= 1600 && second.get().toMillis() <= 2400, second.toString());
+        assertTrue(third.isEmpty());
+        assertEquals(NotificationOutbox.Status.FAILED, outbox.status("email", notification));
+        assertTrue(outbox.pending().isEmpty());
+    }
+
+    @Test
+    void deleteCompletedBefore_DeletesDeliveredRecordsInBatches() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            Notification notification = notification();
+            outbox.add("email", notification, NotificationOutbox.Status.PENDING);
+            outbox.delivered("email", notification);
+        }
+        Notification pending = notification();
+        outbox.add("email", pending, NotificationOutbox.Status.PENDING);
+
+        // When
+        int firstBatch = outbox.deleteCompletedBefore(Instant.now().plusSeconds(1), 3);
+        int secondBatch = outbox.deleteCompletedBefore(Instant.now().plusSeconds(1), 3);
+
+        // Then
+        assertEquals(3, firstBatch);
+        assertEquals(2, secondBatch);
+        assertEquals(NotificationOutbox.Status.PENDING, outbox.status("email", pending));
+    }
+
+    @Test
+    void digested_LeavesANewerDigestForTheSameAccountOpen() {
+        // Given
+        Notification summarised = notification();
+        Notification joinedLater = new Notification(UUID.randomUUID(), summarised.accountId(),
+                Notification.Kind.COMPLETED, "DEPOSIT", BigDecimal.TEN, false, "Your deposit of $10.00 has been credited.",
+                Instant.now());
+        UUID closed = UUID.randomUUID();
+        outbox.addDigesting("email", summarised, closed);
+        outbox.addDigesting("email", joinedLater, UUID.randomUUID());
+
+        // When
+        outbox.digested(closed);
+        int requeued = outbox.requeueDigesting();
+
+        // Then
+        assertEquals(NotificationOutbox.Status.DIGESTED, outbox.status("email", summarised));
+        assertEquals(1, requeued);
+        assertEquals(List.of(joinedLater),
+                outbox.pending().stream().map(NotificationOutbox.Pending::notification).toList());
+    }
+
+    private static Notification notification() {
+        return new Notification(UUID.randomUUID(), UUID.randomUUID(), Notification.Kind.COMPLETED, "DEPOSIT",
+                new BigDecimal("25.00"), false, "Your deposit of $25.00 has been credited.", Instant.now());
+    }
+}
@@ -0,0 +1,80 @@
+package com.banking.notification.template;
+
+import com.banking.events.TransactionEvent;
+import com.banking.notification.channel.Notification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationTemplatesTest {
+
+    private final TransactionEvent withdrawal = TransactionEvent.builder()
+            .transactionId(UUID.randomUUID())
+            .transactionType("WITHDRAWAL")
+            .sourceAccountId(UUID.randomUUID())
+            .amount(new BigDecimal("1250.5"))
+            .errorMessage("Insufficient funds")
+            .build();
+
+    @Test
+    void render_UsesTheLocalesTemplatesAndFallsBackToTheDefaults() {
+        // Given
+        NotificationTemplates templates = new NotificationTemplates(new TemplateProperties(), new SimpleMeterRegistry());
+
+        // When
+        String english = templates.render(withdrawal, Notification.Kind.FAILED, Locale.ENGLISH);
+        String german = templates.render(withdrawal, Notification.Kind.COMPLETED, Locale.GERMANY);
+        String unknown = templates.render(withdrawal, Notification.Kind.COMPLETED, Locale.JAPANESE);
+
+        // Then
+        assertEquals("Your withdrawal of $1,250.50 has failed. Reason: Insufficient funds", english);
+        assertEquals("Ihre Auszahlung über 1.250,50 $ wurde erfolgreich ausgeführt.", german);
+        assertEquals("Your withdrawal of $1,250.50 has been completed successfully.", unknown);
+    }
+
+    @Test
+    void render_WritesTheConfiguredCurrencyInEveryLocale() {
+        // Given
+        TemplateProperties properties = new TemplateProperties();
+        properties.setCurrency(Currency.getInstance("EUR"));
+        NotificationTemplates templates = new NotificationTemplates(properties, new SimpleMeterRegistry());
+
+        // When
+        String english = templates.render(withdrawal, Notification.Kind.COMPLETED, Locale.ENGLISH);
+        String german = templates.render(withdrawal, Notification.Kind.COMPLETED, Locale.GERMAN);
+
+        // Then
+        assertEquals("Your withdrawal of €1,250.50 has been completed successfully.", english);
+        assertEquals("Ihre Auszahlung über 1.250,50 € wurde erfolgreich ausgeführt.", german);
+    }
+
+    @Test
+    void reload_SwapsInTemplatesFromTheDirectoryAndKeepsThemOnErrors(@TempDir Path directory) throws Exception {
+        // Given
+        TemplateProperties properties = new TemplateProperties();
+        properties.setDirectory(directory.toString());
+        NotificationTemplates templates = new NotificationTemplates(properties, new SimpleMeterRegistry());
+        Files.writeString(directory.resolve("notifications.properties"),
+                "WITHDRAWAL.COMPLETED=Cash out: {amount} (ref {{{transactionId}})\n");
+
+        // When
+        boolean reloaded = templates.reload();
+        Files.writeString(directory.resolve("notifications.properties"), "WITHDRAWAL.COMPLETED=Oops {unknown}\n");
+        boolean broken = templates.reload();
+
+        // Then
+        assertTrue(reloaded);
+        assertFalse(broken);
+        assertEquals("Cash out: 1,250.50 (ref {" + withdrawal.getTransactionId() + "})",
+                templates.render(withdrawal, Notification.Kind.COMPLETED, Locale.ENGLISH));
+    }
+}
@@ -0,0 +1,88 @@
+#!/bin/bash
+
+# Banking Ledger Microservices - Benchmark Comparison
+#
+# Compares two JMH result files and fails when a benchmark got slower than the threshold:
+#   ./scripts/bench-compare.sh base.json head.json
+# Or runs the benchmarks on two commits first (in temporary worktrees) and compares those:
+#   ./scripts/bench-compare.sh --refs main HEAD [JMH options, e.g. AccountServiceBenchmark -f 1]
+#
+# BENCH_THRESHOLD is the allowed slowdown in percent (default 10).
+
+set -e
+
+THRESHOLD="${BENCH_THRESHOLD:-10}"
+
+run_ref() {
+    local ref="$1" out="$2"
+    shift 2
+    local dir
+    dir="$(mktemp -d)"
+    git worktree add --detach "$dir" "$ref" > /dev/null
+    echo "🔨 Building and running benchmarks at $ref..."
+    (cd "$dir" && mvn -B -q -pl benchmarks -am package -DskipTests \
+        && java -jar benchmarks/target/benchmarks.jar -rf json -rff "$out" "$@")
+    git worktree remove --force "$dir"
+}
+
+if [ "$1" == "--refs" ]; then
+    if [ $# -lt 3 ]; then
+        echo "Usage: $0 --refs <base-ref> <head-ref> [JMH options]"
+        exit 2
+    fi
+    BASE_REF="$2"
+    HEAD_REF="$3"
+    shift 3
+    RESULTS="$(mktemp -d)"
+    run_ref "$BASE_REF" "$RESULTS/base.json" "$@"
+    run_ref "$HEAD_REF" "$RESULTS/head.json" "$@"
+    BASE="$RESULTS/base.json"
+    HEAD="$RESULTS/head.json"
+elif [ $# -eq 2 ]; then
+    BASE="$1"
+    HEAD="$2"
+else
+    echo "Usage: $0 <base.json> <head.json>"
+    echo "       $0 --refs <base-ref> <head-ref> [JMH options]"
+    exit 2
+fi
+
+python3 - "$BASE" "$HEAD" "$THRESHOLD" <<'PY'
+import json
+import sys
+
+base_file, head_file, threshold = sys.argv[1], sys.argv[2], float(sys.argv[3])
+
+
+def load(path):
+    results = {}
+    for result in json.load(open(path)):
+        params = ",".join(f"{k}={v}" for k, v in sorted(result.get("params", {}).items()))
+        name = result["benchmark"].rsplit(".", 2)[-2:]
+        key = ".".join(name) + (f"[{params}]" if params else "")
+        metric = result["primaryMetric"]
+        results[key] = (result["mode"], metric["score"], metric["scoreUnit"])
+    return results
+
+
+base, head = load(base_file), load(head_file)
+regressions = 0
+print(f"{'Benchmark':<60} {'Base':>12} {'Head':>12} {'Slower':>9}")
+for key in sorted(base.keys() & head.keys()):
+    mode, before, unit = base[key]
+    _, after, _ = head[key]
+    # Throughput is better when higher; time per operation when lower.
+    slower = (before - after) / before if mode == "thrpt" else (after - before) / before
+    flag = ""
+    if slower * 100 > threshold:
+        flag = "  REGRESSION"
+        regressions += 1
+    print(f"{key:<60} {before:>12.3f} {after:>12.3f} {slower * 100:>+8.1f}%  {unit}{flag}")
+for key in sorted(base.keys() ^ head.keys()):
+    print(f"{key:<60} only in {'base' if key in base else 'head'}")
+
+if regressions:
+    print(f"\n❌ {regressions} benchmark(s) slower by more than {threshold:g}%")
+    sys.exit(1)
+print(f"\n✅ No benchmark slower by more than {threshold:g}%")
+PY
@@ -0,0 +1,24 @@
+package com.banking.transaction.admission;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/admission}: the backlog signals and which transaction types are being shed.
+ */
+@Component
+@Endpoint(id = "admission")
+@RequiredArgsConstructor
+public class AdmissionEndpoint {
+
+    private final AdmissionGate admissionGate;
+
+    @ReadOperation
+    public Map<String, Object> admission() {
+        return admissionGate.state();
+    }
+}
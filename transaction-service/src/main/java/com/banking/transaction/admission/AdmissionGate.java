@@ -0,0 +1,166 @@
+package com.banking.transaction.admission;
+
+import com.banking.messaging.QueueDepthProbe;
+import com.banking.transaction.model.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides whether new transactions are accepted, from the depth of the initiated queue and the lag of
+ * transaction results coming back from account-service. The signals are refreshed on a schedule, so
+ * {@link #admit} only reads a flag.
+ */
+@Component
+@EnableConfigurationProperties(AdmissionProperties.class)
+@Slf4j
+public class AdmissionGate {
+
+    private final AdmissionProperties properties;
+    private final QueueDepthProbe queueDepthProbe;
+    private final Map<TransactionType, TypeState> states = new EnumMap<>(TransactionType.class);
+    private final LongAdder lagSumMillis = new LongAdder();
+    private final LongAdder lagSamples = new LongAdder();
+
+    @Value("${rabbitmq.queue.transaction-initiated:transaction.initiated.queue}")
+    private String transactionInitiatedQueue;
+
+    private volatile long initiatedQueueDepth = -1;
+    private volatile long resultLagMillis;
+
+    public AdmissionGate(AdmissionProperties properties,
+                         ObjectProvider<QueueDepthProbe> queueDepthProbe,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.queueDepthProbe = queueDepthProbe.getIfAvailable();
+
+        for (TransactionType type : TransactionType.values()) {
+            states.put(type, new TypeState(type, meterRegistry));
+        }
+
+        Gauge.builder("banking_transaction_initiated_queue_depth", () -> initiatedQueueDepth)
+                .description("Ready messages in the initiated queue, -1 when unknown")
+                .register(meterRegistry);
+
+        Gauge.builder("banking_transaction_result_lag_seconds", () -> resultLagMillis / 1000.0)
+                .description("Average time from initiating a transaction to receiving its result")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Throws {@link AdmissionRejectedException} while transactions of this type are being shed.
+     */
+    public void admit(TransactionType type) {
+        TypeState state = states.get(type);
+        if (properties.isEnabled() && state.shedding) {
+            state.rejected.increment();
+            throw new AdmissionRejectedException(type, retryAfter());
+        }
+        state.accepted.increment();
+    }
+
+    public void recordResultLag(Duration lag) {
+        lagSumMillis.add(Math.max(0, lag.toMillis()));
+        lagSamples.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${admission.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (queueDepthProbe != null) {
+            initiatedQueueDepth = queueDepthProbe.depth(transactionInitiatedQueue);
+        }
+
+        // Average lag of the results seen since the last refresh. Without results (nothing is being
+        // admitted, or the backlog has drained) the previous value decays so shedding can end.
+        long samples = lagSamples.sumThenReset();
+        long sum = lagSumMillis.sumThenReset();
+        resultLagMillis = samples > 0 ? sum / samples : resultLagMillis / 2;
+
+        for (TypeState state : states.values()) {
+            state.evaluate(properties.budgetFor(state.type), initiatedQueueDepth, resultLagMillis);
+        }
+    }
+
+    public Map<String, Object> state() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("enabled", properties.isEnabled());
+        state.put("initiatedQueueDepth", initiatedQueueDepth);
+        state.put("resultLagMs", resultLagMillis);
+        Map<TransactionType, Boolean> shedding = new EnumMap<>(TransactionType.class);
+        states.forEach((type, typeState) -> shedding.put(type, typeState.shedding));
+        state.put("shedding", shedding);
+        return state;
+    }
+
+    // Results lag by roughly as long as a new transaction would wait, so that is when to come back.
+    private Duration retryAfter() {
+        long seconds = Math.max(properties.getMinRetryAfter().toSeconds(), (resultLagMillis + 999) / 1000);
+        return Duration.ofSeconds(Math.min(seconds, properties.getMaxRetryAfter().toSeconds()));
+    }
+
+    private class TypeState {
+
+        private final TransactionType type;
+        private final Counter accepted;
+        private final Counter rejected;
+        private volatile boolean shedding;
+
+        TypeState(TransactionType type, MeterRegistry meterRegistry) {
+            this.type = type;
+            this.accepted = admissions(meterRegistry, type, "accepted");
+            this.rejected = admissions(meterRegistry, type, "rejected");
+            Gauge.builder("banking_transaction_admission_shedding", this, state -> state.shedding ? 1 : 0)
+                    .description("1 while new transactions of this type are rejected")
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+        }
+
+        void evaluate(AdmissionProperties.Budget budget, long depth, long lagMillis) {
+            long maxLagMillis = budget.getMaxResultLag().toMillis();
+            if (!shedding && (depth > budget.getMaxQueueDepth() || lagMillis > maxLagMillis)) {
+                shedding = true;
+                log.warn("Shedding {} transactions: initiated queue depth {}, result lag {} ms", type, depth, lagMillis);
+            } else if (shedding
+                    && depth <= budget.getMaxQueueDepth() * properties.getResumeRatio()
+                    && lagMillis <= maxLagMillis * properties.getResumeRatio()) {
+                shedding = false;
+                log.info("Admitting {} transactions again: initiated queue depth {}, result lag {} ms",
+                        type, depth, lagMillis);
+            }
+        }
+    }
+
+    private static Counter admissions(MeterRegistry meterRegistry, TransactionType type, String outcome) {
+        return Counter.builder("banking_transaction_admission_total")
+                .description("Transaction submissions by admission outcome")
+                .tag("type", type.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public static class AdmissionRejectedException extends RuntimeException {
+
+        private final Duration retryAfter;
+
+        public AdmissionRejectedException(TransactionType type, Duration retryAfter) {
+            super("Too many pending transactions, " + type.name().toLowerCase() + " requests are temporarily rejected");
+            this.retryAfter = retryAfter;
+        }
+
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.banking.transaction.admission;
+
+import com.banking.transaction.model.TransactionType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Backlog budgets for accepting new transactions, per transaction type:
+ * <pre>
+ * admission:
+ *   budgets:
+ *     transfer:
+ *       max-queue-depth: 10000
+ *       max-result-lag: 10s
+ * </pre>
+ * A type is shed once either budget is exceeded and admitted again when both are back under
+ * {@code resume-ratio} of their budget.
+ */
+@Data
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    private double resumeRatio = 0.8;
+
+    private Duration minRetryAfter = Duration.ofSeconds(1);
+
+    private Duration maxRetryAfter = Duration.ofSeconds(60);
+
+    private Map<TransactionType, Budget> budgets = new EnumMap<>(TransactionType.class);
+
+    public Budget budgetFor(TransactionType type) {
+        return budgets.getOrDefault(type, Budget.DEFAULT);
+    }
+
+    @Data
+    public static class Budget {
+        private static final Budget DEFAULT = new Budget();
+
+        /**
+         * Ready messages in the initiated queue.
+         */
+        private long maxQueueDepth = 50_000;
+
+        /**
+         * Time from initiating a transaction to receiving its result from account-service.
+         */
+        private Duration maxResultLag = Duration.ofSeconds(30);
+    }
+}
@@ -1,6 +1,8 @@
 package com.banking.transaction.controller;
 
+import com.banking.transaction.admission.AdmissionGate;
 import com.banking.transaction.dto.*;
+import com.banking.transaction.model.TransactionType;
 import com.banking.transaction.service.TransactionService;
 import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
@@ -20,11 +22,13 @@ import java.util.UUID;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final AdmissionGate admissionGate;
 
     @PostMapping("/deposit")
     @Timed(value = "banking.transaction.deposit", description = "Time taken to process deposit")
     public ResponseEntity<TransactionResponse> deposit(@Valid @RequestBody DepositRequest request) {
-        log.info("REST request to deposit: {}", request);
+        log.debug("REST request to deposit: {}", request);
+        admissionGate.admit(TransactionType.DEPOSIT);
         TransactionResponse response = transactionService.deposit(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -32,7 +36,8 @@ public class TransactionController {
     @PostMapping("/withdraw")
     @Timed(value = "banking.transaction.withdraw", description = "Time taken to process withdrawal")
     public ResponseEntity<TransactionResponse> withdraw(@Valid @RequestBody WithdrawalRequest request) {
-        log.info("REST request to withdraw: {}", request);
+        log.debug("REST request to withdraw: {}", request);
+        admissionGate.admit(TransactionType.WITHDRAWAL);
         TransactionResponse response = transactionService.withdraw(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -40,7 +45,8 @@ public class TransactionController {
     @PostMapping("/transfer")
     @Timed(value = "banking.transaction.transfer", description = "Time taken to process transfer")
     public ResponseEntity<TransactionResponse> transfer(@Valid @RequestBody TransferRequest request) {
-        log.info("REST request to transfer: {}", request);
+        log.debug("REST request to transfer: {}", request);
+        admissionGate.admit(TransactionType.TRANSFER);
         TransactionResponse response = transactionService.transfer(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -55,9 +61,13 @@ public class TransactionController {
 
     @GetMapping("/account/{accountId}")
     @Timed(value = "banking.transaction.get.by.account", description = "Time taken to get account transactions")
-    public ResponseEntity<List<TransactionResponse>> getAccountTransactions(@PathVariable UUID accountId) {
+    public ResponseEntity<List<TransactionResponse>> getAccountTransactions(
+            @PathVariable UUID accountId,
+            @RequestParam(required = false) Integer limit) {
         log.debug("REST request to get transactions for account: {}", accountId);
-        List<TransactionResponse> transactions = transactionService.getAccountTransactions(accountId);
+        List<TransactionResponse> transactions = limit != null
+                ? transactionService.getRecentAccountTransactions(accountId, limit)
+                : transactionService.getAccountTransactions(accountId);
         return ResponseEntity.ok(transactions);
     }
 }
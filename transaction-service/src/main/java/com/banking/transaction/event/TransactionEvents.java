@@ -0,0 +1,47 @@
+package com.banking.transaction.event;
+
+import com.banking.events.TransactionEvent;
+import com.banking.messaging.transport.EventTransport;
+import com.banking.transaction.model.Transaction;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+public final class TransactionEvents {
+
+    private TransactionEvents() {
+    }
+
+    public static TransactionEvent from(Transaction transaction) {
+        return TransactionEvent.builder()
+                .transactionId(transaction.getId())
+                .transactionType(transaction.getType().name())
+                .sourceAccountId(transaction.getSourceAccountId())
+                .targetAccountId(transaction.getTargetAccountId())
+                .amount(transaction.getAmount())
+                .status(transaction.getStatus().name())
+                .description(transaction.getDescription())
+                .errorMessage(transaction.getErrorMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Publishes the transaction's current state once the surrounding database transaction has committed, or at
+     * once outside one, so consumers never see an outcome that is rolled back.
+     */
+    public static void publishAfterCommit(EventTransport eventTransport, String routingKey, Transaction transaction) {
+        TransactionEvent event = from(transaction);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventTransport.publish(routingKey, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventTransport.publish(routingKey, event);
+            }
+        });
+    }
+}
@@ -1,14 +1,19 @@
 package com.banking.transaction.event;
 
+import com.banking.events.TransactionResultEvent;
+import com.banking.messaging.transport.EventTransport;
+import com.banking.transaction.admission.AdmissionGate;
 import com.banking.transaction.model.Transaction;
 import com.banking.transaction.model.TransactionStatus;
 import com.banking.transaction.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Component
@@ -17,22 +22,42 @@ import java.time.LocalDateTime;
 public class TransactionResultListener {
 
     private final TransactionRepository transactionRepository;
+    private final EventTransport eventTransport;
+    private final AdmissionGate admissionGate;
 
-    @RabbitListener(queues = "${rabbitmq.queue.transaction-result:transaction.result.queue}")
+    @Value("${rabbitmq.routing-key.transaction-completed}")
+    private String transactionCompletedRoutingKey;
+
+    @Value("${rabbitmq.routing-key.transaction-failed}")
+    private String transactionFailedRoutingKey;
+
+    @RabbitListener(id = "transactionResultListener", queues = "${rabbitmq.queue.transaction-result:transaction.result.queue}")
     @Transactional
     public void onTransactionResult(TransactionResultEvent event) {
-        log.info("Received transaction result: {}", event);
+        log.debug("Received transaction result: {} {}", event.getTransactionId(), event.getStatus());
 
         transactionRepository.findById(event.getTransactionId()).ifPresentOrElse(transaction -> {
+            if (transaction.getStatus() != TransactionStatus.PROCESSING) {
+                // Redelivered result, or already settled by reconciliation; its outcome was published then.
+                log.info("Ignoring result for transaction {} in status {}", transaction.getId(), transaction.getStatus());
+                return;
+            }
+            if (transaction.getCreatedAt() != null) {
+                admissionGate.recordResultLag(Duration.between(transaction.getCreatedAt(), LocalDateTime.now()));
+            }
+            String routingKey;
             if ("COMPLETED".equals(event.getStatus())) {
                 transaction.setStatus(TransactionStatus.COMPLETED);
                 transaction.setCompletedAt(LocalDateTime.now());
+                routingKey = transactionCompletedRoutingKey;
             } else {
                 transaction.setStatus(TransactionStatus.FAILED);
                 transaction.setErrorMessage(event.getErrorMessage());
+                routingKey = transactionFailedRoutingKey;
             }
             transactionRepository.save(transaction);
-            log.info("Updated transaction {} status to {}", transaction.getId(), transaction.getStatus());
+            TransactionEvents.publishAfterCommit(eventTransport, routingKey, transaction);
+            log.debug("Updated transaction {} status to {}", transaction.getId(), transaction.getStatus());
         }, () -> {
             log.error("Transaction not found for result: {}", event.getTransactionId());
         });
@@ -1,14 +1,14 @@
 package com.banking.transaction.job;
 
+import com.banking.messaging.transport.EventTransport;
 import com.banking.transaction.client.AccountServiceClient;
 import com.banking.transaction.dto.AccountTransactionStatus;
-import com.banking.transaction.event.TransactionEvent;
+import com.banking.transaction.event.TransactionEvents;
 import com.banking.transaction.model.Transaction;
 import com.banking.transaction.model.TransactionStatus;
 import com.banking.transaction.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -23,14 +23,17 @@ public class TransactionReconciliationJob {
 
     private final TransactionRepository transactionRepository;
     private final AccountServiceClient accountServiceClient;
-    private final RabbitTemplate rabbitTemplate;
-
-    @Value("${rabbitmq.exchange.name}")
-    private String exchangeName;
+    private final EventTransport eventTransport;
 
     @Value("${rabbitmq.routing-key.transaction-initiated:transaction.initiated}")
     private String transactionInitiatedRoutingKey;
 
+    @Value("${rabbitmq.routing-key.transaction-completed}")
+    private String transactionCompletedRoutingKey;
+
+    @Value("${rabbitmq.routing-key.transaction-failed}")
+    private String transactionFailedRoutingKey;
+
     @Scheduled(fixedDelayString = "${reconciliation.job.delay:60000}")
     public void reconcileTransactions() {
         log.info("Starting transaction reconciliation job");
@@ -55,35 +58,21 @@ public class TransactionReconciliationJob {
 
         if (status == null) {
             log.warn("Transaction not found in Account Service. Resending event: {}", transaction.getId());
-            publishTransactionEvent(transaction);
+            eventTransport.publish(transactionInitiatedRoutingKey, TransactionEvents.from(transaction));
         } else {
             log.info("Transaction found in Account Service with status: {}", status.getStatus());
             if ("COMPLETED".equalsIgnoreCase(status.getStatus())) {
                 transaction.setStatus(TransactionStatus.COMPLETED);
                 transaction.setCompletedAt(LocalDateTime.now());
                 transactionRepository.save(transaction);
+                TransactionEvents.publishAfterCommit(eventTransport, transactionCompletedRoutingKey, transaction);
             } else if ("FAILED".equalsIgnoreCase(status.getStatus())) {
                 transaction.setStatus(TransactionStatus.FAILED);
                 transaction.setErrorMessage(status.getErrorMessage());
                 transaction.setCompletedAt(LocalDateTime.now());
                 transactionRepository.save(transaction);
+                TransactionEvents.publishAfterCommit(eventTransport, transactionFailedRoutingKey, transaction);
             }
         }
     }
-
-    private void publishTransactionEvent(Transaction transaction) {
-        TransactionEvent event = TransactionEvent.builder()
-                .transactionId(transaction.getId())
-                .transactionType(transaction.getType().name())
-                .sourceAccountId(transaction.getSourceAccountId())
-                .targetAccountId(transaction.getTargetAccountId())
-                .amount(transaction.getAmount())
-                .status(transaction.getStatus().name())
-                .description(transaction.getDescription())
-                .errorMessage(transaction.getErrorMessage())
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        rabbitTemplate.convertAndSend(exchangeName, transactionInitiatedRoutingKey, event);
-    }
 }
@@ -2,6 +2,7 @@ package com.banking.transaction.repository;
 
 import com.banking.transaction.model.Transaction;
 import com.banking.transaction.model.TransactionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -24,4 +25,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
 
     List<Transaction> findBySourceAccountIdOrTargetAccountIdOrderByCreatedAtDesc(
             UUID sourceAccountId, UUID targetAccountId);
+
+    List<Transaction> findBySourceAccountIdOrTargetAccountIdOrderByCreatedAtDesc(
+            UUID sourceAccountId, UUID targetAccountId, Pageable pageable);
 }
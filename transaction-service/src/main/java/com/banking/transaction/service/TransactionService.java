@@ -1,7 +1,9 @@
 package com.banking.transaction.service;
 
+import com.banking.events.TransactionEvent;
+import com.banking.messaging.transport.EventTransport;
 import com.banking.transaction.dto.*;
-import com.banking.transaction.event.TransactionEvent;
+import com.banking.transaction.event.TransactionEvents;
 import com.banking.transaction.model.Transaction;
 import com.banking.transaction.model.TransactionStatus;
 import com.banking.transaction.model.TransactionType;
@@ -10,12 +12,11 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -24,15 +25,14 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TransactionService {
 
+    static final int MAX_RECENT_TRANSACTIONS = 100;
+
     private final TransactionRepository transactionRepository;
-    private final RabbitTemplate rabbitTemplate;
+    private final EventTransport eventTransport;
     private final Counter transactionCounter;
     private final Counter transactionAmountCounter;
     private final Timer transactionTimer;
 
-    @Value("${rabbitmq.exchange.name}")
-    private String exchangeName;
-
     @Value("${rabbitmq.routing-key.transaction-completed}")
     private String transactionCompletedRoutingKey;
 
@@ -44,11 +44,11 @@ public class TransactionService {
 
     public TransactionService(
             TransactionRepository transactionRepository,
-            RabbitTemplate rabbitTemplate,
+            EventTransport eventTransport,
             MeterRegistry meterRegistry) {
 
         this.transactionRepository = transactionRepository;
-        this.rabbitTemplate = rabbitTemplate;
+        this.eventTransport = eventTransport;
 
         // Custom metrics
         this.transactionCounter = Counter.builder("banking_transactions_total")
@@ -66,7 +66,7 @@ public class TransactionService {
 
     @Transactional
     public TransactionResponse deposit(DepositRequest request) {
-        log.info("Processing deposit: accountId={}, amount={}", request.getAccountId(), request.getAmount());
+        log.debug("Processing deposit: accountId={}, amount={}", request.getAccountId(), request.getAmount());
 
         return transactionTimer.record(() -> {
             Transaction transaction = Transaction.builder()
@@ -91,7 +91,7 @@ public class TransactionService {
 
     @Transactional
     public TransactionResponse withdraw(WithdrawalRequest request) {
-        log.info("Processing withdrawal: accountId={}, amount={}", request.getAccountId(), request.getAmount());
+        log.debug("Processing withdrawal: accountId={}, amount={}", request.getAccountId(), request.getAmount());
 
         return transactionTimer.record(() -> {
             Transaction transaction = Transaction.builder()
@@ -116,7 +116,7 @@ public class TransactionService {
 
     @Transactional
     public TransactionResponse transfer(TransferRequest request) {
-        log.info("Processing transfer: from={}, to={}, amount={}",
+        log.debug("Processing transfer: from={}, to={}, amount={}",
                 request.getSourceAccountId(), request.getTargetAccountId(), request.getAmount());
 
         if (request.getSourceAccountId().equals(request.getTargetAccountId())) {
@@ -160,20 +160,23 @@ public class TransactionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * The account's newest transactions, at most {@value #MAX_RECENT_TRANSACTIONS}.
+     */
+    @Transactional(readOnly = true)
+    public List<TransactionResponse> getRecentAccountTransactions(UUID accountId, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_RECENT_TRANSACTIONS));
+        return transactionRepository.findBySourceAccountIdOrTargetAccountIdOrderByCreatedAtDesc(
+                        accountId, accountId, PageRequest.of(0, size))
+                .stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     private void publishTransactionEvent(Transaction transaction, String routingKey) {
-        TransactionEvent event = TransactionEvent.builder()
-                .transactionId(transaction.getId())
-                .transactionType(transaction.getType().name())
-                .sourceAccountId(transaction.getSourceAccountId())
-                .targetAccountId(transaction.getTargetAccountId())
-                .amount(transaction.getAmount())
-                .status(transaction.getStatus().name())
-                .description(transaction.getDescription())
-                .errorMessage(transaction.getErrorMessage())
-                .timestamp(LocalDateTime.now())
-                .build();
+        TransactionEvent event = TransactionEvents.from(transaction);
 
-        rabbitTemplate.convertAndSend(exchangeName, routingKey, event);
+        eventTransport.publish(routingKey, event);
         log.debug("Published transaction event: {}", event);
     }
 
@@ -181,7 +184,7 @@ public class TransactionService {
         return "TXN" + System.currentTimeMillis();
     }
 
-    private TransactionResponse mapToResponse(Transaction transaction) {
+    TransactionResponse mapToResponse(Transaction transaction) {
         return TransactionResponse.builder()
                 .id(transaction.getId())
                 .type(transaction.getType())
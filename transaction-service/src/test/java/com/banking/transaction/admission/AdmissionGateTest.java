@@ -0,0 +1,105 @@
+package com.banking.transaction.admission;
+
+import com.banking.messaging.QueueDepthProbe;
+import com.banking.transaction.model.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionGateTest {
+
+    @Mock
+    private QueueDepthProbe queueDepthProbe;
+
+    @Mock
+    private ObjectProvider<QueueDepthProbe> queueDepthProbeProvider;
+
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdmissionGate admissionGate;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.getBudgets().put(TransactionType.DEPOSIT, budget(1000, Duration.ofSeconds(30)));
+        properties.getBudgets().put(TransactionType.TRANSFER, budget(100, Duration.ofSeconds(5)));
+
+        when(queueDepthProbeProvider.getIfAvailable()).thenReturn(queueDepthProbe);
+        admissionGate = new AdmissionGate(properties, queueDepthProbeProvider, meterRegistry);
+        ReflectionTestUtils.setField(admissionGate, "transactionInitiatedQueue", "transaction.initiated.queue");
+    }
+
+    @Test
+    void admit_ShedsOnlyTypesOverBudget() {
+        // Given
+        when(queueDepthProbe.depth("transaction.initiated.queue")).thenReturn(500L);
+
+        // When
+        admissionGate.refresh();
+
+        // Then
+        admissionGate.admit(TransactionType.DEPOSIT);
+        assertThrows(AdmissionGate.AdmissionRejectedException.class, () -> admissionGate.admit(TransactionType.TRANSFER));
+        assertEquals(1.0, meterRegistry.get("banking_transaction_admission_total")
+                .tag("type", "DEPOSIT").tag("outcome", "accepted").counter().count());
+        assertEquals(1.0, meterRegistry.get("banking_transaction_admission_total")
+                .tag("type", "TRANSFER").tag("outcome", "rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("banking_transaction_admission_shedding")
+                .tag("type", "TRANSFER").gauge().value());
+    }
+
+    @Test
+    void admit_ResumesOnlyBelowResumeRatio() {
+        // Given
+        when(queueDepthProbe.depth("transaction.initiated.queue")).thenReturn(150L, 90L, 70L);
+        admissionGate.refresh();
+
+        // When: under budget but above 80% of it
+        admissionGate.refresh();
+
+        // Then
+        assertThrows(AdmissionGate.AdmissionRejectedException.class, () -> admissionGate.admit(TransactionType.TRANSFER));
+
+        // When
+        admissionGate.refresh();
+
+        // Then
+        admissionGate.admit(TransactionType.TRANSFER);
+    }
+
+    @Test
+    void admit_ShedsOnResultLagWithMatchingRetryAfter() {
+        // Given
+        when(queueDepthProbe.depth("transaction.initiated.queue")).thenReturn(0L);
+        admissionGate.recordResultLag(Duration.ofSeconds(8));
+        admissionGate.recordResultLag(Duration.ofSeconds(12));
+
+        // When
+        admissionGate.refresh();
+
+        // Then
+        admissionGate.admit(TransactionType.DEPOSIT);
+        AdmissionGate.AdmissionRejectedException rejected = assertThrows(AdmissionGate.AdmissionRejectedException.class,
+                () -> admissionGate.admit(TransactionType.TRANSFER));
+        assertEquals(Duration.ofSeconds(10), rejected.getRetryAfter());
+    }
+
+    private AdmissionProperties.Budget budget(long maxQueueDepth, Duration maxResultLag) {
+        AdmissionProperties.Budget budget = new AdmissionProperties.Budget();
+        budget.setMaxQueueDepth(maxQueueDepth);
+        budget.setMaxResultLag(maxResultLag);
+        return budget;
+    }
+}
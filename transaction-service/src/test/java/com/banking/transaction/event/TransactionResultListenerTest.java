@@ -0,0 +1,87 @@
+package com.banking.transaction.event;
+
+import com.banking.events.TransactionEvent;
+import com.banking.events.TransactionResultEvent;
+import com.banking.messaging.transport.EventTransport;
+import com.banking.transaction.admission.AdmissionGate;
+import com.banking.transaction.model.Transaction;
+import com.banking.transaction.model.TransactionStatus;
+import com.banking.transaction.model.TransactionType;
+import com.banking.transaction.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionResultListenerTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private EventTransport eventTransport;
+
+    @Mock
+    private AdmissionGate admissionGate;
+
+    private TransactionResultListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new TransactionResultListener(transactionRepository, eventTransport, admissionGate);
+        ReflectionTestUtils.setField(listener, "transactionCompletedRoutingKey", "transaction.completed");
+        ReflectionTestUtils.setField(listener, "transactionFailedRoutingKey", "transaction.failed");
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void onTransactionResult_PublishesOutcomeOnlyAfterCommit() {
+        // Given
+        UUID transactionId = UUID.randomUUID();
+        Transaction transaction = Transaction.builder()
+                .id(transactionId)
+                .type(TransactionType.DEPOSIT)
+                .amount(BigDecimal.TEN)
+                .status(TransactionStatus.PROCESSING)
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
+        TransactionResultEvent result = new TransactionResultEvent();
+        result.setTransactionId(transactionId);
+        result.setStatus("COMPLETED");
+
+        // When
+        listener.onTransactionResult(result);
+
+        // Then
+        verify(transactionRepository).save(transaction);
+        verify(eventTransport, never()).publish(any(), any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        ArgumentCaptor<TransactionEvent> event = ArgumentCaptor.forClass(TransactionEvent.class);
+        verify(eventTransport).publish(eq("transaction.completed"), event.capture());
+        assertEquals("COMPLETED", event.getValue().getStatus());
+    }
+}
@@ -1,8 +1,9 @@
 package com.banking.transaction.job;
 
+import com.banking.events.TransactionEvent;
+import com.banking.messaging.transport.EventTransport;
 import com.banking.transaction.client.AccountServiceClient;
 import com.banking.transaction.dto.AccountTransactionStatus;
-import com.banking.transaction.event.TransactionEvent;
 import com.banking.transaction.model.Transaction;
 import com.banking.transaction.model.TransactionStatus;
 import com.banking.transaction.model.TransactionType;
@@ -13,7 +14,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
@@ -37,15 +37,16 @@ class TransactionReconciliationJobTest {
     private AccountServiceClient accountServiceClient;
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private EventTransport eventTransport;
 
     private TransactionReconciliationJob job;
 
     @BeforeEach
     void setUp() {
-        job = new TransactionReconciliationJob(transactionRepository, accountServiceClient, rabbitTemplate);
-        ReflectionTestUtils.setField(job, "exchangeName", "banking.exchange");
+        job = new TransactionReconciliationJob(transactionRepository, accountServiceClient, eventTransport);
         ReflectionTestUtils.setField(job, "transactionInitiatedRoutingKey", "transaction.initiated");
+        ReflectionTestUtils.setField(job, "transactionCompletedRoutingKey", "transaction.completed");
+        ReflectionTestUtils.setField(job, "transactionFailedRoutingKey", "transaction.failed");
     }
 
     @Test
@@ -54,6 +55,8 @@ class TransactionReconciliationJobTest {
         UUID transactionId = UUID.randomUUID();
         Transaction transaction = Transaction.builder()
                 .id(transactionId)
+                .type(TransactionType.WITHDRAWAL)
+                .amount(BigDecimal.TEN)
                 .status(TransactionStatus.PROCESSING)
                 .createdAt(LocalDateTime.now().minusMinutes(10))
                 .build();
@@ -72,7 +75,10 @@ class TransactionReconciliationJobTest {
         // Then
         verify(transactionRepository).save(transaction);
         assertEquals(TransactionStatus.COMPLETED, transaction.getStatus());
-        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(TransactionEvent.class));
+        ArgumentCaptor<TransactionEvent> event = ArgumentCaptor.forClass(TransactionEvent.class);
+        verify(eventTransport).publish(eq("transaction.completed"), event.capture());
+        assertEquals("COMPLETED", event.getValue().getStatus());
+        verify(eventTransport, never()).publish(eq("transaction.initiated"), any(TransactionEvent.class));
     }
 
     @Test
@@ -81,6 +87,8 @@ class TransactionReconciliationJobTest {
         UUID transactionId = UUID.randomUUID();
         Transaction transaction = Transaction.builder()
                 .id(transactionId)
+                .type(TransactionType.WITHDRAWAL)
+                .amount(BigDecimal.TEN)
                 .status(TransactionStatus.PROCESSING)
                 .createdAt(LocalDateTime.now().minusMinutes(10))
                 .build();
@@ -101,7 +109,10 @@ class TransactionReconciliationJobTest {
         verify(transactionRepository).save(transaction);
         assertEquals(TransactionStatus.FAILED, transaction.getStatus());
         assertEquals("Insufficient funds", transaction.getErrorMessage());
-        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(TransactionEvent.class));
+        ArgumentCaptor<TransactionEvent> event = ArgumentCaptor.forClass(TransactionEvent.class);
+        verify(eventTransport).publish(eq("transaction.failed"), event.capture());
+        assertEquals("Insufficient funds", event.getValue().getErrorMessage());
+        verify(eventTransport, never()).publish(eq("transaction.initiated"), any(TransactionEvent.class));
     }
 
     @Test
@@ -125,6 +136,6 @@ class TransactionReconciliationJobTest {
 
         // Then
         verify(transactionRepository, never()).save(transaction);
-        verify(rabbitTemplate).convertAndSend(eq("banking.exchange"), eq("transaction.initiated"), any(TransactionEvent.class));
+        verify(eventTransport).publish(eq("transaction.initiated"), any(TransactionEvent.class));
     }
 }
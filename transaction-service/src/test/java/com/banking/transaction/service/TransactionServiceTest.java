@@ -1,5 +1,6 @@
 package com.banking.transaction.service;
 
+import com.banking.messaging.transport.EventTransport;
 import com.banking.transaction.dto.TransferRequest;
 import com.banking.transaction.dto.TransactionResponse;
 import com.banking.transaction.model.Transaction;
@@ -13,7 +14,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
@@ -31,7 +31,7 @@ class TransactionServiceTest {
     private TransactionRepository transactionRepository;
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private EventTransport eventTransport;
 
     private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
@@ -39,8 +39,7 @@ class TransactionServiceTest {
 
     @BeforeEach
     void setUp() {
-        transactionService = new TransactionService(transactionRepository, rabbitTemplate, meterRegistry);
-        ReflectionTestUtils.setField(transactionService, "exchangeName", "banking.exchange");
+        transactionService = new TransactionService(transactionRepository, eventTransport, meterRegistry);
         ReflectionTestUtils.setField(transactionService, "transactionInitiatedRoutingKey", "transaction.initiated");
     }
 
@@ -74,6 +73,6 @@ class TransactionServiceTest {
         assertNotNull(response);
         assertEquals(TransactionStatus.PROCESSING, response.getStatus());
         verify(transactionRepository).save(any(Transaction.class));
-        verify(rabbitTemplate).convertAndSend(eq("banking.exchange"), eq("transaction.initiated"), any(Object.class));
+        verify(eventTransport).publish(eq("transaction.initiated"), any(Object.class));
     }
 }